@@ -0,0 +1,84 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_RESEARCH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_TITLE;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Benchmarks {@link ArgumentTokenizer#tokenize(String, Prefix...)} on the arguments of {@code add} commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
+        PREFIX_TAG_RESEARCH, PREFIX_TAG_TITLE};
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<String> arguments;
+
+    @Setup
+    public void setUp() {
+        arguments = new AddressBookGenerator().withPersonCount(size).generatePersons().stream()
+                .map(ArgumentTokenizerBenchmark::toArguments)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code add} command for each of the {@code size} persons.
+     */
+    @Benchmark
+    public void tokenize(Blackhole blackhole) {
+        for (String argument : arguments) {
+            blackhole.consume(ArgumentTokenizer.tokenize(argument, PREFIXES));
+        }
+    }
+
+    private static String toArguments(Person person) {
+        StringBuilder builder = new StringBuilder()
+                .append(" ").append(PREFIX_NAME).append(person.getName().fullName)
+                .append(" ").append(PREFIX_PHONE).append(person.getPhone().value)
+                .append(" ").append(PREFIX_EMAIL).append(person.getEmail().value)
+                .append(" ").append(PREFIX_ADDRESS).append(person.getAddress().value);
+        for (Tag tag : person.getTags()) {
+            Prefix prefix = tag.tagType.equals("research") ? PREFIX_TAG_RESEARCH
+                    : tag.tagType.equals("title") ? PREFIX_TAG_TITLE
+                    : PREFIX_TAG;
+            builder.append(" ").append(prefix).append(tag.tagName);
+        }
+        return builder.toString();
+    }
+}
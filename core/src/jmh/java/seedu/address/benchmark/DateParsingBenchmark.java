@@ -0,0 +1,96 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.reminder.Date;
+
+/**
+ * Benchmarks parsing {@link Date}s in each of the accepted formats, and rejecting invalid ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DateParsingBenchmark {
+
+    private static final String[] INVALID_DATES = {"", "tomorrow", "2025-02-30", "31/04/2025", "2025-13-01",
+        "2025-01-01 24:00", "01-01-2025"};
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<String> validDates;
+    private List<String> invalidDates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        validDates = new ArrayList<>(size);
+        invalidDates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int year = 2025 + random.nextInt(3);
+            int month = 1 + random.nextInt(12);
+            int day = 1 + random.nextInt(28);
+            String time = String.format(" %02d:%02d", random.nextInt(24), random.nextInt(60));
+            switch (i % 4) {
+            case 0:
+                validDates.add(String.format("%d-%02d-%02d", year, month, day));
+                break;
+            case 1:
+                validDates.add(String.format("%d-%02d-%02d", year, month, day) + time);
+                break;
+            case 2:
+                validDates.add(String.format("%02d/%02d/%d", day, month, year));
+                break;
+            default:
+                validDates.add(String.format("%02d/%02d/%d", day, month, year) + time);
+                break;
+            }
+            invalidDates.add(INVALID_DATES[i % INVALID_DATES.length]);
+        }
+    }
+
+    @Benchmark
+    public void parseValid(Blackhole blackhole) {
+        for (String date : validDates) {
+            blackhole.consume(Date.parse(date));
+        }
+    }
+
+    @Benchmark
+    public void parseInvalid(Blackhole blackhole) {
+        for (String date : invalidDates) {
+            blackhole.consume(Date.parse(date));
+        }
+    }
+
+    /**
+     * Validates, then constructs, each date, as the parsers did before {@link Date#parse(String)}.
+     */
+    @Benchmark
+    public void validateThenConstruct(Blackhole blackhole) {
+        for (String date : validDates) {
+            if (Date.isValidDate(date)) {
+                blackhole.consume(new Date(date));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.NoteContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Benchmarks filtering all {@code size} persons with each of the predicates {@link FindCommand} can filter with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FindPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private Predicate<Person> nameContainsPredicate;
+    private Predicate<Person> nameStartsWithPredicate;
+    private Predicate<Person> noteContainsPredicate;
+    private Predicate<Person> tagContainsPredicate;
+
+    @Setup
+    public void setUp() {
+        persons = new AddressBookGenerator().withPersonCount(size).generatePersons();
+        nameContainsPredicate = new NameContainsKeywordsPredicate(List.of("Bernice", "Tan"));
+        nameStartsWithPredicate = new NameStartsWithKeywordsPredicate(List.of("Ber", "Ta"));
+        noteContainsPredicate = new NoteContainsKeywordsPredicate("coffee");
+        tagContainsPredicate = new TagContainsKeywordsPredicate(
+                List.of(new Tag("colleagues"), new Tag("databases", "research")));
+    }
+
+    @Benchmark
+    public int nameContains() {
+        return count(nameContainsPredicate);
+    }
+
+    @Benchmark
+    public int nameStartsWith() {
+        return count(nameStartsWithPredicate);
+    }
+
+    @Benchmark
+    public int noteContains() {
+        return count(noteContainsPredicate);
+    }
+
+    @Benchmark
+    public int tagContains() {
+        return count(tagContainsPredicate);
+    }
+
+    private int count(Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
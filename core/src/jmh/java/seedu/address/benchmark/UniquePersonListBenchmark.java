@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.AddressBookGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Benchmarks {@link UniquePersonList#add(Person)} and {@link UniquePersonList#contains(Person)}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList list;
+    private Person lastPerson;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        persons = new AddressBookGenerator().withPersonCount(size).generatePersons();
+        list = new UniquePersonList();
+        list.setUniquePersons(persons);
+        lastPerson = persons.get(size - 1);
+        absentPerson = new PersonBuilder().withName("Absent Person").build();
+    }
+
+    /**
+     * Adds all {@code size} persons to an empty list, each one checked against those added before it.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public UniquePersonList add() {
+        UniquePersonList filled = new UniquePersonList();
+        for (Person person : persons) {
+            filled.add(person);
+        }
+        return filled;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean containsLast() {
+        return list.contains(lastPerson);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean containsAbsent() {
+        return list.contains(absentPerson);
+    }
+}
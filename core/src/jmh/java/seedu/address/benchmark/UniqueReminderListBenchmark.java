@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.UniqueReminderList;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Benchmarks {@link UniqueReminderList#add(Reminder)}, which keeps the list sorted by date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UniqueReminderListBenchmark {
+
+    private static final int REMINDERS_PER_PERSON = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Reminder> reminders;
+
+    @Setup
+    public void setUp() {
+        AddressBookGenerator generator = new AddressBookGenerator()
+                .withPersonCount(size / REMINDERS_PER_PERSON)
+                .withRemindersPerPerson(REMINDERS_PER_PERSON);
+        reminders = generator.generateReminders(generator.generatePersons());
+    }
+
+    /**
+     * Adds all {@code size} reminders, in no particular order of date, to an empty list.
+     */
+    @Benchmark
+    public UniqueReminderList add() {
+        UniqueReminderList filled = new UniqueReminderList();
+        for (Reminder reminder : reminders) {
+            filled.add(reminder);
+        }
+        return filled;
+    }
+}
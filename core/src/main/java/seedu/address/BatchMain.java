@@ -0,0 +1,186 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.batch.BatchResult;
+import seedu.address.logic.batch.BatchRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands on the address book without the GUI, and exits with a code that tells how it went.
+ *
+ * The script is read from the file given as the last argument, or from standard input if there is none or it is
+ * {@code -}. The address book and preferences are found through the config file, as when the app starts.
+ */
+public class BatchMain {
+
+    /** All commands succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Some commands failed; the changes made by the others were saved. */
+    public static final int EXIT_COMMAND_FAILURE = 1;
+    /** The arguments were invalid, or the address book or script could not be read, or the results saved. */
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: BatchMain [--checkpoint COMMANDS] [--stop-on-failure] "
+            + "[--config FILE] [SCRIPT]\n"
+            + "Runs the commands in SCRIPT, one per line, or from standard input if SCRIPT is - or not given.\n"
+            + "  --checkpoint COMMANDS  also saves the address book after every COMMANDS commands\n"
+            + "  --stop-on-failure      stops at the first command that fails\n"
+            + "  --config FILE          uses the config file FILE";
+    public static final String MESSAGE_SUMMARY = "Ran %d commands: %d succeeded, %d failed. Saved %d times.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+    private static final String STANDARD_INPUT = "-";
+
+    private int checkpointInterval = 0;
+    private boolean isStoppedOnFailure = false;
+    private Path configPath = null;
+    private String scriptPath = STANDARD_INPUT;
+
+    private BatchMain() {}
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs the script given by {@code args} and returns the exit code.
+     */
+    public static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        BatchMain batchMain = new BatchMain();
+        Optional<String> argumentError = batchMain.parseArguments(args);
+        if (argumentError.isPresent()) {
+            err.println(argumentError.get());
+            err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+        return batchMain.runScript(in, out, err);
+    }
+
+    /**
+     * Parses {@code args} into the fields, and returns the error message if they are invalid.
+     */
+    private Optional<String> parseArguments(String[] args) {
+        int i = 0;
+        while (i < args.length && args[i].startsWith("--")) {
+            String option = args[i++];
+            switch (option) {
+            case "--stop-on-failure":
+                isStoppedOnFailure = true;
+                continue;
+            case "--checkpoint":
+                if (i == args.length || !args[i].matches("[1-9]\\d{0,8}")) {
+                    return Optional.of("--checkpoint needs a positive number of commands");
+                }
+                checkpointInterval = Integer.parseInt(args[i++]);
+                continue;
+            case "--config":
+                if (i == args.length || !FileUtil.isValidPath(args[i])) {
+                    return Optional.of("--config needs a valid file path");
+                }
+                configPath = Paths.get(args[i++]);
+                continue;
+            default:
+                return Optional.of("Unknown option " + option);
+            }
+        }
+        if (i < args.length) {
+            scriptPath = args[i++];
+        }
+        if (i < args.length) {
+            return Optional.of("Only one script can be given");
+        }
+        if (!scriptPath.equals(STANDARD_INPUT) && !FileUtil.isValidPath(scriptPath)) {
+            return Optional.of("Invalid script path " + scriptPath);
+        }
+        return Optional.empty();
+    }
+
+    private int runScript(InputStream in, PrintStream out, PrintStream err) {
+        // The console shows the failed commands, so only problems are logged there
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        Config config = AppInitializer.initConfig(configPath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(new JsonAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                userPrefsStorage);
+
+        ReadOnlyAddressBook initialData;
+        try {
+            // Unlike the GUI, a missing data file is not filled with sample data, as the script adds the data
+            initialData = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            // Saving the results of the script would overwrite the data file, so nothing is run
+            err.println("Data file at " + storage.getAddressBookFilePath() + " could not be loaded: "
+                    + e.getMessage());
+            return EXIT_ERROR;
+        }
+        Model model = new ModelManager(initialData, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        BatchRunner batchRunner = new BatchRunner(logic, checkpointInterval, isStoppedOnFailure, err);
+
+        logger.info("Running script " + scriptPath + " on " + storage.getAddressBookFilePath());
+        BatchResult result;
+        try (BufferedReader script = openScript(in)) {
+            result = batchRunner.run(script);
+        } catch (IOException e) {
+            err.println("Could not read script " + scriptPath + ": " + e.getMessage());
+            return EXIT_ERROR;
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            return EXIT_ERROR;
+        } finally {
+            writeMetrics(model, config);
+        }
+
+        out.println(String.format(MESSAGE_SUMMARY, result.getCommandCount(),
+                result.getCommandCount() - result.getFailureCount(), result.getFailureCount(),
+                result.getSaveCount()));
+        return result.hasFailures() ? EXIT_COMMAND_FAILURE : EXIT_SUCCESS;
+    }
+
+    private static void writeMetrics(Model model, Config config) {
+        try {
+            model.getMetricsRegistry().writeReport(config.getMetricsFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save command metrics " + StringUtil.getDetails(e));
+        }
+    }
+
+    private BufferedReader openScript(InputStream in) throws IOException {
+        if (scriptPath.equals(STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8);
+    }
+}
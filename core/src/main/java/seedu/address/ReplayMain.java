@@ -0,0 +1,179 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.workload.RecordedCommand;
+import seedu.address.logic.workload.SessionRecorder;
+import seedu.address.logic.workload.SessionReplayer;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a session recorded by the app without the GUI, on a copy of a data file, and reports the percentiles of
+ * the times of its commands by command word. The data file itself is never changed. By default, the session is
+ * replayed on the copy of the data file it started from, which {@link SessionRecorder} keeps next to it.
+ */
+public class ReplayMain {
+
+    /** Every command had the same outcome as in the session. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Some commands succeeded in the session but failed when replayed, or the other way round. */
+    public static final int EXIT_MISMATCH = 1;
+    /** The arguments were invalid, or the session or data file could not be read. */
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: ReplayMain [--runs COUNT] [--warmup COUNT] [--data FILE] "
+            + "SESSION\n"
+            + "Runs the commands recorded in SESSION, and reports their times by command word.\n"
+            + "  --runs COUNT    replays the session COUNT times, each on a fresh copy of the data file, 1 by default\n"
+            + "  --warmup COUNT  first replays it COUNT times without timing it, 0 by default\n"
+            + "  --data FILE     replays it on a copy of FILE, instead of the data file the session started from,\n"
+            + "                  or an empty address book if it started without one";
+
+    private int runCount = 1;
+    private int warmupCount = 0;
+    private Optional<Path> dataFile = Optional.empty();
+    private Path sessionFile;
+
+    private ReplayMain() {}
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Replays the session given by {@code args} and returns the exit code.
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        ReplayMain replayMain = new ReplayMain();
+        Optional<String> argumentError = replayMain.parseArguments(args);
+        if (argumentError.isPresent()) {
+            err.println(argumentError.get());
+            err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        // The console shows the report, so only problems are logged there
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("replay");
+            return replayMain.replay(directory, out, err);
+        } catch (IOException | DataLoadingException e) {
+            err.println("Replay failed: " + e.getMessage());
+            return EXIT_ERROR;
+        } finally {
+            if (directory != null) {
+                deleteQuietly(directory.resolve("addressbook.json"));
+                deleteQuietly(directory.resolve("preferences.json"));
+                deleteQuietly(directory);
+            }
+        }
+    }
+
+    private Optional<String> parseArguments(String[] args) {
+        int i = 0;
+        while (i < args.length && args[i].startsWith("--")) {
+            String option = args[i++];
+            if (i == args.length) {
+                return Optional.of(option + " needs a value");
+            }
+            String value = args[i++];
+            switch (option) {
+            case "--runs":
+                if (!value.matches("[1-9]\\d{0,5}")) {
+                    return Optional.of("--runs needs a positive number of replays");
+                }
+                runCount = Integer.parseInt(value);
+                continue;
+            case "--warmup":
+                if (!value.matches("\\d{1,6}")) {
+                    return Optional.of("--warmup needs a number of replays");
+                }
+                warmupCount = Integer.parseInt(value);
+                continue;
+            case "--data":
+                if (!FileUtil.isValidPath(value)) {
+                    return Optional.of("--data needs a valid file path");
+                }
+                dataFile = Optional.of(Paths.get(value));
+                continue;
+            default:
+                return Optional.of("Unknown option " + option);
+            }
+        }
+        if (args.length - i != 1) {
+            return Optional.of("One session file must be given");
+        }
+        if (!FileUtil.isValidPath(args[i])) {
+            return Optional.of("Invalid session path " + args[i]);
+        }
+        sessionFile = Paths.get(args[i]);
+        if (dataFile.isEmpty()) {
+            Path dataSnapshot = SessionRecorder.getDataSnapshotPath(sessionFile);
+            dataFile = Files.exists(dataSnapshot) ? Optional.of(dataSnapshot) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    private int replay(Path directory, PrintStream out, PrintStream err) throws IOException, DataLoadingException {
+        List<RecordedCommand> session = SessionReplayer.readSession(sessionFile);
+        out.println(String.format("Replaying %d commands from %s on %s, %d times after %d warm-up replays",
+                session.size(), sessionFile, dataFile.map(Path::toString).orElse("an empty address book"),
+                runCount, warmupCount));
+
+        Path copiedFile = directory.resolve("addressbook.json");
+        Storage storage = new StorageManager(new JsonAddressBookStorage(copiedFile),
+                new JsonUserPrefsStorage(directory.resolve("preferences.json")));
+        // The outcomes of the warm-up replays are not reported
+        SessionReplayer warmupReplayer = new SessionReplayer(new PrintStream(PrintStream.nullOutputStream()));
+        SessionReplayer replayer = new SessionReplayer(err);
+        for (int run = 0; run < warmupCount + runCount; run++) {
+            ReadOnlyAddressBook addressBook = readCopy(storage, copiedFile);
+            LogicManager logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()), storage);
+            (run < warmupCount ? warmupReplayer : replayer).replay(logic, session);
+            logic.getModelWorker().shutdown();
+        }
+
+        out.println(replayer.getReport());
+        return replayer.getMismatchCount() == 0 ? EXIT_SUCCESS : EXIT_MISMATCH;
+    }
+
+    /**
+     * Copies the data file to {@code copiedFile} and reads it, so that each replay starts from the same address book.
+     */
+    private ReadOnlyAddressBook readCopy(Storage storage, Path copiedFile) throws IOException, DataLoadingException {
+        if (dataFile.isEmpty()) {
+            Files.deleteIfExists(copiedFile);
+            return new AddressBook();
+        }
+        Files.copy(dataFile.get(), copiedFile, StandardCopyOption.REPLACE_EXISTING);
+        return storage.readAddressBook().orElseThrow();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Only a temporary file is left behind
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers on a thread of its own, so that a thread that logs
+ * does not wait for the console or the log file.
+ *
+ * Records wait for that thread in a ring buffer of a fixed capacity. While the buffer is full, records below
+ * {@code WARNING} are dropped, and the number dropped is logged once there is room again. Records at {@code WARNING}
+ * and above wait for room instead, so that no warning or error is lost.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /** The lowest level of the records that wait for room in a full buffer instead of being dropped. */
+    public static final Level BLOCKING_LEVEL = Level.WARNING;
+
+    public static final String MESSAGE_DROPPED = "Dropped %d log records while the log buffer was full";
+
+    private final List<Handler> handlers;
+    private final LogRecord[] buffer;
+    private final Thread writer;
+    private int head; // index of the oldest record in the buffer
+    private int size;
+    private long droppedCount;
+    private boolean isWriting; // whether the writer is passing on a record it has taken from the buffer
+    private boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that passes the records it is given on to {@code handlers}, in order,
+     * with a buffer of {@code capacity} records.
+     */
+    public AsyncLogHandler(int capacity, Handler... handlers) {
+        requireAllNonNull((Object[]) handlers);
+        // One slot may be taken by the record of how many were dropped, with another for the record that follows it
+        checkArgument(capacity >= 2, "Capacity should be at least 2");
+        this.handlers = List.of(handlers);
+        this.buffer = new LogRecord[capacity];
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // The caller is found from the stack of the thread that logs, so it must be found before passing the record on
+        record.getSourceClassName();
+
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            if (getFreeSlots() < getSlotsNeeded() && record.getLevel().intValue() < BLOCKING_LEVEL.intValue()) {
+                droppedCount++;
+                return;
+            }
+            while (getFreeSlots() < getSlotsNeeded() && !isClosed) {
+                if (!await()) {
+                    return;
+                }
+            }
+            if (isClosed) {
+                return;
+            }
+            if (droppedCount > 0) {
+                add(createDroppedRecord(droppedCount));
+                droppedCount = 0;
+            }
+            add(record);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every record published so far has been passed on, then flushes the handlers.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() == writer) {
+            return;
+        }
+        synchronized (this) {
+            while ((size > 0 || isWriting) && !isClosed) {
+                if (!await()) {
+                    return;
+                }
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Passes on the records in the buffer, then closes the handlers. Records published afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            notifyAll();
+        }
+        if (Thread.currentThread() != writer) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        handlers.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped since the last record of how many were dropped.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            synchronized (this) {
+                while (size == 0 && !isClosed) {
+                    if (!await()) {
+                        return;
+                    }
+                }
+                if (size == 0) {
+                    // Closed, and every record has been passed on
+                    return;
+                }
+                record = buffer[head];
+                buffer[head] = null;
+                head = (head + 1) % buffer.length;
+                size--;
+                isWriting = true;
+                notifyAll();
+            }
+            for (Handler handler : handlers) {
+                try {
+                    handler.publish(record);
+                } catch (RuntimeException e) {
+                    reportError("Handler failed to publish a record", e, ErrorManager.WRITE_FAILURE);
+                }
+            }
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    private void add(LogRecord record) {
+        buffer[(head + size) % buffer.length] = record;
+        size++;
+    }
+
+    private int getFreeSlots() {
+        return buffer.length - size;
+    }
+
+    private int getSlotsNeeded() {
+        return droppedCount > 0 ? 2 : 1;
+    }
+
+    /**
+     * Waits to be notified of a change to the buffer. Returns false if the thread was interrupted instead.
+     */
+    private boolean await() {
+        try {
+            wait();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static LogRecord createDroppedRecord(long droppedCount) {
+        LogRecord record = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED, droppedCount));
+        record.setLoggerName(AsyncLogHandler.class.getName());
+        record.setSourceClassName(AsyncLogHandler.class.getName());
+        record.setSourceMethodName("publish");
+        return record;
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.commons.core;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.logging.Level;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Config values used by the app
+ */
+public class Config {
+
+    public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+
+    // Config values customizable through config file
+    private Level logLevel = Level.INFO;
+    private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private Path startupReportFilePath = null;
+    private Path sessionFilePath = null;
+
+    public Level getLogLevel() {
+        return logLevel;
+    }
+
+    public void setLogLevel(Level logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    public Path getUserPrefsFilePath() {
+        return userPrefsFilePath;
+    }
+
+    public void setUserPrefsFilePath(Path userPrefsFilePath) {
+        this.userPrefsFilePath = userPrefsFilePath;
+    }
+
+    /**
+     * Returns the file the metrics of the commands run are written to on exit.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns the file the startup timeline is written to as JSON, or null if it is only logged.
+     */
+    public Path getStartupReportFilePath() {
+        return startupReportFilePath;
+    }
+
+    public void setStartupReportFilePath(Path startupReportFilePath) {
+        this.startupReportFilePath = startupReportFilePath;
+    }
+
+    /**
+     * Returns the file the commands run in the app are recorded to, to be replayed later, or null if they are not.
+     */
+    public Path getSessionFilePath() {
+        return sessionFilePath;
+    }
+
+    public void setSessionFilePath(Path sessionFilePath) {
+        this.sessionFilePath = sessionFilePath;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Config)) {
+            return false;
+        }
+
+        Config otherConfig = (Config) other;
+        return Objects.equals(logLevel, otherConfig.logLevel)
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && Objects.equals(startupReportFilePath, otherConfig.startupReportFilePath)
+                && Objects.equals(sessionFilePath, otherConfig.sessionFilePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, startupReportFilePath, sessionFilePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("logLevel", logLevel)
+                .add("userPrefsFilePath", userPrefsFilePath)
+                .add("metricsFilePath", metricsFilePath)
+                .add("startupReportFilePath", startupReportFilePath)
+                .add("sessionFilePath", sessionFilePath)
+                .toString();
+    }
+
+}
@@ -3,9 +3,12 @@ package seedu.address.commons.core;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,13 +19,18 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written to both on a thread of their own by an {@link AsyncLogHandler}, so logging does not wait for
+ *   them. Only pass a message that takes time to build, e.g. of a large object, as a {@code Supplier}, which is
+ *   only called if the message is logged.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "AcademeConnect.log";
+    private static final int LOG_BUFFER_CAPACITY = 4096;
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
+    private static ConsoleHandler consoleHandler;
     private static Level currentLogLevel = Level.INFO;
 
     // This static block ensures essential loggers are created early
@@ -36,12 +44,34 @@ public class LogsCenter {
      * using {@link #getLogger(String)} and {@link #getLogger(Class)} methods except for those that are manually set.
      */
     public static void init(Config config) {
-        currentLogLevel = config.getLogLevel();
+        setLogLevel(config.getLogLevel());
+    }
+
+    /**
+     * Sets the log level of all loggers created using {@link #getLogger(String)} and {@link #getLogger(Class)},
+     * except for those that are manually set, e.g. while the app is running.
+     */
+    public static void setLogLevel(Level level) {
+        requireNonNull(level);
+        currentLogLevel = level;
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
     }
 
+    public static Level getLogLevel() {
+        return currentLogLevel;
+    }
+
+    /**
+     * Sets the lowest level of the messages that are also logged to the console, e.g. to keep the console for the
+     * output of a tool that runs without the GUI. The log file still receives every message logged.
+     */
+    public static void setConsoleLevel(Level level) {
+        requireNonNull(level);
+        consoleHandler.setLevel(level);
+    }
+
     /**
      * Creates a logger with the given name prefixed by the {@code baseLogger}'s name so that the created logger
      * becomes a descendant of the {@code baseLogger}. Furthermore, the returned logger will have the same log handlers
@@ -75,8 +105,8 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
-     * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
+     * Creates a logger named 'ab3', containing an {@code AsyncLogHandler} that writes to a {@code ConsoleHandler} and a
+     * {@code FileHandler}. Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
      */
     private static void setBaseLogger() {
         baseLogger = Logger.getLogger("ab3");
@@ -86,19 +116,31 @@ public class LogsCenter {
         // Level.ALL is used as the level for the handlers because the baseLogger filters the log messages by level
         // already; there is no need to control log message level of the handlers.
 
-        // add a ConsoleHandler to log to the console
-        ConsoleHandler consoleHandler = new ConsoleHandler();
+        // a ConsoleHandler to log to the console
+        List<Handler> handlers = new ArrayList<>();
+        consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
+        handlers.add(consoleHandler);
 
-        // add a FileHandler to log to a file
+        // a FileHandler to log to a file
+        boolean hasFileHandler = false;
         try {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            handlers.add(fileHandler);
+            hasFileHandler = true;
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            // the logger of this class does not exist yet, so the warning is logged below
+        }
+
+        // both written to on a thread of their own; the LogManager closes it on exit, which writes what is left
+        Handler asyncHandler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, handlers.toArray(Handler[]::new));
+        asyncHandler.setLevel(Level.ALL);
+        baseLogger.addHandler(asyncHandler);
+
+        if (!hasFileHandler) {
+            baseLogger.warning("Error adding file handler for logger.");
         }
     }
 
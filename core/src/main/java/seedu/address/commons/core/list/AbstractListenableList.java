@@ -0,0 +1,59 @@
+package seedu.address.commons.core.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A {@link ListenableList} that keeps its own listeners.
+ */
+abstract class AbstractListenableList<T> extends AbstractList<T> implements ListenableList<T>, RandomAccess {
+
+    // Replaced rather than changed when a listener is added or removed, so that firing a change does not copy it
+    private volatile List<ListListener<? super T>> listeners = List.of();
+
+    @Override
+    public synchronized void addListener(ListListener<? super T> listener) {
+        requireNonNull(listener);
+        List<ListListener<? super T>> added = new ArrayList<>(listeners.size() + 1);
+        added.addAll(listeners);
+        added.add(listener);
+        listeners = added;
+    }
+
+    @Override
+    public synchronized void removeListener(ListListener<? super T> listener) {
+        for (int i = 0; i < listeners.size(); i++) {
+            if (listeners.get(i) == listener) {
+                List<ListListener<? super T>> remaining = new ArrayList<>(listeners);
+                remaining.remove(i);
+                listeners = remaining;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns true if any listener would be notified of a change, so that a change need not be built otherwise.
+     */
+    protected boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Notifies the listeners that {@code removed} at {@code from} were replaced by {@code added}.
+     */
+    protected void fireChange(int from, List<T> removed, List<T> added) {
+        List<ListListener<? super T>> currentListeners = listeners;
+        if (currentListeners.isEmpty() || (removed.isEmpty() && added.isEmpty())) {
+            return;
+        }
+        ListChange<T> change = new ListChange<>(from, removed, added);
+        for (ListListener<? super T> listener : currentListeners) {
+            listener.onChanged(change);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.commons.core.list;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable view of the items of a {@link ListenableList} that match a predicate, in the same order.
+ *
+ * A change to the source only tests the items it added: the source index of every match is kept, so the matches
+ * that a change removed are found by binary search.
+ */
+public class FilteredListenableList<T> extends AbstractListenableList<T> {
+
+    private final ListenableList<T> source;
+    private final List<T> matches = new ArrayList<>();
+    // The index in the source of each match, in ascending order
+    private int[] sourceIndexes = new int[0];
+    private Predicate<? super T> predicate;
+
+    /**
+     * Creates a view of all items of {@code source}.
+     */
+    public FilteredListenableList(ListenableList<T> source) {
+        this(source, unused -> true);
+    }
+
+    /**
+     * Creates a view of the items of {@code source} that match {@code predicate}.
+     */
+    public FilteredListenableList(ListenableList<T> source, Predicate<? super T> predicate) {
+        requireAllNonNull(source, predicate);
+        this.source = source;
+        this.predicate = predicate;
+        filterSource();
+        source.addListener(this::onSourceChanged);
+    }
+
+    @Override
+    public T get(int index) {
+        return matches.get(index);
+    }
+
+    @Override
+    public int size() {
+        return matches.size();
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the items that match {@code predicate} instead, as a single change. The items are tested again even if
+     * {@code predicate} is the current predicate, as the items it matches may have changed.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        List<T> removed = hasListeners() ? new ArrayList<>(matches) : List.of();
+        filterSource();
+        fireChange(0, removed, Collections.unmodifiableList(matches));
+    }
+
+    private void filterSource() {
+        matches.clear();
+        int[] newSourceIndexes = new int[source.size()];
+        for (int i = 0; i < source.size(); i++) {
+            T item = source.get(i);
+            if (predicate.test(item)) {
+                newSourceIndexes[matches.size()] = i;
+                matches.add(item);
+            }
+        }
+        sourceIndexes = newSourceIndexes;
+    }
+
+    private void onSourceChanged(ListChange<? extends T> change) {
+        int from = change.getFrom();
+        int removedCount = change.getRemoved().size();
+        List<? extends T> added = change.getAdded();
+
+        // The matches from first to last were among the removed items
+        int first = findFirstMatchAtOrAfter(from);
+        int last = findFirstMatchAtOrAfter(from + removedCount);
+        List<T> addedMatches = new ArrayList<>();
+        int[] addedSourceIndexes = new int[added.size()];
+        for (int i = 0; i < added.size(); i++) {
+            T item = added.get(i);
+            if (predicate.test(item)) {
+                addedSourceIndexes[addedMatches.size()] = from + i;
+                addedMatches.add(item);
+            }
+        }
+        if (first == last && addedMatches.isEmpty()) {
+            // Source indexes after the change still shift if items were added or removed
+            shiftSourceIndexes(last, added.size() - removedCount);
+            return;
+        }
+
+        List<T> removedRange = matches.subList(first, last);
+        List<T> removed = hasListeners() ? new ArrayList<>(removedRange) : List.of();
+        removedRange.clear();
+        matches.addAll(first, addedMatches);
+
+        int matchCount = matches.size();
+        int[] newSourceIndexes = new int[matchCount];
+        System.arraycopy(sourceIndexes, 0, newSourceIndexes, 0, first);
+        System.arraycopy(addedSourceIndexes, 0, newSourceIndexes, first, addedMatches.size());
+        System.arraycopy(sourceIndexes, last, newSourceIndexes, first + addedMatches.size(), matchCount - first
+                - addedMatches.size());
+        sourceIndexes = newSourceIndexes;
+        shiftSourceIndexes(first + addedMatches.size(), added.size() - removedCount);
+
+        fireChange(first, removed, Collections.unmodifiableList(matches.subList(first, first + addedMatches.size())));
+    }
+
+    private void shiftSourceIndexes(int fromMatch, int shift) {
+        if (shift == 0) {
+            return;
+        }
+        for (int i = fromMatch; i < matches.size(); i++) {
+            sourceIndexes[i] += shift;
+        }
+    }
+
+    /**
+     * Returns the index of the first match whose source index is at least {@code sourceIndex}, or the number of
+     * matches if there is none.
+     */
+    private int findFirstMatchAtOrAfter(int sourceIndex) {
+        int low = 0;
+        int high = matches.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sourceIndexes[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.commons.core.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A change to a {@link ListenableList}: the items in a range that were replaced by other items.
+ * Adding items replaces none, and removing items replaces them with none.
+ */
+public class ListChange<T> {
+
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Creates a change in which {@code removed} at {@code from} were replaced by {@code added}.
+     * {@code added} may be a view of the list, in which case it is only valid while listeners are notified.
+     */
+    public ListChange(int from, List<T> removed, List<T> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        this.from = from;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the index at which items were removed and added.
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the items that were removed, in order.
+     */
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the items that were added, in order. They are at {@link #getFrom()} in the list.
+     */
+    public List<T> getAdded() {
+        return added;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("removed", removed)
+                .add("added", added)
+                .toString();
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core.list;
+
+/**
+ * Listens to the changes to a {@link ListenableList}.
+ */
+@FunctionalInterface
+public interface ListListener<T> {
+
+    /**
+     * Called after {@code change} was made to the list.
+     */
+    void onChanged(ListChange<? extends T> change);
+}
@@ -0,0 +1,149 @@
+package seedu.address.commons.core.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A {@link ListenableList} backed by an {@code ArrayList}.
+ *
+ * Every operation fires at most one change, so replacing all items with {@link #setAll(Collection)} or removing a
+ * range through {@link #subList(int, int)} is a single change. Nothing is copied for a change while the list has no
+ * listeners.
+ */
+public class ListenableArrayList<T> extends AbstractListenableList<T> {
+
+    private final ArrayList<T> items = new ArrayList<>();
+
+    public ListenableArrayList() {}
+
+    /**
+     * Creates a list with the given initial items.
+     */
+    public ListenableArrayList(Collection<? extends T> initialItems) {
+        items.addAll(initialItems);
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public void add(int index, T item) {
+        items.add(index, item);
+        modCount++;
+        if (hasListeners()) {
+            fireChange(index, List.of(), addedView(index, 1));
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> newItems) {
+        return addAll(items.size(), newItems);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> newItems) {
+        if (!items.addAll(index, newItems)) {
+            return false;
+        }
+        modCount++;
+        if (hasListeners()) {
+            fireChange(index, List.of(), addedView(index, newItems.size()));
+        }
+        return true;
+    }
+
+    @Override
+    public T set(int index, T item) {
+        T oldItem = items.set(index, item);
+        if (hasListeners()) {
+            fireChange(index, List.of(oldItem), addedView(index, 1));
+        }
+        return oldItem;
+    }
+
+    @Override
+    public T remove(int index) {
+        T oldItem = items.remove(index);
+        modCount++;
+        if (hasListeners()) {
+            fireChange(index, List.of(oldItem), List.of());
+        }
+        return oldItem;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<T> range = items.subList(fromIndex, toIndex);
+        List<T> removed = hasListeners() ? new ArrayList<>(range) : List.of();
+        range.clear();
+        modCount++;
+        fireChange(fromIndex, removed, List.of());
+    }
+
+    /**
+     * Replaces all items of this list with {@code newItems}, as a single change.
+     */
+    public void setAll(Collection<? extends T> newItems) {
+        requireNonNull(newItems);
+        List<T> removed = hasListeners() ? new ArrayList<>(items) : List.of();
+        items.clear();
+        items.addAll(newItems);
+        modCount++;
+        fireChange(0, removed, addedView(0, items.size()));
+    }
+
+    /**
+     * Returns an unmodifiable view of this list, which notifies its listeners of the changes to this list.
+     */
+    public ListenableList<T> asUnmodifiableList() {
+        return new UnmodifiableView<>(this);
+    }
+
+    private List<T> addedView(int from, int count) {
+        return Collections.unmodifiableList(items.subList(from, from + count));
+    }
+
+    /**
+     * A read-only view of a {@code ListenableList}.
+     */
+    private static class UnmodifiableView<T> extends AbstractList<T> implements ListenableList<T>, RandomAccess {
+        private final ListenableList<T> list;
+
+        UnmodifiableView(ListenableList<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public void addListener(ListListener<? super T> listener) {
+            list.addListener(listener);
+        }
+
+        @Override
+        public void removeListener(ListListener<? super T> listener) {
+            list.removeListener(listener);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.commons.core.list;
+
+import java.util.List;
+
+/**
+ * A list that notifies listeners of every change to it.
+ *
+ * This is the model's own alternative to JavaFX's {@code ObservableList}, so that the model can be used without
+ * loading the JavaFX toolkit. Listeners are called on the thread that changed the list.
+ */
+public interface ListenableList<T> extends List<T> {
+
+    /**
+     * Adds a listener that is notified after every change to this list.
+     */
+    void addListener(ListListener<? super T> listener);
+
+    /**
+     * Removes a listener added with {@link #addListener(ListListener)}. Does nothing if it was not added.
+     */
+    void removeListener(ListListener<? super T> listener);
+}
@@ -0,0 +1,83 @@
+package seedu.address.commons.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The metrics of the commands run with one command word: how long they took to parse, execute and save,
+ * and how many bytes they allocated.
+ */
+public class CommandMetrics {
+
+    private final String commandWord;
+    private final Histogram parseNanos = new Histogram();
+    private final Histogram executeNanos = new Histogram();
+    private final Histogram saveNanos = new Histogram();
+    private final Histogram allocatedBytes = new Histogram();
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    CommandMetrics(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    /** Returns the times the commands took to be parsed, in nanoseconds. */
+    public Histogram getParseNanos() {
+        return parseNanos;
+    }
+
+    /** Returns the times the commands that were parsed took to execute, in nanoseconds. */
+    public Histogram getExecuteNanos() {
+        return executeNanos;
+    }
+
+    /** Returns the times taken to save the address book after the commands that succeeded, in nanoseconds. */
+    public Histogram getSaveNanos() {
+        return saveNanos;
+    }
+
+    /** Returns the numbers of bytes the commands allocated, if the JVM can count them. */
+    public Histogram getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * Records that a command has finished, successfully or not, after allocating {@code allocated} bytes.
+     * A negative {@code allocated} means the bytes could not be counted.
+     */
+    public void recordCompletion(boolean isSuccessful, long allocated) {
+        runCount.incrementAndGet();
+        if (!isSuccessful) {
+            failureCount.incrementAndGet();
+        }
+        if (allocated >= 0) {
+            allocatedBytes.record(allocated);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandWord", commandWord)
+                .add("runCount", getRunCount())
+                .add("failureCount", getFailureCount())
+                .add("parseNanos", parseNanos)
+                .add("executeNanos", executeNanos)
+                .add("saveNanos", saveNanos)
+                .add("allocatedBytes", allocatedBytes)
+                .toString();
+    }
+}
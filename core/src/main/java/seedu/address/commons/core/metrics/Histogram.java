@@ -0,0 +1,109 @@
+package seedu.address.commons.core.metrics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A histogram of non-negative values, e.g. durations in nanoseconds or numbers of bytes.
+ * Values are counted in buckets whose width grows with the value, so a histogram takes a fixed amount of memory
+ * however many values it records, and a percentile is accurate to within an eighth of its value.
+ */
+public class Histogram {
+
+    // Each power of two is split into 2^SUB_BUCKET_BITS buckets; smaller values each have their own bucket
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] bucketCounts = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long sum = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    /**
+     * Records {@code value}, which must not be negative.
+     */
+    public synchronized void record(long value) {
+        checkArgument(value >= 0, "A histogram only records non-negative values");
+        bucketCounts[getBucket(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the smallest value recorded, or 0 if none have been.
+     */
+    public synchronized long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Returns the largest value recorded, or 0 if none have been.
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the values recorded, or 0 if none have been.
+     */
+    public synchronized double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns a value that {@code percentile} percent of the values recorded are at most, or 0 if none have been.
+     * It is at least the actual percentile, and more by at most an eighth of it.
+     */
+    public synchronized long getPercentile(double percentile) {
+        checkArgument(0 <= percentile && percentile <= 100, "A percentile must be between 0 and 100");
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += bucketCounts[bucket];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, getBucketUpperBound(bucket)));
+            }
+        }
+        return max;
+    }
+
+    private static int getBucket(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    private static long getBucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket >> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + (bucket & (SUB_BUCKET_COUNT - 1))) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("min", getMin())
+                .add("median", getPercentile(50))
+                .add("max", max)
+                .toString();
+    }
+}
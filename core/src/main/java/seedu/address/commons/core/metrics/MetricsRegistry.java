@@ -0,0 +1,139 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Collects the {@link CommandMetrics} of the commands run in this session, by command word, and the latest sizes
+ * of the model.
+ */
+public class MetricsRegistry {
+
+    /** The number of command words that get metrics of their own, e.g. to bound the memory that mistyped ones take. */
+    public static final int MAX_COMMAND_WORDS = 64;
+    /** The command word under which the commands beyond {@link #MAX_COMMAND_WORDS} command words are collected. */
+    public static final String OTHER_COMMAND_WORDS = "(other)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+
+    private static final String MODEL_SIZES_FORMAT = "Model: %d persons (%d shown), %d reminders\n";
+    private static final String COMMAND_FORMAT = "%s: %d runs, %d failed\n";
+    private static final String HISTOGRAM_FORMAT = "  %-9s p50 %9s  p90 %9s  p99 %9s  max %9s\n";
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = getAllocationCountingThreadBean();
+
+    private final Map<String, CommandMetrics> commandMetrics = new ConcurrentHashMap<>();
+    private volatile int personCount;
+    private volatile int shownPersonCount;
+    private volatile int reminderCount;
+
+    /**
+     * Returns the metrics of the commands with {@code commandWord}, which are created if there are none yet.
+     */
+    public CommandMetrics getCommandMetrics(String commandWord) {
+        requireNonNull(commandWord);
+        CommandMetrics metrics = commandMetrics.get(commandWord);
+        if (metrics != null) {
+            return metrics;
+        }
+        String key = commandMetrics.size() < MAX_COMMAND_WORDS ? commandWord : OTHER_COMMAND_WORDS;
+        return commandMetrics.computeIfAbsent(key, CommandMetrics::new);
+    }
+
+    /**
+     * Returns the metrics of every command word that commands have been run with, in order of command word.
+     */
+    public List<CommandMetrics> getAllCommandMetrics() {
+        List<CommandMetrics> all = new ArrayList<>(commandMetrics.values());
+        all.sort(Comparator.comparing(CommandMetrics::getCommandWord));
+        return all;
+    }
+
+    /**
+     * Records the sizes of the model after a command.
+     */
+    public void setModelSizes(int personCount, int shownPersonCount, int reminderCount) {
+        this.personCount = personCount;
+        this.shownPersonCount = shownPersonCount;
+        this.reminderCount = reminderCount;
+    }
+
+    /**
+     * Returns the metrics as text, with the percentiles of the durations in milliseconds and of the allocations
+     * in kilobytes.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(
+                String.format(MODEL_SIZES_FORMAT, personCount, shownPersonCount, reminderCount));
+        List<CommandMetrics> all = getAllCommandMetrics();
+        if (all.isEmpty()) {
+            return report.append(MESSAGE_NO_COMMANDS).toString();
+        }
+        for (CommandMetrics metrics : all) {
+            report.append(String.format(COMMAND_FORMAT, metrics.getCommandWord(), metrics.getRunCount(),
+                    metrics.getFailureCount()));
+            appendDurations(report, "parse", metrics.getParseNanos());
+            appendDurations(report, "execute", metrics.getExecuteNanos());
+            appendDurations(report, "save", metrics.getSaveNanos());
+            Histogram allocated = metrics.getAllocatedBytes();
+            if (allocated.getCount() > 0) {
+                report.append(String.format(HISTOGRAM_FORMAT, "allocated", formatKilobytes(allocated.getPercentile(50)),
+                        formatKilobytes(allocated.getPercentile(90)), formatKilobytes(allocated.getPercentile(99)),
+                        formatKilobytes(allocated.getMax())));
+            }
+        }
+        return report.toString().stripTrailing();
+    }
+
+    /**
+     * Writes the {@link #getReport() report} to {@code filePath}.
+     */
+    public void writeReport(Path filePath) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, getReport() + "\n");
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far, or -1 if the JVM cannot count them.
+     * The difference between two calls is the number of bytes allocated in between.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        return THREAD_BEAN == null ? -1 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationCountingThreadBean() {
+        // Counting allocations is specific to HotSpot, so it is not found on every JVM
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+    }
+
+    private static void appendDurations(StringBuilder report, String phase, Histogram nanos) {
+        if (nanos.getCount() == 0) {
+            return;
+        }
+        report.append(String.format(HISTOGRAM_FORMAT, phase, formatMillis(nanos.getPercentile(50)),
+                formatMillis(nanos.getPercentile(90)), formatMillis(nanos.getPercentile(99)),
+                formatMillis(nanos.getMax())));
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f ms", nanos / 1e6);
+    }
+
+    private static String formatKilobytes(long bytes) {
+        return String.format("%d KB", (bytes + 1023) / 1024);
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Times the phases of starting the app, one after another, from when the timeline is created.
+ * The phase that ends at a {@link #mark(String) mark} is named by it.
+ */
+public class StartupTimeline {
+
+    private static final String HEADER_FORMAT = "Startup took %.1f ms, %.1f ms after the JVM started, "
+            + "with %d persons and %d reminders:\n";
+    private static final String PHASE_FORMAT = "  %-12s %9.1f ms\n";
+
+    private final long jvmUptimeMillis;
+    private final long startNanos;
+    private long lastMarkNanos;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private int personCount;
+    private int reminderCount;
+
+    /**
+     * Creates a {@code StartupTimeline} that starts now.
+     */
+    public StartupTimeline() {
+        this(ManagementFactory.getRuntimeMXBean().getUptime(), System.nanoTime());
+    }
+
+    /**
+     * Creates a {@code StartupTimeline} that started at {@code startNanos} of {@link System#nanoTime()}, which was
+     * {@code jvmUptimeMillis} after the JVM started.
+     */
+    StartupTimeline(long jvmUptimeMillis, long startNanos) {
+        this.jvmUptimeMillis = jvmUptimeMillis;
+        this.startNanos = startNanos;
+        this.lastMarkNanos = startNanos;
+    }
+
+    /**
+     * Ends the phase named {@code phase}, which started at the previous mark.
+     * The time of a phase that is marked more than once is the sum of its times.
+     */
+    public synchronized void mark(String phase) {
+        requireNonNull(phase);
+        long now = System.nanoTime();
+        phaseNanos.merge(phase, now - lastMarkNanos, Long::sum);
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Sets the size of the address book the app started with, which startup times depend on.
+     */
+    public synchronized void setAddressBookSize(int personCount, int reminderCount) {
+        this.personCount = personCount;
+        this.reminderCount = reminderCount;
+    }
+
+    /**
+     * Returns the time of each phase in nanoseconds, in the order they were first marked.
+     */
+    public synchronized Map<String, Long> getPhaseNanos() {
+        return new LinkedHashMap<>(phaseNanos);
+    }
+
+    /**
+     * Returns the time from the start of the timeline to the latest mark, in nanoseconds.
+     */
+    public synchronized long getTotalNanos() {
+        return lastMarkNanos - startNanos;
+    }
+
+    /**
+     * Returns the time of each phase as a human-readable report.
+     */
+    public synchronized String getReport() {
+        double totalMillis = toMillis(getTotalNanos());
+        StringBuilder report = new StringBuilder(String.format(HEADER_FORMAT, totalMillis,
+                jvmUptimeMillis + totalMillis, personCount, reminderCount));
+        phaseNanos.forEach((phase, nanos) -> report.append(String.format(PHASE_FORMAT, phase, toMillis(nanos))));
+        return report.toString().trim();
+    }
+
+    /**
+     * Writes the time of each phase to {@code filePath} as JSON, for tools that track startup times.
+     */
+    public void writeReport(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonReport(this), filePath);
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1e4) / 100.0;
+    }
+
+    /**
+     * The JSON form of a {@code StartupTimeline}, with its times in milliseconds.
+     */
+    private static class JsonReport {
+        private final long jvmUptimeMillis;
+        private final double totalMillis;
+        private final int persons;
+        private final int reminders;
+        private final Map<String, Double> phaseMillis = new LinkedHashMap<>();
+
+        JsonReport(StartupTimeline timeline) {
+            synchronized (timeline) {
+                jvmUptimeMillis = timeline.jvmUptimeMillis;
+                totalMillis = toMillis(timeline.getTotalNanos());
+                persons = timeline.personCount;
+                reminders = timeline.reminderCount;
+                timeline.phaseNanos.forEach((phase, nanos) -> phaseMillis.put(phase, toMillis(nanos)));
+            }
+        }
+    }
+}
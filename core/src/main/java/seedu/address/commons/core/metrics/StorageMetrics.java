@@ -0,0 +1,77 @@
+package seedu.address.commons.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The metrics of reading and saving the address book: how long the latest read and save took, and how many bytes
+ * have been written.
+ */
+public class StorageMetrics {
+
+    private final AtomicLong readCount = new AtomicLong();
+    private final AtomicLong saveCount = new AtomicLong();
+    private final AtomicLong totalSavedBytes = new AtomicLong();
+    private volatile long lastReadNanos;
+    private volatile long lastSaveNanos;
+    private volatile long lastSavedBytes;
+
+    /**
+     * Records that the address book was read in {@code nanos} nanoseconds.
+     */
+    public void recordRead(long nanos) {
+        readCount.incrementAndGet();
+        lastReadNanos = nanos;
+    }
+
+    /**
+     * Records that the address book was saved as {@code bytes} bytes in {@code nanos} nanoseconds.
+     */
+    public void recordSave(long nanos, long bytes) {
+        saveCount.incrementAndGet();
+        totalSavedBytes.addAndGet(bytes);
+        lastSaveNanos = nanos;
+        lastSavedBytes = bytes;
+    }
+
+    public long getReadCount() {
+        return readCount.get();
+    }
+
+    public long getSaveCount() {
+        return saveCount.get();
+    }
+
+    /** Returns the time the latest read took, in nanoseconds, or 0 if there has been none. */
+    public long getLastReadNanos() {
+        return lastReadNanos;
+    }
+
+    /** Returns the time the latest save took, in nanoseconds, or 0 if there has been none. */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /** Returns the size of the file written by the latest save, or 0 if there has been none. */
+    public long getLastSavedBytes() {
+        return lastSavedBytes;
+    }
+
+    /** Returns the number of bytes written by all the saves. */
+    public long getTotalSavedBytes() {
+        return totalSavedBytes.get();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("readCount", getReadCount())
+                .add("saveCount", getSaveCount())
+                .add("lastReadNanos", lastReadNanos)
+                .add("lastSaveNanos", lastSaveNanos)
+                .add("lastSavedBytes", lastSavedBytes)
+                .add("totalSavedBytes", getTotalSavedBytes())
+                .toString();
+    }
+}
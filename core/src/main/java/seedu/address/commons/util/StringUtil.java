@@ -0,0 +1,153 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Helper functions for handling strings.
+ */
+public class StringUtil {
+
+    /**
+     * Returns true if the {@code sentence} contains the {@code word}.
+     *   Ignores case, but a full word match is required.
+     *   <br>examples:<pre>
+     *       containsWordIgnoreCase("ABc def", "abc") == true
+     *       containsWordIgnoreCase("ABc def", "DEF") == true
+     *       containsWordIgnoreCase("ABc def", "AB") == false //not a full word match
+     *       </pre>
+     * @param sentence cannot be null
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static boolean containsWordIgnoreCase(String sentence, String word) {
+        requireNonNull(sentence);
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+
+        String preppedSentence = sentence;
+        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+
+        return Arrays.stream(wordsInPreppedSentence)
+                .anyMatch(preppedWord::equalsIgnoreCase);
+    }
+
+    /**
+     * Returns a detailed message of the t, including the stack trace.
+     */
+    public static String getDetails(Throwable t) {
+        requireNonNull(t);
+        StringWriter sw = new StringWriter();
+        t.printStackTrace(new PrintWriter(sw));
+        return t.getMessage() + "\n" + sw.toString();
+    }
+
+    /**
+     * Returns the first word of {@code s}, ignoring leading whitespace, or an empty string if it has none.
+     * A command's metrics are recorded under its first word, its command word.
+     */
+    public static String getFirstWord(String s) {
+        requireNonNull(s);
+        String trimmed = s.trim();
+        int end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end);
+    }
+
+    /**
+     * Returns the first {@code maxItems} of {@code items} and the number of the others, e.g.
+     * {@code [Alex, Bernice, ... 998 more]}, so that logging a collection takes the same time whatever its size.
+     * @param maxItems cannot be negative
+     */
+    public static String summarize(Collection<?> items, int maxItems) {
+        requireNonNull(items);
+        checkArgument(maxItems >= 0, "Maximum number of items should not be negative");
+
+        StringBuilder summary = new StringBuilder("[");
+        Iterator<?> iterator = items.iterator();
+        for (int i = 0; i < maxItems && iterator.hasNext(); i++) {
+            summary.append(i == 0 ? "" : ", ").append(iterator.next());
+        }
+        int remainingCount = items.size() - Math.min(maxItems, items.size());
+        if (remainingCount > 0) {
+            summary.append(remainingCount == items.size() ? "" : ", ").append("... ").append(remainingCount)
+                    .append(" more");
+        }
+        return summary.append("]").toString();
+    }
+
+    /**
+     * Returns true if {@code s} represents a non-zero unsigned integer
+     * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
+     * Will return false for any other non-null string input
+     * e.g. empty string, "-1", "0", "+1", and " 2 " (untrimmed), "3 0" (contains whitespace), "1 a" (contains letters)
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isNonZeroUnsignedInteger(String s) {
+        requireNonNull(s);
+
+        try {
+            int value = Integer.parseInt(s);
+            return value > 0 && !s.startsWith("+"); // "+1" is successfully parsed by Integer#parseInt(String)
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d} in a regex.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regex.
+     * Unlike {@link Character#isWhitespace(char)}, this excludes the ASCII separators and Unicode spaces.
+     */
+    public static boolean isAsciiWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code s} matches the regex {@code [^\s].*}: it does not start with whitespace and,
+     * like {@code .}, contains no line terminators after its first character.
+     * @param s cannot be null
+     */
+    public static boolean isSingleLineNotStartingWithWhitespace(String s) {
+        requireNonNull(s);
+        if (s.isEmpty() || isAsciiWhitespace(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            if (isLineTerminator(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is a line terminator, i.e. a character not matched by {@code .} in a regex.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
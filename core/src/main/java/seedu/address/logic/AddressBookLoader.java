@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * Loads an address book into a model in the background, so that the app can show its window before the address book
+ * is read.
+ *
+ * The address book is read on a thread of its own. Its reminders and then its persons are added to the model on the
+ * model worker in chunks, each a task of its own, so that the lists shown fill in as they load and other tasks can
+ * run between the chunks. Reminders come first so that the reminder summaries of the persons are complete when the
+ * persons are shown.
+ */
+public class AddressBookLoader {
+
+    /** The number of persons or reminders added to the model by each task. */
+    public static final int CHUNK_SIZE = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final ModelWorker modelWorker;
+    private final Executor readExecutor;
+
+    /**
+     * Creates an {@code AddressBookLoader} that loads into {@code model} on {@code modelWorker}, reading the address
+     * book on a new thread.
+     */
+    public AddressBookLoader(Model model, ModelWorker modelWorker) {
+        this(model, modelWorker, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-loader");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Creates an {@code AddressBookLoader} that loads into {@code model} on {@code modelWorker}, reading the address
+     * book with {@code readExecutor}.
+     */
+    AddressBookLoader(Model model, ModelWorker modelWorker, Executor readExecutor) {
+        requireNonNull(model);
+        requireNonNull(modelWorker);
+        requireNonNull(readExecutor);
+        this.model = model;
+        this.modelWorker = modelWorker;
+        this.readExecutor = readExecutor;
+    }
+
+    /**
+     * Adds the persons and reminders of the address book returned by {@code reader} to the model, then removes the
+     * reminders of persons that are not in it. Returns a future of the address book that completes once all of it
+     * is in the model, or exceptionally with the exception {@code reader} throws.
+     */
+    public CompletableFuture<ReadOnlyAddressBook> load(Callable<? extends ReadOnlyAddressBook> reader) {
+        requireNonNull(reader);
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> read(reader), readExecutor)
+                .thenCompose(addressBook -> {
+                    logger.info(String.format("Read %d persons and %d reminders in %.1f ms, adding them to the model",
+                            addressBook.getPersonList().size(), addressBook.getReminderList().size(),
+                            (System.nanoTime() - start) / 1e6));
+                    return addInChunks(addressBook).thenApply(unused -> addressBook);
+                });
+    }
+
+    private static ReadOnlyAddressBook read(Callable<? extends ReadOnlyAddressBook> reader) {
+        try {
+            return reader.call();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Submits a task for each chunk of {@code addressBook} once the task before it finishes, so that tasks submitted
+     * in the meantime run between them.
+     */
+    private CompletableFuture<Void> addInChunks(ReadOnlyAddressBook addressBook) {
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (List<Reminder> chunk : toChunks(addressBook.getReminderList())) {
+            tasks.add(() -> {
+                model.addUniqueReminders(chunk);
+                return null;
+            });
+        }
+        for (List<Person> chunk : toChunks(addressBook.getPersonList())) {
+            tasks.add(() -> {
+                model.addUniquePersons(chunk);
+                return null;
+            });
+        }
+        tasks.add(model::cleanUpOrphanedReminders);
+
+        CompletableFuture<Object> added = CompletableFuture.completedFuture(null);
+        for (Callable<Object> task : tasks) {
+            added = added.thenCompose(unused -> modelWorker.submit(task));
+        }
+        return added.thenApply(unused -> null);
+    }
+
+    private static <T> List<List<T>> toChunks(List<T> items) {
+        List<T> copy = List.copyOf(items);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < copy.size(); from += CHUNK_SIZE) {
+            chunks.add(copy.subList(from, Math.min(copy.size(), from + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+}
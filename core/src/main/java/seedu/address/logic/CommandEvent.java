@@ -0,0 +1,44 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event for a command run by {@link LogicManager}, from parsing it to saving its changes.
+ */
+@Name(CommandEvent.NAME)
+@Label("Command")
+@Category({"AcademeConnect", "Logic"})
+@Description("A command run by the user, from parsing it to saving the address book")
+@StackTrace(false)
+class CommandEvent extends jdk.jfr.Event {
+
+    static final String NAME = "seedu.address.Command";
+
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long executeDuration;
+
+    @Label("Save Duration")
+    @Description("Zero if the address book was not saved, e.g. as the command failed")
+    @Timespan(Timespan.NANOSECONDS)
+    long saveDuration;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Result Size")
+    @Description("The number of persons shown after the command")
+    int resultSize;
+}
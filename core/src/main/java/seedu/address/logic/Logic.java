@@ -0,0 +1,129 @@
+package seedu.address.logic;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.workload.SessionRecorder;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderSummary;
+
+/**
+ * API of the Logic component
+ */
+public interface Logic {
+    /**
+     * Executes the command and returns the result.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Executes the command like {@link #execute(String)}, but does not save the address book afterwards.
+     * Used to run many commands with one save, which must then be made with {@link #saveAddressBook()}.
+     */
+    CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Saves the address book to storage.
+     * @throws CommandException If the address book could not be saved.
+     */
+    void saveAddressBook() throws CommandException;
+
+    /**
+     * Executes the command on the model worker, after the tasks submitted to it before, and returns a future of the
+     * result. The future completes exceptionally with the {@code CommandException} or {@code ParseException} that
+     * {@link #execute(String)} would throw.
+     * While the address book is being loaded by {@link #loadAddressBook(Callable)}, commands that may change it wait
+     * until it is loaded, and the commands after them wait their turn.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Loads the address book returned by {@code reader} into the model in the background, with an
+     * {@link AddressBookLoader}. Must be called at most once, while the model is empty.
+     *
+     * @return a future of the address book that completes once all of it is in the model.
+     */
+    CompletableFuture<ReadOnlyAddressBook> loadAddressBook(Callable<? extends ReadOnlyAddressBook> reader);
+
+    /**
+     * Returns a future that completes once the address book given to {@link #loadAddressBook(Callable)} is loaded,
+     * or that is already completed if none is being loaded.
+     */
+    CompletableFuture<?> getAddressBookLoad();
+
+    /**
+     * Records every command executed from now on, with its time and outcome, with {@code sessionRecorder}, or stops
+     * recording them if it is null.
+     */
+    void setSessionRecorder(SessionRecorder sessionRecorder);
+
+    /**
+     * Returns the worker that runs the commands given to {@link #executeAsync(String)}.
+     */
+    ModelWorker getModelWorker();
+
+    /**
+     * Returns the AddressBook.
+     *
+     * @see seedu.address.model.Model#getAddressBook()
+     */
+    ReadOnlyAddressBook getAddressBook();
+
+    /** Returns an unmodifiable view of the filtered list of persons */
+    ListenableList<Person> getFilteredPersonList();
+
+    /** Returns an unmodifiable view of the filtered list of reminders */
+    ListenableList<Reminder> getFilteredReminderList();
+
+    /**
+     * Returns the summary of the upcoming reminders of the given person.
+     *
+     * @see seedu.address.model.Model#getReminderSummary(Person)
+     */
+    ReminderSummary getReminderSummary(Person person);
+
+    /**
+     * Returns the persons whose reminder summaries have changed since this was last called.
+     * Must be called on the model worker, e.g. by a task listener.
+     *
+     * @see seedu.address.model.Model#takePersonsWithChangedReminderSummaries()
+     */
+    Set<Person> takePersonsWithChangedReminderSummaries();
+
+    /**
+     * Returns the user prefs' address book file path.
+     */
+    Path getAddressBookFilePath();
+
+    /**
+     * Returns the user prefs' GUI settings.
+     */
+    GuiSettings getGuiSettings();
+
+    /**
+     * Set the user prefs' GUI settings.
+     */
+    void setGuiSettings(GuiSettings guiSettings);
+
+    void setPersonNote(Person person, Note note) throws CommandException;
+
+    /**
+     * Returns the Model.
+     */
+    Model getModel();
+}
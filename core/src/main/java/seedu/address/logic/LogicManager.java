@@ -0,0 +1,243 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.workload.SessionRecorder;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderSummary;
+import seedu.address.storage.Storage;
+
+/**
+ * The main LogicManager of the app.
+ */
+public class LogicManager implements Logic {
+    public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
+
+    public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
+            "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
+
+    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final AddressBookParser addressBookParser;
+    private final ModelWorker modelWorker = new ModelWorker();
+    private CompletableFuture<?> addressBookLoad = CompletableFuture.completedFuture(null);
+    // The last command that waited for the address book to load, which the commands after it wait for
+    private CompletableFuture<?> waitingCommand = CompletableFuture.completedFuture(null);
+    private volatile SessionRecorder sessionRecorder = null;
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     */
+    public LogicManager(Model model, Storage storage) {
+        this.model = model;
+        this.storage = storage;
+        addressBookParser = new AddressBookParser();
+        // Registered first, so that the listeners added later see the reminder list of each task up to date
+        modelWorker.addTaskListener(model::refreshReminderList);
+    }
+
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, true);
+    }
+
+    @Override
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
+        return execute(commandText, false);
+    }
+
+    /**
+     * Executes the command, saving the address book afterwards if {@code isSaved}, and records its metrics,
+     * {@link CommandEvent} and, if the session is recorded, the command.
+     */
+    private CommandResult execute(String commandText, boolean isSaved) throws CommandException, ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
+        MetricsRegistry metricsRegistry = model.getMetricsRegistry();
+        String commandWord = StringUtil.getFirstWord(commandText);
+        CommandMetrics metrics = metricsRegistry.getCommandMetrics(commandWord);
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long allocatedBefore = MetricsRegistry.getCurrentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        long parseNanos = 0;
+        long executeNanos = 0;
+        long saveNanos = 0;
+        boolean isSuccessful = false;
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            long parsed = System.nanoTime();
+            parseNanos = parsed - startNanos;
+            metrics.getParseNanos().record(parseNanos);
+
+            CommandResult commandResult = command.execute(model);
+            long executed = System.nanoTime();
+            executeNanos = executed - parsed;
+            metrics.getExecuteNanos().record(executeNanos);
+
+            if (isSaved) {
+                saveAddressBook();
+                saveNanos = System.nanoTime() - executed;
+                metrics.getSaveNanos().record(saveNanos);
+            }
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            SessionRecorder recorder = sessionRecorder;
+            if (recorder != null) {
+                recorder.record(commandText, startNanos, System.nanoTime() - startNanos, isSuccessful);
+            }
+            long allocatedAfter = MetricsRegistry.getCurrentThreadAllocatedBytes();
+            metrics.recordCompletion(isSuccessful, allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore);
+            int shownCount = model.getFilteredPersonList().size();
+            metricsRegistry.setModelSizes(model.getAddressBook().getPersonList().size(), shownCount,
+                    model.getAddressBook().getReminderList().size());
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.commandWord = commandWord;
+                event.parseDuration = parseNanos;
+                event.executeDuration = executeNanos;
+                event.saveDuration = saveNanos;
+                event.succeeded = isSuccessful;
+                event.resultSize = shownCount;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook() throws CommandException {
+        if (!getAddressBookLoad().isDone()) {
+            // Saving the part of the address book loaded so far would lose the rest of the data file
+            logger.info("Not saving the address book, as it is still being loaded");
+            return;
+        }
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+        } catch (AccessDeniedException e) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public synchronized CompletableFuture<CommandResult> executeAsync(String commandText) {
+        // Classified by the command word only, as parsing on the caller's thread would hold up the GUI
+        if (waitingCommand.isDone() && addressBookLoad.isDone()) {
+            return modelWorker.submit(() -> execute(commandText));
+        }
+        if (waitingCommand.isDone() && AddressBookParser.isReadOnly(commandText)) {
+            // Not saved, as the address book is only partly loaded
+            return modelWorker.submit(() -> executeWithoutSaving(commandText));
+        }
+        logger.info("Waiting for the address book to load before running: " + commandText);
+        CompletableFuture<CommandResult> commandResult = CompletableFuture.allOf(addressBookLoad, waitingCommand)
+                // Runs even if the load or the command before failed
+                .handle((unused, error) -> null)
+                .thenCompose(unused -> modelWorker.submit(() -> execute(commandText)));
+        waitingCommand = commandResult;
+        return commandResult;
+    }
+
+    @Override
+    public synchronized CompletableFuture<ReadOnlyAddressBook> loadAddressBook(
+            Callable<? extends ReadOnlyAddressBook> reader) {
+        CompletableFuture<ReadOnlyAddressBook> load = new AddressBookLoader(model, modelWorker).load(reader);
+        addressBookLoad = load;
+        return load;
+    }
+
+    @Override
+    public synchronized CompletableFuture<?> getAddressBookLoad() {
+        return addressBookLoad;
+    }
+
+    @Override
+    public void setSessionRecorder(SessionRecorder sessionRecorder) {
+        this.sessionRecorder = sessionRecorder;
+    }
+
+    @Override
+    public ModelWorker getModelWorker() {
+        return modelWorker;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return model.getAddressBook();
+    }
+
+    @Override
+    public ListenableList<Person> getFilteredPersonList() {
+        return model.getFilteredPersonList();
+    }
+
+    @Override
+    public ListenableList<Reminder> getFilteredReminderList() {
+        return model.getFilteredReminderList();
+    }
+
+    @Override
+    public ReminderSummary getReminderSummary(Person person) {
+        return model.getReminderSummary(person);
+    }
+
+    @Override
+    public Set<Person> takePersonsWithChangedReminderSummaries() {
+        return model.takePersonsWithChangedReminderSummaries();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return model.getAddressBookFilePath();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return model.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        model.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public void setPersonNote(Person person, Note note) throws CommandException {
+        try {
+            model.setPersonNote(person, note);
+        } catch (Exception e) {
+            throw new CommandException("Error setting note: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Model getModel() {
+        return model;
+    }
+}
@@ -62,6 +62,10 @@ public class Messages {
                 .append(reminder.getDate())
                 .append("; Message: ")
                 .append(reminder.getMessage());
+        if (reminder.isRecurring()) {
+            builder.append("; Repeats: ")
+                    .append(reminder.getRecurrence());
+        }
         return builder.toString();
     }
 
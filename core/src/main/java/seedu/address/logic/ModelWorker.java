@@ -0,0 +1,106 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Runs the tasks that use the model, such as commands, on a worker thread of its own, one at a time in the order
+ * they are submitted. While tasks run on the worker, the model must only be used by tasks run on the worker.
+ *
+ * After each task, the task listeners are run on the worker, e.g. to publish the changes the task made to the model,
+ * before the future of the task is completed.
+ */
+public class ModelWorker implements Executor {
+
+    private static final Logger logger = LogsCenter.getLogger(ModelWorker.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "model-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Runnable> taskListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Submits {@code task} to run after the tasks submitted before it, and returns a future of its result.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        requireNonNull(task);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            T result = null;
+            Throwable error = null;
+            try {
+                result = task.call();
+            } catch (Throwable t) {
+                error = t;
+            }
+            notifyTaskListeners();
+            if (error == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(error);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Submits {@code task} to run after the tasks submitted before it.
+     */
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        submit(() -> {
+            task.run();
+            return null;
+        }).exceptionally(error -> {
+            logger.warning("Task on the model worker failed: " + error);
+            return null;
+        });
+    }
+
+    /**
+     * Adds {@code listener} to be run on the worker after each task.
+     */
+    public void addTaskListener(Runnable listener) {
+        requireNonNull(listener);
+        taskListeners.add(listener);
+    }
+
+    /**
+     * Waits for the tasks submitted so far to finish, e.g. so that their changes are saved, and stops the worker.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Model worker did not finish its tasks in time");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void notifyTaskListeners() {
+        for (Runnable listener : taskListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warning("Task listener failed: " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.batch;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The outcome of running a script of commands with a {@link BatchRunner}.
+ */
+public class BatchResult {
+
+    private final int commandCount;
+    private final int failureCount;
+    private final int saveCount;
+
+    /**
+     * Creates a result in which {@code commandCount} commands ran, {@code failureCount} of them failed, and the
+     * address book was saved {@code saveCount} times.
+     */
+    public BatchResult(int commandCount, int failureCount, int saveCount) {
+        this.commandCount = commandCount;
+        this.failureCount = failureCount;
+        this.saveCount = saveCount;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    public boolean hasFailures() {
+        return failureCount > 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchResult)) {
+            return false;
+        }
+
+        BatchResult otherResult = (BatchResult) other;
+        return commandCount == otherResult.commandCount
+                && failureCount == otherResult.failureCount
+                && saveCount == otherResult.saveCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commandCount, failureCount, saveCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandCount", commandCount)
+                .add("failureCount", failureCount)
+                .add("saveCount", saveCount)
+                .toString();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.logic.batch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Runs a script of commands, one per line, without the GUI.
+ *
+ * Unlike commands entered in the GUI, the commands do not each save the address book. It is saved once at the end,
+ * and, if a checkpoint interval is given, after every that many commands, so that a failure part way through a long
+ * script loses little work. The address book is only saved if the commands changed it since the last save.
+ *
+ * Blank lines and lines that start with {@value #COMMENT_PREFIX} are skipped. An {@code exit} command ends the script.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_FAILURE = "Line %d: %s\n    %s";
+
+    private final Logic logic;
+    private final int checkpointInterval;
+    private final boolean isStoppedOnFailure;
+    private final PrintStream err;
+
+    // Set by the address book's listeners whenever a command changes it
+    private boolean isChanged = false;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands with {@code logic} and reports failed commands to {@code err}.
+     *
+     * @param checkpointInterval The number of commands after which the address book is saved, or 0 to only save it at
+     *     the end.
+     * @param isStoppedOnFailure Whether to stop at the first command that fails, rather than run the rest.
+     */
+    public BatchRunner(Logic logic, int checkpointInterval, boolean isStoppedOnFailure, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(err);
+        assert checkpointInterval >= 0;
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+        this.isStoppedOnFailure = isStoppedOnFailure;
+        this.err = err;
+
+        ReadOnlyAddressBook addressBook = logic.getAddressBook();
+        addressBook.getPersonList().addListener(change -> isChanged = true);
+        addressBook.getReminderList().addListener(change -> isChanged = true);
+    }
+
+    /**
+     * Runs the commands read from {@code script} and saves the address book.
+     *
+     * @throws IOException If the script could not be read. The commands run until then are saved first.
+     * @throws CommandException If the address book could not be saved.
+     */
+    public BatchResult run(BufferedReader script) throws IOException, CommandException {
+        requireNonNull(script);
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failureCount = 0;
+        int saveCount = 0;
+
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                CommandResult result;
+                try {
+                    result = logic.executeWithoutSaving(commandText);
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                    err.println(String.format(MESSAGE_FAILURE, lineNumber, commandText, e.getMessage()));
+                    if (isStoppedOnFailure) {
+                        break;
+                    }
+                    continue;
+                }
+
+                if (result.isExit()) {
+                    break;
+                }
+                if (checkpointInterval > 0 && commandCount % checkpointInterval == 0 && saveIfChanged()) {
+                    saveCount++;
+                }
+            }
+        } finally {
+            if (saveIfChanged()) {
+                saveCount++;
+            }
+        }
+        return new BatchResult(commandCount, failureCount, saveCount);
+    }
+
+    /**
+     * Saves the address book if it changed since it was last saved, and returns true if it did.
+     */
+    private boolean saveIfChanged() throws CommandException {
+        if (!isChanged) {
+            return false;
+        }
+        logic.saveAddressBook();
+        isChanged = false;
+        return true;
+    }
+}
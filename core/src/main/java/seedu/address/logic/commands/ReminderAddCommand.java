@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MESSAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import java.util.List;
 
@@ -16,6 +18,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Date;
 import seedu.address.model.reminder.Message;
+import seedu.address.model.reminder.Recurrence;
 import seedu.address.model.reminder.Reminder;
 
 /**
@@ -30,7 +33,9 @@ public class ReminderAddCommand extends ReminderCommand {
             + "Format 1 (with index): "
             + COMMAND_WORD + " INDEX "
             + PREFIX_DATE + "DATE "
-            + PREFIX_MESSAGE + "MESSAGE\n"
+            + PREFIX_MESSAGE + "MESSAGE "
+            + "[" + PREFIX_RECURRENCE + "daily|weekly|monthly|every N days "
+            + "[" + PREFIX_UNTIL + "END_DATE]]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_DATE + "2025-12-31 "
             + PREFIX_MESSAGE + "Discuss project updates\n"
@@ -38,11 +43,18 @@ public class ReminderAddCommand extends ReminderCommand {
             + COMMAND_WORD + " "
             + PREFIX_NAME + "NAME "
             + PREFIX_DATE + "DATE "
-            + PREFIX_MESSAGE + "MESSAGE\n"
+            + PREFIX_MESSAGE + "MESSAGE "
+            + "[" + PREFIX_RECURRENCE + "daily|weekly|monthly|every N days "
+            + "[" + PREFIX_UNTIL + "END_DATE]]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "John Doe "
             + PREFIX_DATE + "2025-12-31 "
-            + PREFIX_MESSAGE + "Discuss project updates";
+            + PREFIX_MESSAGE + "Discuss project updates\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_DATE + "2025-12-01 10:00 "
+            + PREFIX_MESSAGE + "Weekly check-in "
+            + PREFIX_RECURRENCE + "weekly "
+            + PREFIX_UNTIL + "2026-06-30";
 
     public static final String MESSAGE_SUCCESS = "New reminder added: %1$s";
     public static final String MESSAGE_DUPLICATE_REMINDER = "This reminder already exists in the address book";
@@ -53,6 +65,7 @@ public class ReminderAddCommand extends ReminderCommand {
     private final Index targetIndex;
     private final Date date;
     private final Message message;
+    private final Recurrence recurrence;
     private final boolean isIndexBased;
 
     /**
@@ -63,14 +76,28 @@ public class ReminderAddCommand extends ReminderCommand {
      * @param message Message of the reminder
      */
     public ReminderAddCommand(Name personName, Date date, Message message) {
+        this(personName, date, message, Recurrence.NONE);
+    }
+
+    /**
+     * Creates a ReminderAddCommand with a person's name for a reminder that may repeat.
+     *
+     * @param personName Name of the person for the reminder
+     * @param date Date of the reminder, or of its first occurrence if it repeats
+     * @param message Message of the reminder
+     * @param recurrence Recurrence of the reminder
+     */
+    public ReminderAddCommand(Name personName, Date date, Message message, Recurrence recurrence) {
         requireNonNull(personName);
         requireNonNull(date);
         requireNonNull(message);
+        requireNonNull(recurrence);
 
         this.personName = personName;
         this.targetIndex = null;
         this.date = date;
         this.message = message;
+        this.recurrence = recurrence;
         this.isIndexBased = false;
     }
 
@@ -82,14 +109,28 @@ public class ReminderAddCommand extends ReminderCommand {
      * @param message Message of the reminder
      */
     public ReminderAddCommand(Index targetIndex, Date date, Message message) {
+        this(targetIndex, date, message, Recurrence.NONE);
+    }
+
+    /**
+     * Creates a ReminderAddCommand with a person's index for a reminder that may repeat.
+     *
+     * @param targetIndex Index of the person in the filtered person list
+     * @param date Date of the reminder, or of its first occurrence if it repeats
+     * @param message Message of the reminder
+     * @param recurrence Recurrence of the reminder
+     */
+    public ReminderAddCommand(Index targetIndex, Date date, Message message, Recurrence recurrence) {
         requireNonNull(targetIndex);
         requireNonNull(date);
         requireNonNull(message);
+        requireNonNull(recurrence);
 
         this.targetIndex = targetIndex;
         this.personName = null;
         this.date = date;
         this.message = message;
+        this.recurrence = recurrence;
         this.isIndexBased = true;
     }
 
@@ -112,14 +153,14 @@ public class ReminderAddCommand extends ReminderCommand {
                     .orElseThrow(() -> new CommandException(MESSAGE_PERSON_NOT_FOUND));
         }
 
-        Reminder reminderToAdd = new Reminder(targetPerson, date, message);
+        Reminder reminderToAdd = new Reminder(targetPerson, date, message, false, recurrence);
 
         if (model.hasReminder(reminderToAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_REMINDER);
         }
 
         model.addReminder(reminderToAdd);
-        if (date.isUpcoming()) {
+        if (date.isUpcoming() || recurrence.isRecurring()) {
             return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(reminderToAdd)));
         } else {
             return new CommandResult(String.format(MESSAGE_SUCCESS + "\n" + MESSAGE_WARNING_PAST_DATE,
@@ -146,11 +187,13 @@ public class ReminderAddCommand extends ReminderCommand {
         if (isIndexBased) {
             return targetIndex.equals(otherCommand.targetIndex)
                     && date.equals(otherCommand.date)
-                    && message.equals(otherCommand.message);
+                    && message.equals(otherCommand.message)
+                    && recurrence.equals(otherCommand.recurrence);
         } else {
             return personName.equals(otherCommand.personName)
                     && date.equals(otherCommand.date)
-                    && message.equals(otherCommand.message);
+                    && message.equals(otherCommand.message)
+                    && recurrence.equals(otherCommand.recurrence);
         }
     }
 
@@ -161,6 +204,7 @@ public class ReminderAddCommand extends ReminderCommand {
                 .add("targetIndex", targetIndex)
                 .add("date", date)
                 .add("message", message)
+                .add("recurrence", recurrence)
                 .add("isIndexBased", isIndexBased)
                 .toString();
     }
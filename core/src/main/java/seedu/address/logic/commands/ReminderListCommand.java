@@ -0,0 +1,139 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_UPCOMING_REMINDERS;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.reminder.Date;
+
+/**
+ * Lists reminders in the address book to the user: all upcoming reminders by default, or only those due within
+ * a range of dates, those that are overdue, or the next few that are due.
+ */
+public class ReminderListCommand extends ReminderCommand {
+
+    public static final String SUB_COMMAND_WORD = "list";
+
+    public static final String OVERDUE_KEYWORD = "overdue";
+
+    public static final String NEXT_KEYWORD = "next";
+
+    /** The most reminders that {@code next COUNT} lists. */
+    public static final int MAX_NEXT_COUNT = 1000;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUB_COMMAND_WORD
+            + ": Lists upcoming reminders, or only the reminders due in a range of dates, the overdue reminders, "
+            + "or the next COUNT reminders.\n"
+            + "Parameters: [from/START_DATE to/END_DATE] | [" + OVERDUE_KEYWORD + "] | [" + NEXT_KEYWORD + " COUNT]\n"
+            + "Example: " + COMMAND_WORD + " " + SUB_COMMAND_WORD + " from/2026-12-01 to/2026-12-31\n"
+            + "Example: " + COMMAND_WORD + " " + SUB_COMMAND_WORD + " " + OVERDUE_KEYWORD + "\n"
+            + "Example: " + COMMAND_WORD + " " + SUB_COMMAND_WORD + " " + NEXT_KEYWORD + " 5";
+
+    public static final String MESSAGE_SUCCESS = "Listed all reminders";
+
+    public static final String MESSAGE_DUE_BETWEEN_SUCCESS = "Listed %1$d reminder(s) due from %2$s to %3$s";
+
+    public static final String MESSAGE_OVERDUE_SUCCESS = "Listed %1$d overdue reminder(s)";
+
+    public static final String MESSAGE_NEXT_SUCCESS = "Listed the next %1$d reminder(s)";
+
+    /**
+     * The reminders to list.
+     */
+    private enum Scope { UPCOMING, DUE_BETWEEN, OVERDUE, NEXT }
+
+    private final Scope scope;
+    private final Date from;
+    private final Date to;
+    private final int count;
+
+    /**
+     * Creates a ReminderListCommand to list all upcoming reminders.
+     */
+    public ReminderListCommand() {
+        this(Scope.UPCOMING, null, null, 0);
+    }
+
+    /**
+     * Creates a ReminderListCommand to list the reminders due from {@code from} to {@code to}, both inclusive.
+     * A date given without a time covers that whole day.
+     */
+    public ReminderListCommand(Date from, Date to) {
+        this(Scope.DUE_BETWEEN, requireNonNull(from), requireNonNull(to), 0);
+    }
+
+    /**
+     * Creates a ReminderListCommand to list the next {@code count} reminders that are not yet due.
+     */
+    public ReminderListCommand(int count) {
+        this(Scope.NEXT, null, null, count);
+        assert count > 0 && count <= MAX_NEXT_COUNT;
+    }
+
+    private ReminderListCommand(Scope scope, Date from, Date to, int count) {
+        this.scope = scope;
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    /**
+     * Creates a ReminderListCommand to list the reminders that are past their due date but not yet completed.
+     */
+    public static ReminderListCommand overdue() {
+        return new ReminderListCommand(Scope.OVERDUE, null, null, 0);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        switch (scope) {
+        case DUE_BETWEEN:
+            LocalDateTime start = from.isDateOnly() ? from.value.toLocalDate().atStartOfDay() : from.value;
+            model.updateFilteredReminderListToDueBetween(start, to.value);
+            return new CommandResult(String.format(MESSAGE_DUE_BETWEEN_SUCCESS,
+                    model.getFilteredReminderList().size(), from, to));
+        case OVERDUE:
+            model.updateFilteredReminderListToOverdue();
+            return new CommandResult(String.format(MESSAGE_OVERDUE_SUCCESS, model.getFilteredReminderList().size()));
+        case NEXT:
+            model.updateFilteredReminderListToNext(count);
+            return new CommandResult(String.format(MESSAGE_NEXT_SUCCESS, model.getFilteredReminderList().size()));
+        default:
+            model.updateFilteredReminderList(PREDICATE_SHOW_UPCOMING_REMINDERS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReminderListCommand)) {
+            return false;
+        }
+
+        ReminderListCommand otherReminderListCommand = (ReminderListCommand) other;
+        return scope == otherReminderListCommand.scope
+                && Objects.equals(from, otherReminderListCommand.from)
+                && Objects.equals(to, otherReminderListCommand.to)
+                && count == otherReminderListCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scope", scope)
+                .add("from", from)
+                .add("to", to)
+                .add("count", count)
+                .toString();
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.model.Model.PREDICATE_SHOW_UPCOMING_REMINDERS;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.reminder.Date;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * Marks a reminder identified using its displayed index as done, or every occurrence of a recurring reminder due up
+ * to a date.
+ */
+public class ReminderMarkCommand extends ReminderCommand {
+
+    public static final String SUB_COMMAND_WORD = "mark";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUB_COMMAND_WORD
+            + ": Marks the reminder identified by the index"
+            + "number(s) used in the displayed reminder list as done, or every occurrence of a recurring reminder "
+            + "due up to a date.\n"
+            + "Parameters: INDEX [INDEX]... (each must be a positive integer) | INDEX " + PREFIX_TO + "DATE\n"
+            + "Example: " + COMMAND_WORD + " " + SUB_COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " " + SUB_COMMAND_WORD + " 1 4 6\n"
+            + "Example: " + COMMAND_WORD + " " + SUB_COMMAND_WORD + " 1 " + PREFIX_TO + "2026-12-31";
+
+    public static final String MESSAGE_MARK_REMINDER_SUCCESS = "Marked Reminders:\n%1$s";
+    public static final String MESSAGE_MARK_UNTIL_SUCCESS = "Marked the occurrences due up to %2$s of:\n%1$s";
+    public static final String MESSAGE_EARLIER_OCCURRENCE_NOT_COMPLETED = "Mark the earlier occurrences of this "
+            + "reminder as done first, or all of them up to a date with " + PREFIX_TO + "DATE:\n%1$s";
+
+    private final List<Index> targetIndexes;
+    private final Date until;
+
+    public ReminderMarkCommand(List<Index> targetIndexes) {
+        this.targetIndexes = targetIndexes;
+        this.until = null;
+    }
+
+    /**
+     * Creates a ReminderMarkCommand to mark every occurrence due up to {@code until} of the reminder at
+     * {@code targetIndex}.
+     */
+    public ReminderMarkCommand(Index targetIndex, Date until) {
+        this.targetIndexes = List.of(requireNonNull(targetIndex));
+        this.until = requireNonNull(until);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Reminder> lastShownList = model.getFilteredReminderList();
+        if (until != null) {
+            return markUntil(model, lastShownList);
+        }
+
+        StringBuilder markedRemindersText = new StringBuilder();
+
+        List<Index> sortedIndexes = new ArrayList<>(targetIndexes);
+        sortedIndexes.sort(Comparator.comparing(Index::getZeroBased).reversed());
+
+        // Resolve every target first, as marking an occurrence of a recurring reminder can shift other indexes
+        List<Reminder> remindersToMark = new ArrayList<>();
+        for (Index targetIndex : sortedIndexes) {
+            if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_REMINDER_DISPLAYED_INDEX);
+            }
+            remindersToMark.add(lastShownList.get(targetIndex.getZeroBased()));
+        }
+
+        // Occurrences of a recurring reminder are completed in order, so the targets are marked in order of date
+        List<Reminder> remindersInOrder = new ArrayList<>(remindersToMark);
+        remindersInOrder.sort(Comparator.comparing(Reminder::getDate));
+        Map<Reminder, Reminder> markedReminders = new LinkedHashMap<>();
+        for (Reminder reminder : remindersInOrder) {
+            Reminder storedReminder = reminder.getSeries();
+            if (!model.hasReminder(storedReminder)) {
+                continue;
+            }
+            Reminder currentReminder = markedReminders.getOrDefault(storedReminder, storedReminder);
+            if (reminder.isRecurring()) {
+                int firstUncompleted = currentReminder.getCompletedOccurrences();
+                if (currentReminder.isCompleted() || reminder.getOccurrenceNumber() < firstUncompleted) {
+                    continue;
+                }
+                if (reminder.getOccurrenceNumber() > firstUncompleted) {
+                    throw new CommandException(String.format(MESSAGE_EARLIER_OCCURRENCE_NOT_COMPLETED,
+                            Messages.format(reminder)));
+                }
+            }
+            markedReminders.put(storedReminder, currentReminder.markAsCompleted());
+        }
+
+        markedReminders.forEach((storedReminder, markedReminder) -> {
+            model.deleteReminder(storedReminder);
+            model.addReminder(markedReminder);
+        });
+        model.updateFilteredReminderList(PREDICATE_SHOW_UPCOMING_REMINDERS);
+        for (Reminder reminder : remindersToMark) {
+            markedRemindersText.append(Messages.format(reminder)).append("\n");
+        }
+
+        return new CommandResult(String.format(MESSAGE_MARK_REMINDER_SUCCESS, markedRemindersText.toString().trim()));
+    }
+
+    /**
+     * Marks every occurrence due up to {@code until} of the reminder at the target index in {@code lastShownList}.
+     */
+    private CommandResult markUntil(Model model, List<Reminder> lastShownList) throws CommandException {
+        Index targetIndex = targetIndexes.get(0);
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_REMINDER_DISPLAYED_INDEX);
+        }
+        Reminder reminder = lastShownList.get(targetIndex.getZeroBased());
+        Reminder storedReminder = reminder.getSeries();
+        if (model.hasReminder(storedReminder)) {
+            model.deleteReminder(storedReminder);
+            model.addReminder(storedReminder.markAsCompletedUntil(until.value));
+        }
+        model.updateFilteredReminderList(PREDICATE_SHOW_UPCOMING_REMINDERS);
+        return new CommandResult(String.format(MESSAGE_MARK_UNTIL_SUCCESS, Messages.format(reminder), until));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReminderMarkCommand)) {
+            return false;
+        }
+
+        ReminderMarkCommand otherReminderMarkCommand = (ReminderMarkCommand) other;
+        return targetIndexes.equals(otherReminderMarkCommand.targetIndexes)
+                && Objects.equals(until, otherReminderMarkCommand.until);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndexes", targetIndexes)
+                .add("until", until)
+                .toString();
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MESSAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_RESEARCH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_TITLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteNoteCommand;
+import seedu.address.logic.commands.DeleteTagCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.ReminderAddCommand;
+import seedu.address.logic.commands.ReminderCommand;
+import seedu.address.logic.commands.ReminderListCommand;
+import seedu.address.logic.commands.ReminderMarkCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.ViewNoteCommand;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Person;
+
+/**
+ * Completes the word being typed in a command: command words, the sub-command words of {@code reminder}, the
+ * prefixes that the command takes, tags after a tag prefix, and person names after {@code n/} in
+ * {@code reminder add}.
+ *
+ * Every kind of word is kept in its own {@link CompletionDictionary}, and person names and tags are updated as the
+ * person list changes, so completing a word takes O(log n) time and never scans the persons.
+ */
+public class CommandCompleter {
+
+    private static final String[] COMMAND_WORDS = {
+        AddCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
+        DeleteNoteCommand.COMMAND_WORD, DeleteTagCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+        ExitCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+        NoteCommand.COMMAND_WORD, ReminderCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD,
+        TagCommand.COMMAND_WORD, ViewNoteCommand.COMMAND_WORD
+    };
+
+    private static final String[] REMINDER_SUB_COMMAND_WORDS = {
+        ReminderAddCommand.SUB_COMMAND_WORD, ReminderListCommand.SUB_COMMAND_WORD,
+        ReminderMarkCommand.SUB_COMMAND_WORD
+    };
+
+    private static final String REMINDER_ADD_COMMAND =
+            ReminderCommand.COMMAND_WORD + " " + ReminderAddCommand.SUB_COMMAND_WORD;
+
+    private final CompletionDictionary commandWords = createDictionary(COMMAND_WORDS);
+    private final CompletionDictionary reminderSubCommandWords = createDictionary(REMINDER_SUB_COMMAND_WORDS);
+    // The prefixes taken by each command, as tokenized by its parser, by command word and any sub-command word
+    private final Map<String, Prefix[]> commandPrefixes = new HashMap<>();
+    private final Map<String, CompletionDictionary> commandPrefixDictionaries = new HashMap<>();
+    private final CompletionDictionary personNames = new CompletionDictionary();
+    private final TagCompleter tagCompleter;
+
+    /**
+     * Creates a {@code CommandCompleter} that completes names and tags from {@code persons}, which it follows as the
+     * list changes.
+     */
+    public CommandCompleter(ListenableList<Person> persons) {
+        requireNonNull(persons);
+        tagCompleter = new TagCompleter(persons);
+        PersonListFollower.follow(persons,
+            person -> personNames.add(person.getName().fullName),
+            person -> personNames.remove(person.getName().fullName));
+
+        Prefix[] personPrefixes = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
+            PREFIX_TAG_RESEARCH, PREFIX_TAG_TITLE};
+        Prefix[] tagPrefixes = {PREFIX_TAG, PREFIX_TAG_RESEARCH, PREFIX_TAG_TITLE};
+        addCommandPrefixes(AddCommand.COMMAND_WORD, personPrefixes);
+        addCommandPrefixes(EditCommand.COMMAND_WORD, personPrefixes);
+        addCommandPrefixes(FindCommand.COMMAND_WORD, tagPrefixes);
+        addCommandPrefixes(TagCommand.COMMAND_WORD, tagPrefixes);
+        addCommandPrefixes(DeleteTagCommand.COMMAND_WORD, tagPrefixes);
+        addCommandPrefixes(REMINDER_ADD_COMMAND,
+                PREFIX_NAME, PREFIX_DATE, PREFIX_MESSAGE, PREFIX_RECURRENCE, PREFIX_UNTIL);
+        addCommandPrefixes(ReminderCommand.COMMAND_WORD + " " + ReminderListCommand.SUB_COMMAND_WORD,
+                PREFIX_FROM, PREFIX_TO);
+    }
+
+    /**
+     * Returns the best completion of the word being typed before {@code caretPosition} in {@code text}, if any.
+     */
+    public Optional<Completion> complete(String text, int caretPosition) {
+        return getCompletions(text, caretPosition, 1).stream().findFirst();
+    }
+
+    /**
+     * Returns up to {@code limit} completions of the word being typed before {@code caretPosition} in {@code text},
+     * best first.
+     */
+    public List<Completion> getCompletions(String text, int caretPosition, int limit) {
+        requireNonNull(text);
+        assert caretPosition >= 0 && caretPosition <= text.length();
+        List<Completion> completions = new ArrayList<>();
+
+        int commandStart = skipWhitespace(text, 0, caretPosition);
+        int commandEnd = findWordEnd(text, commandStart);
+        if (caretPosition <= commandEnd) {
+            addCompletions(completions, commandWords, text, commandStart, caretPosition, limit);
+            return completions;
+        }
+
+        String command = text.substring(commandStart, commandEnd);
+        int argumentsStart = commandEnd;
+        if (command.equals(ReminderCommand.COMMAND_WORD)) {
+            int subCommandStart = skipWhitespace(text, commandEnd, caretPosition);
+            int subCommandEnd = findWordEnd(text, subCommandStart);
+            if (caretPosition <= subCommandEnd) {
+                addCompletions(completions, reminderSubCommandWords, text, subCommandStart, caretPosition, limit);
+                return completions;
+            }
+            command = command + " " + text.substring(subCommandStart, subCommandEnd);
+            argumentsStart = subCommandEnd;
+        }
+
+        Prefix[] prefixes = commandPrefixes.get(command);
+        if (prefixes == null) {
+            return completions;
+        }
+        addArgumentCompletions(completions, command, prefixes, text, argumentsStart, caretPosition, limit);
+        return completions;
+    }
+
+    /**
+     * Adds the completions of the argument being typed before {@code caretPosition}: a person name, a tag, or
+     * otherwise one of {@code prefixes}.
+     */
+    private void addArgumentCompletions(List<Completion> completions, String command, Prefix[] prefixes,
+            String text, int argumentsStart, int caretPosition, int limit) {
+        if (command.equals(REMINDER_ADD_COMMAND)) {
+            int valueStart = findValueStart(text, argumentsStart, caretPosition, prefixes, PREFIX_NAME);
+            if (valueStart != -1) {
+                addCompletions(completions, personNames, text, valueStart, caretPosition, limit);
+            }
+        }
+
+        int tagStart = TagCompleter.findTagStart(text, caretPosition);
+        if (tagStart != -1) {
+            tagCompleter.getSuggestion(text, caretPosition)
+                    .ifPresent(tag -> completions.add(new Completion(tagStart, tag)));
+            return;
+        }
+
+        int wordStart = findWordStart(text, caretPosition);
+        if (wordStart < caretPosition && text.lastIndexOf('/', caretPosition - 1) < wordStart) {
+            // A word that has no prefix yet may be the start of one
+            addCompletions(completions, commandPrefixDictionaries.get(command), text, wordStart, caretPosition,
+                    limit);
+        }
+    }
+
+    private void addCommandPrefixes(String command, Prefix... prefixes) {
+        commandPrefixes.put(command, prefixes);
+        CompletionDictionary dictionary = new CompletionDictionary();
+        for (Prefix prefix : prefixes) {
+            dictionary.add(prefix.getPrefix());
+        }
+        commandPrefixDictionaries.put(command, dictionary);
+    }
+
+    private static void addCompletions(List<Completion> completions, CompletionDictionary dictionary, String text,
+            int start, int caretPosition, int limit) {
+        if (completions.size() >= limit) {
+            return;
+        }
+        String partial = text.substring(start, caretPosition);
+        for (String word : dictionary.getCompletions(partial, limit - completions.size())) {
+            completions.add(new Completion(start, word));
+        }
+    }
+
+    /**
+     * Returns the index at which the value of {@code valuePrefix} starts if the caret is within it, or -1 if the
+     * caret is not within such a value. A value runs from its prefix up to the next of {@code prefixes}, and each
+     * prefix must start a word.
+     */
+    private static int findValueStart(String text, int argumentsStart, int caretPosition, Prefix[] prefixes,
+            Prefix valuePrefix) {
+        int valueStart = -1;
+        for (int i = argumentsStart; i < caretPosition; i++) {
+            if (!Character.isWhitespace(text.charAt(i - 1))) {
+                continue;
+            }
+            for (Prefix prefix : prefixes) {
+                String prefixText = prefix.getPrefix();
+                if (text.startsWith(prefixText, i) && i + prefixText.length() <= caretPosition) {
+                    valueStart = prefix.equals(valuePrefix) ? i + prefixText.length() : -1;
+                    break;
+                }
+            }
+        }
+        return valueStart;
+    }
+
+    private static int skipWhitespace(String text, int from, int to) {
+        int i = from;
+        while (i < to && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int findWordEnd(String text, int wordStart) {
+        int i = wordStart;
+        while (i < text.length() && !Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int findWordStart(String text, int caretPosition) {
+        int i = caretPosition;
+        while (i > 0 && !Character.isWhitespace(text.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static CompletionDictionary createDictionary(String... words) {
+        CompletionDictionary dictionary = new CompletionDictionary();
+        for (String word : words) {
+            dictionary.add(word);
+        }
+        return dictionary;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A completion of the word being typed in a command: the text that replaces everything from {@code start} up to
+ * the caret. Guarantees: immutable.
+ */
+public class Completion {
+
+    private final int start;
+    private final String text;
+
+    /**
+     * Constructs a {@code Completion} that replaces the input from {@code start} up to the caret with {@code text}.
+     */
+    public Completion(int start, String text) {
+        requireNonNull(text);
+        assert start >= 0;
+        this.start = start;
+        this.text = text;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the part of the completion that has not been typed yet, for input typed up to {@code caretPosition}.
+     */
+    public String getRemainder(int caretPosition) {
+        return text.substring(caretPosition - start);
+    }
+
+    /**
+     * Returns {@code input} with the text typed from the start of this completion up to {@code caretPosition}
+     * replaced by the completion.
+     */
+    public String applyTo(String input, int caretPosition) {
+        return input.substring(0, start) + text + input.substring(caretPosition);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Completion)) {
+            return false;
+        }
+
+        Completion otherCompletion = (Completion) other;
+        return start == otherCompletion.start && text.equals(otherCompletion.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, text);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("text", text)
+                .toString();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A sorted dictionary of words that completes prefixes, ignoring case.
+ *
+ * Words are kept in case-insensitive order, so the words starting with a prefix form one contiguous range that
+ * starts at the prefix itself. Completing a prefix takes O(log n) time, and words can be added and removed at any
+ * time in O(log n). Each word is counted, so a word added several times is kept until it is removed as often.
+ */
+public class CompletionDictionary {
+
+    private static final Comparator<String> ORDER =
+            String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
+    private final TreeMap<String, Integer> counts = new TreeMap<>(ORDER);
+
+    /**
+     * Adds one occurrence of {@code word}.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        counts.merge(word, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, if there is any.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        counts.computeIfPresent(word, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns true if the dictionary holds {@code word}, with the same case.
+     */
+    public boolean contains(String word) {
+        requireNonNull(word);
+        return counts.containsKey(word);
+    }
+
+    /**
+     * Returns the first word, in case-insensitive order, that starts with {@code prefix} ignoring case and is longer
+     * than it. Words that only differ from {@code prefix} in case are already complete, so they are skipped.
+     */
+    public Optional<String> complete(String prefix) {
+        return getCompletions(prefix, 1).stream().findFirst();
+    }
+
+    /**
+     * Returns up to {@code limit} words that complete {@code prefix} as in {@link #complete(String)}, ranked in
+     * case-insensitive order. This takes O(log n + k) time for k returned words.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        assert limit >= 0;
+        List<String> completions = new ArrayList<>();
+        for (String word : counts.tailMap(prefix, true).keySet()) {
+            if (completions.size() == limit || !word.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                // Enough words, or past the range of words starting with the prefix
+                break;
+            }
+            if (word.length() > prefix.length()) {
+                completions.add(word);
+            }
+        }
+        return completions;
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.completion;
+
+import java.util.function.Consumer;
+
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps a completion dictionary in step with a list of persons.
+ */
+class PersonListFollower {
+
+    private PersonListFollower() {} // prevents instantiation
+
+    /**
+     * Passes every person in {@code persons} to {@code onAdded}, and from then on every person added to or removed
+     * from the list to {@code onAdded} or {@code onRemoved}. An edited person is removed, then added again.
+     */
+    static void follow(ListenableList<Person> persons, Consumer<Person> onAdded, Consumer<Person> onRemoved) {
+        persons.forEach(onAdded);
+        persons.addListener(change -> {
+            change.getRemoved().forEach(onRemoved);
+            change.getAdded().forEach(onAdded);
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_RESEARCH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_TITLE;
+
+import java.util.Optional;
+
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Completes the tag being typed in a command from the tags of the persons in a list.
+ *
+ * The tag names are kept in dictionaries that are updated as persons are added, edited and removed, so completing
+ * a tag never scans the persons. A tag typed after {@code t/} is completed from every tag, while one typed after
+ * {@code rtt/} or {@code jtt/} is completed from research or job title tags only.
+ */
+public class TagCompleter {
+
+    private static final String RESEARCH_TAG_TYPE = "research";
+    private static final String TITLE_TAG_TYPE = "title";
+    private static final Prefix[] TAG_PREFIXES = {PREFIX_TAG_RESEARCH, PREFIX_TAG_TITLE, PREFIX_TAG};
+
+    private final CompletionDictionary allTags = new CompletionDictionary();
+    private final CompletionDictionary researchTags = new CompletionDictionary();
+    private final CompletionDictionary titleTags = new CompletionDictionary();
+
+    /**
+     * Creates a {@code TagCompleter} for the tags of {@code persons}, which it follows as the list changes.
+     */
+    public TagCompleter(ListenableList<Person> persons) {
+        requireNonNull(persons);
+        PersonListFollower.follow(persons, this::addTags, this::removeTags);
+    }
+
+    /**
+     * Returns the tag that completes the tag being typed before {@code caretPosition} in {@code text}, or an empty
+     * {@code Optional} if no tag is being typed there or no longer tag starts with it.
+     */
+    public Optional<String> getSuggestion(String text, int caretPosition) {
+        int wordStart = findWordStart(text, caretPosition);
+        Prefix prefix = findTagPrefix(text, wordStart, caretPosition);
+        if (prefix == null) {
+            return Optional.empty();
+        }
+        String partialTag = text.substring(wordStart + prefix.getPrefix().length(), caretPosition);
+        if (prefix == PREFIX_TAG_RESEARCH) {
+            return researchTags.complete(partialTag);
+        }
+        if (prefix == PREFIX_TAG_TITLE) {
+            return titleTags.complete(partialTag);
+        }
+        return allTags.complete(partialTag);
+    }
+
+    /**
+     * Returns the index in {@code text} at which the tag being typed before {@code caretPosition} starts, or -1 if
+     * the word before {@code caretPosition} does not start with a tag prefix.
+     */
+    public static int findTagStart(String text, int caretPosition) {
+        int wordStart = findWordStart(text, caretPosition);
+        Prefix prefix = findTagPrefix(text, wordStart, caretPosition);
+        return prefix == null ? -1 : wordStart + prefix.getPrefix().length();
+    }
+
+    private static int findWordStart(String text, int caretPosition) {
+        int wordStart = caretPosition;
+        while (wordStart > 0 && !Character.isWhitespace(text.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        return wordStart;
+    }
+
+    /**
+     * Returns the tag prefix that the word from {@code wordStart} to {@code caretPosition} starts with, or null.
+     */
+    private static Prefix findTagPrefix(String text, int wordStart, int caretPosition) {
+        for (Prefix prefix : TAG_PREFIXES) {
+            String prefixText = prefix.getPrefix();
+            if (caretPosition - wordStart >= prefixText.length() && text.startsWith(prefixText, wordStart)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private void addTags(Person person) {
+        for (Tag tag : person.getTags()) {
+            allTags.add(tag.tagName);
+            getTypedTags(tag).ifPresent(tags -> tags.add(tag.tagName));
+        }
+    }
+
+    private void removeTags(Person person) {
+        for (Tag tag : person.getTags()) {
+            allTags.remove(tag.tagName);
+            getTypedTags(tag).ifPresent(tags -> tags.remove(tag.tagName));
+        }
+    }
+
+    private Optional<CompletionDictionary> getTypedTags(Tag tag) {
+        switch (tag.tagType) {
+        case RESEARCH_TAG_TYPE:
+            return Optional.of(researchTags);
+        case TITLE_TAG_TYPE:
+            return Optional.of(titleTags);
+        default:
+            return Optional.empty();
+        }
+    }
+}
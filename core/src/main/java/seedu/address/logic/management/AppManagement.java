@@ -0,0 +1,210 @@
+package seedu.address.logic.management;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.logic.Logic;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Exposes a running app through JMX as {@link #OBJECT_NAME}.
+ *
+ * The sizes are read without waiting for the model worker, so that a busy worker does not keep a slow instance from
+ * being inspected; they may be out of date by the command that is running. The operations run on the model worker,
+ * after the commands submitted before them, as the changes to the model must.
+ */
+public class AppManagement implements AppManagementMBean {
+
+    public static final String OBJECT_NAME = "seedu.address:type=AppManagement";
+
+    /** How long an operation waits for the model worker to run it. */
+    static final long OPERATION_TIMEOUT_SECONDS = 60;
+
+    private static final Logger logger = LogsCenter.getLogger(AppManagement.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final Storage storage;
+
+    /**
+     * Creates an {@code AppManagement} of the app with {@code logic} and {@code storage}.
+     */
+    public AppManagement(Logic logic, Storage storage) {
+        requireNonNull(logic);
+        requireNonNull(storage);
+        this.logic = logic;
+        this.model = logic.getModel();
+        this.storage = storage;
+    }
+
+    /**
+     * Registers this with the platform MBean server, logging instead of failing if it cannot be, as the app runs
+     * without it.
+     */
+    public void register() {
+        try {
+            getServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            logger.warning("Could not register for JMX: " + e);
+        }
+    }
+
+    /**
+     * Unregisters this from the platform MBean server, if it is registered.
+     */
+    public void unregister() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (getServer().isRegistered(name)) {
+                getServer().unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            logger.warning("Could not unregister from JMX: " + e);
+        }
+    }
+
+    private static MBeanServer getServer() {
+        return ManagementFactory.getPlatformMBeanServer();
+    }
+
+    @Override
+    public int getPersonCount() {
+        return model.getAddressBook().getPersonList().size();
+    }
+
+    @Override
+    public int getReminderCount() {
+        return model.getAddressBook().getReminderList().size();
+    }
+
+    @Override
+    public int getShownPersonCount() {
+        return model.getFilteredPersonList().size();
+    }
+
+    @Override
+    public int getShownReminderCount() {
+        return model.getFilteredReminderList().size();
+    }
+
+    @Override
+    public double getLastLoadMillis() {
+        return storage.getStorageMetrics().getLastReadNanos() / 1e6;
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return storage.getStorageMetrics().getLastSaveNanos() / 1e6;
+    }
+
+    @Override
+    public long getLastSavedBytes() {
+        return storage.getStorageMetrics().getLastSavedBytes();
+    }
+
+    @Override
+    public long getTotalSavedBytes() {
+        return storage.getStorageMetrics().getTotalSavedBytes();
+    }
+
+    @Override
+    public long getSaveCount() {
+        return storage.getStorageMetrics().getSaveCount();
+    }
+
+    @Override
+    public long getCommandCount() {
+        return model.getMetricsRegistry().getAllCommandMetrics().stream()
+                .mapToLong(CommandMetrics::getRunCount)
+                .sum();
+    }
+
+    @Override
+    public long getFailedCommandCount() {
+        return model.getMetricsRegistry().getAllCommandMetrics().stream()
+                .mapToLong(CommandMetrics::getFailureCount)
+                .sum();
+    }
+
+    @Override
+    public String getCommandMetricsReport() {
+        return model.getMetricsRegistry().getReport();
+    }
+
+    @Override
+    public String getLogLevel() {
+        return LogsCenter.getLogLevel().getName();
+    }
+
+    @Override
+    public void setLogLevel(String level) {
+        requireNonNull(level);
+        LogsCenter.setLogLevel(Level.parse(level.trim().toUpperCase()));
+    }
+
+    @Override
+    public void forceSave() {
+        runOnModelWorker(() -> {
+            logic.saveAddressBook();
+            return null;
+        });
+        logger.info("Saved the address book through JMX");
+    }
+
+    @Override
+    public int reload() {
+        int personCount = runOnModelWorker(() -> {
+            ReadOnlyAddressBook addressBook = storage.readAddressBook().orElseThrow(() ->
+                    new IllegalStateException("There is no data file at " + storage.getAddressBookFilePath()));
+            model.setAddressBook(addressBook);
+            model.cleanUpOrphanedReminders();
+            return addressBook.getPersonList().size();
+        });
+        logger.info("Reloaded the address book through JMX");
+        return personCount;
+    }
+
+    @Override
+    public int cleanUpOrphanedReminders() {
+        int removedCount = runOnModelWorker(model::cleanUpOrphanedReminders);
+        logger.info("Removed " + removedCount + " orphaned reminders through JMX");
+        return removedCount;
+    }
+
+    /**
+     * Runs {@code task} on the model worker, once the address book is loaded, and returns its result.
+     * Failures are rethrown as {@code IllegalStateException}s with only their message, as a JMX client need not
+     * have the classes of the app's exceptions.
+     */
+    private <T> T runOnModelWorker(Callable<T> task) {
+        try {
+            // Saving or reloading a partly loaded address book would lose the rest of it
+            return logic.getAddressBookLoad()
+                    .handle((unused, error) -> null)
+                    .thenCompose(unused -> logic.getModelWorker().submit(task))
+                    .get(OPERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("The app did not finish its running commands in "
+                    + OPERATION_TIMEOUT_SECONDS + " seconds");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the app");
+        }
+    }
+}
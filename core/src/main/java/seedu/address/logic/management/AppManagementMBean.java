@@ -0,0 +1,51 @@
+package seedu.address.logic.management;
+
+/**
+ * The JMX management interface of a running app, e.g. for jconsole: the sizes of the model, the metrics of storage
+ * and commands, and maintenance operations.
+ */
+public interface AppManagementMBean {
+
+    int getPersonCount();
+
+    int getReminderCount();
+
+    /** Returns the number of persons in the filtered person list. */
+    int getShownPersonCount();
+
+    /** Returns the number of reminders in the filtered reminder list. */
+    int getShownReminderCount();
+
+    double getLastLoadMillis();
+
+    double getLastSaveMillis();
+
+    /** Returns the size of the data file written by the latest save. */
+    long getLastSavedBytes();
+
+    /** Returns the number of bytes written by all the saves since the app started. */
+    long getTotalSavedBytes();
+
+    long getSaveCount();
+
+    long getCommandCount();
+
+    long getFailedCommandCount();
+
+    /** Returns the latency and allocation percentiles of the commands run, as shown by the {@code stats} command. */
+    String getCommandMetricsReport();
+
+    String getLogLevel();
+
+    /** Sets the log level, e.g. {@code FINE} to investigate a problem without restarting. */
+    void setLogLevel(String level);
+
+    /** Saves the address book, after the commands submitted before. */
+    void forceSave();
+
+    /** Replaces the address book with the one in the data file, and returns the number of persons read. */
+    int reload();
+
+    /** Removes the reminders of persons no longer in the address book, and returns the number removed. */
+    int cleanUpOrphanedReminders();
+}
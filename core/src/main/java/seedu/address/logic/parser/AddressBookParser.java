@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -21,6 +22,8 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
 import seedu.address.logic.commands.ReminderCommand;
+import seedu.address.logic.commands.ReminderListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.ViewNoteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -36,6 +39,26 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    /**
+     * Command words of the commands that never change the address book. Exit is left out, so that it waits for the
+     * address book to load rather than stopping the app part way through.
+     */
+    private static final Set<String> READ_ONLY_COMMAND_WORDS = Set.of(ListCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD);
+
+    /**
+     * Returns true if {@code userInput} is for a command that never changes the address book, so it may run while
+     * the address book is still being loaded. Only the command word, and the sub-command word of reminder commands,
+     * are looked at, so this is cheap enough to call before the command is parsed.
+     */
+    public static boolean isReadOnly(String userInput) {
+        String[] words = userInput.trim().split("\\s+", 3);
+        if (words[0].equals(ReminderCommand.COMMAND_WORD)) {
+            return words.length > 1 && words[1].equals(ReminderListCommand.SUB_COMMAND_WORD);
+        }
+        return READ_ONLY_COMMAND_WORDS.contains(words[0]);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -55,7 +78,7 @@ public class AddressBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         switch (commandWord) {
 
@@ -92,6 +115,9 @@ public class AddressBookParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         case DeleteNoteCommand.COMMAND_WORD:
             return new DeleteNoteCommandParser().parse(arguments);
 
@@ -102,7 +128,7 @@ public class AddressBookParser {
             return new ViewNoteCommandParser().parse(arguments);
 
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
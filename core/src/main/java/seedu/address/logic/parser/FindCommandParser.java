@@ -9,12 +9,16 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_TITLE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
 import seedu.address.model.person.NoteContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -29,6 +33,20 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        return new FindCommand(parsePredicate(args, false));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments of a find command that is still being typed, and returns the
+     * predicate to filter persons with as the user types. Names match as in {@link NameStartsWithKeywordsPredicate},
+     * so that a partly typed word already matches and each keystroke narrows the matches.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Predicate<Person> parseLiveSearch(String args) throws ParseException {
+        return parsePredicate(args, true);
+    }
+
+    private Predicate<Person> parsePredicate(String args, boolean isLiveSearch) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -68,12 +86,14 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (containsMultipleSearch) {
             throw new ParseException(MESSAGE_MULTIPLE_SEARCH);
         } else if (!tagKeywords.isEmpty()) {
-            return new FindCommand(new TagContainsKeywordsPredicate(tagKeywords));
+            return new TagContainsKeywordsPredicate(tagKeywords);
         } else if (!noteKeywords.isEmpty()) {
-            return new FindCommand(new NoteContainsKeywordsPredicate(noteKeywords));
+            return new NoteContainsKeywordsPredicate(noteKeywords);
         } else {
-            String[] allNameKeywords = trimmedArgs.split("\\s+");
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(allNameKeywords)));
+            List<String> allNameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+            return isLiveSearch
+                    ? new NameStartsWithKeywordsPredicate(allNameKeywords)
+                    : new NameContainsKeywordsPredicate(allNameKeywords);
         }
     }
 }
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -18,6 +19,7 @@ import seedu.address.model.person.Note;
 import seedu.address.model.person.Phone;
 import seedu.address.model.reminder.Date;
 import seedu.address.model.reminder.Message;
+import seedu.address.model.reminder.Recurrence;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -204,11 +206,7 @@ public class ParserUtil {
 
     public static Date parseDate(String date) throws ParseException {
         requireNonNull(date);
-        String trimmedDate = date.trim();
-        if (!Date.isValidDate(trimmedDate)) {
-            throw new ParseException(Date.MESSAGE_CONSTRAINTS);
-        }
-        return new Date(trimmedDate);
+        return Date.parse(date).orElseThrow(() -> new ParseException(Date.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -226,4 +224,30 @@ public class ParserUtil {
         }
         return new Message(trimmedMessage);
     }
+
+    /**
+     * Parses a {@code String rule} and an optional {@code end} date into a {@code Recurrence}
+     * for a reminder starting on {@code start}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code rule} or {@code end} is invalid, or {@code end} is before
+     *     {@code start}.
+     */
+    public static Recurrence parseRecurrence(String rule, Optional<String> end, Date start) throws ParseException {
+        requireNonNull(rule);
+        requireNonNull(end);
+        requireNonNull(start);
+        String trimmedRule = rule.trim();
+        if (!Recurrence.isValidRecurrence(trimmedRule)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        if (end.isEmpty()) {
+            return new Recurrence(trimmedRule);
+        }
+        Date endDate = parseDate(end.get());
+        if (endDate.compareTo(start) < 0) {
+            throw new ParseException(Recurrence.MESSAGE_END_BEFORE_START);
+        }
+        return new Recurrence(trimmedRule, endDate);
+    }
 }
@@ -4,7 +4,10 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MESSAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -13,12 +16,16 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Name;
 import seedu.address.model.reminder.Date;
 import seedu.address.model.reminder.Message;
+import seedu.address.model.reminder.Recurrence;
 
 /**
  * Parses input arguments and creates a new ReminderAddCommand object.
  */
 public class ReminderAddCommandParser implements Parser<ReminderAddCommand> {
 
+    public static final String MESSAGE_UNTIL_WITHOUT_RECURRENCE =
+            "An end date 'u/' can only be given together with a recurrence 'r/'.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ReminderAddCommand
      * and returns a ReminderAddCommand object for execution.
@@ -26,8 +33,8 @@ public class ReminderAddCommandParser implements Parser<ReminderAddCommand> {
      */
     public ReminderAddCommand parse(String args) throws ParseException {
         // Tokenize for all possible prefixes
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DATE, PREFIX_MESSAGE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DATE, PREFIX_MESSAGE,
+                PREFIX_RECURRENCE, PREFIX_UNTIL);
 
         // All fields except the person identifier (index or name) are mandatory.
         if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_MESSAGE)) {
@@ -45,17 +52,28 @@ public class ReminderAddCommandParser implements Parser<ReminderAddCommand> {
                     + ReminderAddCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_DATE, PREFIX_MESSAGE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_DATE, PREFIX_MESSAGE, PREFIX_RECURRENCE,
+                PREFIX_UNTIL);
 
         Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
         Message message = ParserUtil.parseMessage(argMultimap.getValue(PREFIX_MESSAGE).get());
 
+        Optional<String> recurrenceRule = argMultimap.getValue(PREFIX_RECURRENCE);
+        Optional<String> recurrenceEnd = argMultimap.getValue(PREFIX_UNTIL);
+        if (recurrenceRule.isEmpty() && recurrenceEnd.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MESSAGE_UNTIL_WITHOUT_RECURRENCE + "\n" + ReminderAddCommand.MESSAGE_USAGE));
+        }
+        Recurrence recurrence = recurrenceRule.isPresent()
+                ? ParserUtil.parseRecurrence(recurrenceRule.get(), recurrenceEnd, date)
+                : Recurrence.NONE;
+
         if (isIndexPresent) {
             Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
-            return new ReminderAddCommand(index, date, message);
+            return new ReminderAddCommand(index, date, message, recurrence);
         } else {
             Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
-            return new ReminderAddCommand(name, date, message);
+            return new ReminderAddCommand(name, date, message, recurrence);
         }
     }
 
@@ -45,7 +45,7 @@ public class ReminderCommandParser implements Parser<Command> {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         switch (commandWord) {
 
@@ -53,13 +53,13 @@ public class ReminderCommandParser implements Parser<Command> {
             return new ReminderAddCommandParser().parse(arguments);
 
         case ReminderListCommand.SUB_COMMAND_WORD:
-            return new ReminderListCommand();
+            return new ReminderListCommandParser().parse(arguments);
 
         case ReminderMarkCommand.SUB_COMMAND_WORD:
             return new ReminderMarkCommandParser().parse(arguments);
 
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
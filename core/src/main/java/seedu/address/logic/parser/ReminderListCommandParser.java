@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ReminderListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.reminder.Date;
+
+/**
+ * Parses input arguments and creates a new ReminderListCommand object
+ */
+public class ReminderListCommandParser implements Parser<ReminderListCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "The number of reminders to list must be a positive integer "
+            + "of at most " + ReminderListCommand.MAX_NEXT_COUNT + ".";
+
+    public static final String MESSAGE_RANGE_END_BEFORE_START = "The end of the range cannot be before its start.";
+
+    /** The earliest and latest years a range may cover, so that the occurrences within it can be computed. */
+    public static final int MIN_RANGE_YEAR = 1;
+    public static final int MAX_RANGE_YEAR = 9999;
+
+    public static final String MESSAGE_RANGE_OUT_OF_BOUNDS = "The range must be within the years " + MIN_RANGE_YEAR
+            + " to " + MAX_RANGE_YEAR + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReminderListCommand
+     * and returns a ReminderListCommand object for execution.
+     * Arguments other than a range, {@code overdue} or {@code next COUNT} are ignored, as with other list commands.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReminderListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (argMultimap.getValue(PREFIX_FROM).isPresent() || argMultimap.getValue(PREFIX_TO).isPresent()) {
+            return parseRange(argMultimap);
+        }
+
+        String[] keywords = argMultimap.getPreamble().split("\\s+");
+        switch (keywords[0]) {
+        case ReminderListCommand.OVERDUE_KEYWORD:
+            if (keywords.length != 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderListCommand.MESSAGE_USAGE));
+            }
+            return ReminderListCommand.overdue();
+        case ReminderListCommand.NEXT_KEYWORD:
+            if (keywords.length != 2) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderListCommand.MESSAGE_USAGE));
+            }
+            if (!StringUtil.isNonZeroUnsignedInteger(keywords[1])
+                    || Integer.parseInt(keywords[1]) > ReminderListCommand.MAX_NEXT_COUNT) {
+                throw new ParseException(MESSAGE_INVALID_COUNT);
+            }
+            return new ReminderListCommand(Integer.parseInt(keywords[1]));
+        default:
+            return new ReminderListCommand();
+        }
+    }
+
+    private ReminderListCommand parseRange(ArgumentMultimap argMultimap) throws ParseException {
+        if (argMultimap.getValue(PREFIX_FROM).isEmpty() || argMultimap.getValue(PREFIX_TO).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderListCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+
+        Date from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        Date to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (to.compareTo(from) < 0) {
+            throw new ParseException(MESSAGE_RANGE_END_BEFORE_START);
+        }
+        if (from.value.getYear() < MIN_RANGE_YEAR || to.value.getYear() > MAX_RANGE_YEAR) {
+            throw new ParseException(MESSAGE_RANGE_OUT_OF_BOUNDS);
+        }
+        return new ReminderListCommand(from, to);
+    }
+}
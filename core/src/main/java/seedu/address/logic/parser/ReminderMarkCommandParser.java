@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
 import java.util.List;
 
@@ -16,10 +17,14 @@ public class ReminderMarkCommandParser implements Parser<ReminderMarkCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the ReminderMarkCommand
      * and returns a ReminderMarkCommand object for execution.
-     * Duplicate indexes are removed
+     * Duplicate indexes are removed. With {@code to/DATE}, a single index must be given.
      * @throws ParseException if the user input does not conform the expected format
      */
     public ReminderMarkCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TO);
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            return parseUntil(argMultimap);
+        }
         try {
             List<Index> indexes = ParserUtil.parseIndexes(args);
             List<Index> uniqueIndexes = indexes.stream().distinct().toList();
@@ -30,4 +35,15 @@ public class ReminderMarkCommandParser implements Parser<ReminderMarkCommand> {
         }
     }
 
+    private ReminderMarkCommand parseUntil(ArgumentMultimap argMultimap) throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TO);
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderMarkCommand.MESSAGE_USAGE), pe);
+        }
+        return new ReminderMarkCommand(index, ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get()));
+    }
 }
@@ -0,0 +1,195 @@
+package seedu.address.logic.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.NarrowablePredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Filters the person list as a find command is typed.
+ *
+ * Queries are evaluated on a background thread, and their matches are shown through
+ * {@link Model#updateFilteredPersonList(Predicate)} by tasks on the model executor, which is the only one to use the
+ * model. Only the latest query is shown: a query that is replaced while it is evaluated stops early, and one that is
+ * replaced before it starts does not run at all. A query that narrows the last evaluated one, e.g. because more
+ * characters were typed, only tests the persons that query matched.
+ */
+public class LiveSearch {
+
+    private static final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+    private static final String FIND_COMMAND_START = FindCommand.COMMAND_WORD + " ";
+    // How many persons are tested between checks for a newer query
+    private static final int CANCELLATION_CHECK_INTERVAL = 256;
+
+    private final Model model;
+    private final Executor evaluator;
+    private final Executor modelExecutor;
+    private final FindCommandParser findCommandParser = new FindCommandParser();
+    private final AtomicLong latestQuery = new AtomicLong();
+
+    // The last query that was evaluated to the end, which later queries may narrow
+    private volatile SearchResult lastResult;
+
+    // True while the person list shows the matches of a live search; only accessed on the model executor
+    private boolean isShowingResult = false;
+
+    /**
+     * Creates a {@code LiveSearch} that evaluates queries with {@code evaluator}, and uses {@code model} only in
+     * tasks run by {@code modelExecutor}. Both must run tasks one at a time in order.
+     */
+    public LiveSearch(Model model, Executor evaluator, Executor modelExecutor) {
+        requireNonNull(model);
+        requireNonNull(evaluator);
+        requireNonNull(modelExecutor);
+        this.model = model;
+        this.evaluator = evaluator;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Creates a {@code LiveSearch} that evaluates queries on a background thread of its own.
+     */
+    public LiveSearch(Model model, Executor modelExecutor) {
+        this(model, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        }), modelExecutor);
+    }
+
+    /**
+     * Filters the person list by {@code commandText} if it is a find command, replacing any query that is still
+     * being evaluated. If it is not, or has no keywords yet, the person list shows all persons again if it shows the
+     * matches of a live search. A find command that is not valid leaves the person list as it is.
+     */
+    public void update(String commandText) {
+        requireNonNull(commandText);
+        // The query replaces older ones at once, even before it runs on the model executor
+        long queryId = latestQuery.incrementAndGet();
+        modelExecutor.execute(() -> updateOnModel(commandText, queryId));
+    }
+
+    /**
+     * Stops any query that is being evaluated and leaves the person list as it is, e.g. before a command is executed
+     * that sets the person list itself.
+     */
+    public void reset() {
+        latestQuery.incrementAndGet();
+        modelExecutor.execute(() -> isShowingResult = false);
+    }
+
+    private void updateOnModel(String commandText, long queryId) {
+        if (latestQuery.get() != queryId || !model.getUserPrefs().isLiveSearchEnabled()) {
+            return;
+        }
+
+        String trimmedText = commandText.stripLeading();
+        String args = trimmedText.startsWith(FIND_COMMAND_START)
+                ? trimmedText.substring(FIND_COMMAND_START.length())
+                : "";
+        if (args.isBlank()) {
+            if (isShowingResult) {
+                isShowingResult = false;
+                model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            }
+            return;
+        }
+
+        try {
+            search(findCommandParser.parseLiveSearch(args), queryId);
+        } catch (ParseException pe) {
+            logger.finer(() -> "Not filtering by invalid find command: " + pe.getMessage());
+        }
+    }
+
+    private void search(Predicate<Person> query, long queryId) {
+        SearchResult base = lastResult;
+        boolean isNarrowing = base != null && query instanceof NarrowablePredicate
+                && ((NarrowablePredicate) query).narrows(base.query);
+        // The evaluator must not read the person list, so it runs on a copy
+        List<Person> candidates = isNarrowing ? base.matches : List.copyOf(model.getAddressBook().getPersonList());
+
+        evaluator.execute(() -> {
+            SearchResult result = evaluate(queryId, query, candidates, isNarrowing ? base.scope : null);
+            if (result == null) {
+                return;
+            }
+            lastResult = result;
+            modelExecutor.execute(() -> show(queryId, result));
+        });
+    }
+
+    /**
+     * Tests {@code candidates} against {@code query}, or returns null if a newer query is made meanwhile.
+     *
+     * @param scope The persons the candidates were chosen from, or null if the candidates are all persons.
+     */
+    private SearchResult evaluate(long queryId, Predicate<Person> query, List<Person> candidates,
+            Set<Person> scope) {
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && latestQuery.get() != queryId) {
+                return null;
+            }
+            Person candidate = candidates.get(i);
+            if (query.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return new SearchResult(query, scope != null ? scope : toIdentitySet(candidates), matches);
+    }
+
+    private void show(long queryId, SearchResult result) {
+        if (latestQuery.get() != queryId) {
+            return;
+        }
+        isShowingResult = true;
+        model.updateFilteredPersonList(result);
+    }
+
+    private static Set<Person> toIdentitySet(List<Person> persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>(persons.size() * 2));
+        set.addAll(persons);
+        return set;
+    }
+
+    /**
+     * The matches of a query among the persons in its scope. Persons are immutable, so a person in the scope
+     * matches exactly if it is one of the matches, and only persons added or edited since need to be tested again.
+     */
+    private static class SearchResult implements Predicate<Person> {
+        private final Predicate<Person> query;
+        private final Set<Person> scope;
+        private final List<Person> matches;
+        private final Set<Person> matchSet;
+
+        SearchResult(Predicate<Person> query, Set<Person> scope, List<Person> matches) {
+            this.query = query;
+            this.scope = scope;
+            this.matches = Collections.unmodifiableList(matches);
+            this.matchSet = toIdentitySet(matches);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return scope.contains(person) ? matchSet.contains(person) : query.test(person);
+        }
+    }
+}
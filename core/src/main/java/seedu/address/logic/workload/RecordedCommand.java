@@ -0,0 +1,132 @@
+package seedu.address.logic.workload;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A command run in a recorded session: when it started, how long it took and whether it succeeded.
+ *
+ * It is stored as a line of tab-separated fields: the start in milliseconds since the session started, the duration
+ * in microseconds, {@value #SUCCEEDED} or {@value #FAILED}, and the command as entered, which is last as it may
+ * contain tabs.
+ */
+public class RecordedCommand {
+
+    public static final String SUCCEEDED = "ok";
+    public static final String FAILED = "failed";
+
+    public static final String MESSAGE_INVALID_LINE = "Invalid recorded command: %s";
+
+    private static final String SEPARATOR = "\t";
+    private static final int FIELD_COUNT = 4;
+
+    private final long offsetMillis;
+    private final long durationMicros;
+    private final boolean isSuccessful;
+    private final String commandText;
+
+    /**
+     * Creates a {@code RecordedCommand} of {@code commandText}, which must be a single line.
+     */
+    public RecordedCommand(long offsetMillis, long durationMicros, boolean isSuccessful, String commandText) {
+        requireNonNull(commandText);
+        checkArgument(offsetMillis >= 0 && durationMicros >= 0, "Times should not be negative");
+        checkArgument(commandText.indexOf('\n') < 0 && commandText.indexOf('\r') < 0,
+                "A recorded command should be a single line");
+        this.offsetMillis = offsetMillis;
+        this.durationMicros = durationMicros;
+        this.isSuccessful = isSuccessful;
+        this.commandText = commandText;
+    }
+
+    /**
+     * Returns the {@code RecordedCommand} stored as {@code line}.
+     *
+     * @throws IllegalValueException If {@code line} is not a recorded command.
+     */
+    public static RecordedCommand fromLine(String line) throws IllegalValueException {
+        String[] fields = line.split(SEPARATOR, FIELD_COUNT);
+        if (fields.length != FIELD_COUNT || !(fields[2].equals(SUCCEEDED) || fields[2].equals(FAILED))) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, line));
+        }
+        try {
+            return new RecordedCommand(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                    fields[2].equals(SUCCEEDED), fields[3]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, line));
+        }
+    }
+
+    /**
+     * Returns this command as a line of a session file, without the line terminator.
+     */
+    public String toLine() {
+        return String.join(SEPARATOR, String.valueOf(offsetMillis), String.valueOf(durationMicros),
+                isSuccessful ? SUCCEEDED : FAILED, commandText);
+    }
+
+    /**
+     * Returns the time the command started at, in milliseconds since the session started.
+     */
+    public long getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public boolean isSuccessful() {
+        return isSuccessful;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    /**
+     * Returns the first word of the command, which its times are reported under.
+     */
+    public String getCommandWord() {
+        return StringUtil.getFirstWord(commandText);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RecordedCommand)) {
+            return false;
+        }
+
+        RecordedCommand otherCommand = (RecordedCommand) other;
+        return offsetMillis == otherCommand.offsetMillis
+                && durationMicros == otherCommand.durationMicros
+                && isSuccessful == otherCommand.isSuccessful
+                && commandText.equals(otherCommand.commandText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offsetMillis, durationMicros, isSuccessful, commandText);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("offsetMillis", offsetMillis)
+                .add("durationMicros", durationMicros)
+                .add("isSuccessful", isSuccessful)
+                .add("commandText", commandText)
+                .toString();
+    }
+}
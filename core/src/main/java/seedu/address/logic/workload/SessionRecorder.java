@@ -0,0 +1,121 @@
+package seedu.address.logic.workload;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Records the commands run in a session, with when they started, how long they took and whether they succeeded, to a
+ * session file that {@link SessionReplayer} can run again.
+ *
+ * The file starts with comment lines that start with {@value #COMMENT_PREFIX}, followed by a line for each command,
+ * as stored by {@link RecordedCommand#toLine()}. Each line is written out as soon as it is recorded, so the session
+ * is kept even if the app does not exit cleanly.
+ *
+ * The data file the session starts from is copied next to the session file, see {@link #getDataSnapshotPath(Path)},
+ * so that the session can be replayed on the same address book even after the data file has changed.
+ */
+public class SessionRecorder implements Closeable {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String DATA_SNAPSHOT_SUFFIX = ".data.json";
+
+    private static final Logger logger = LogsCenter.getLogger(SessionRecorder.class);
+
+    private final Path filePath;
+    private final BufferedWriter writer;
+    private final long startNanos;
+    private boolean isStopped = false; // set once closed, or once writing fails
+
+    /**
+     * Creates a {@code SessionRecorder} that starts a new session in {@code filePath}, replacing the session in it, on
+     * the address book in {@code dataFilePath}.
+     *
+     * @throws IOException If the file could not be created, or the data file could not be copied.
+     */
+    public SessionRecorder(Path filePath, Path dataFilePath) throws IOException {
+        this(filePath, dataFilePath, System.nanoTime());
+    }
+
+    /**
+     * Creates a {@code SessionRecorder} of a session that started at {@code startNanos} of {@link System#nanoTime()}.
+     */
+    SessionRecorder(Path filePath, Path dataFilePath, long startNanos) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(dataFilePath);
+        FileUtil.createIfMissing(filePath);
+        Path dataSnapshotPath = getDataSnapshotPath(filePath);
+        boolean hasDataFile = Files.exists(dataFilePath);
+        if (hasDataFile) {
+            Files.copy(dataFilePath, dataSnapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            // A snapshot left by an earlier session must not be replayed with this one
+            Files.deleteIfExists(dataSnapshotPath);
+        }
+        this.filePath = filePath;
+        this.writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+        this.startNanos = startNanos;
+        writer.write(COMMENT_PREFIX + " AcademeConnect session started at " + LocalDateTime.now());
+        writer.newLine();
+        writer.write(COMMENT_PREFIX + (hasDataFile
+                ? " Started on " + dataFilePath + ", copied to " + dataSnapshotPath.getFileName()
+                : " Started without a data file at " + dataFilePath));
+        writer.newLine();
+        writer.write(COMMENT_PREFIX + " Start (ms), duration (us), outcome and command, separated by tabs");
+        writer.newLine();
+        writer.flush();
+    }
+
+    /**
+     * Returns the path of the copy of the data file that the session in {@code sessionFilePath} started from. There is
+     * no copy if the session started without a data file.
+     */
+    public static Path getDataSnapshotPath(Path sessionFilePath) {
+        return sessionFilePath.resolveSibling(sessionFilePath.getFileName() + DATA_SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Records {@code commandText}, which started at {@code commandStartNanos} of {@link System#nanoTime()} and took
+     * {@code durationNanos}. If the session file cannot be written to, a warning is logged and no more commands are
+     * recorded, as the commands themselves should not fail.
+     */
+    public synchronized void record(String commandText, long commandStartNanos, long durationNanos,
+            boolean isSuccessful) {
+        requireNonNull(commandText);
+        if (isStopped || commandText.indexOf('\n') >= 0 || commandText.indexOf('\r') >= 0) {
+            // A command of more than one line cannot be entered, so it need not be replayed either
+            return;
+        }
+        RecordedCommand command = new RecordedCommand(Math.max(0, (commandStartNanos - startNanos) / 1_000_000),
+                Math.max(0, durationNanos / 1000), isSuccessful, commandText);
+        try {
+            writer.write(command.toLine());
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            isStopped = true;
+            logger.warning("Stopped recording the session to " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        isStopped = true;
+        writer.close();
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.logic.workload;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.metrics.Histogram;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the commands of a session recorded by a {@link SessionRecorder} again, without the GUI, and reports the
+ * percentiles of their times by command word, next to the times recorded.
+ *
+ * The commands run one after another, without the pauses between them in the session, and each saves the address
+ * book as in the app. A session can be replayed more than once, e.g. on a fresh copy of the same data file each time,
+ * and the times of all the replays are reported together.
+ */
+public class SessionReplayer {
+
+    public static final String MESSAGE_MISMATCH = "%s\n    succeeded when recorded, but failed when replayed: %s";
+    public static final String MESSAGE_UNEXPECTED_SUCCESS = "%s\n    failed when recorded, but succeeded when replayed";
+    public static final String MESSAGE_SUMMARY = "Replayed %d commands, %d with a different outcome than recorded. "
+            + "Times in ms:";
+
+    private static final String HEADER_FORMAT = "%-16s %7s %9s %9s %9s %9s %14s\n";
+    private static final String ROW_FORMAT = "%-16s %7d %9.2f %9.2f %9.2f %9.2f %14.2f\n";
+
+    private final PrintStream err;
+    // The times of each command word in microseconds, in the session and when replayed
+    private final Map<String, Histogram> recordedMicros = new TreeMap<>();
+    private final Map<String, Histogram> replayedMicros = new TreeMap<>();
+    private int commandCount = 0;
+    private int mismatchCount = 0;
+
+    /**
+     * Creates a {@code SessionReplayer} that reports commands whose outcome differs from the session to {@code err}.
+     */
+    public SessionReplayer(PrintStream err) {
+        requireNonNull(err);
+        this.err = err;
+    }
+
+    /**
+     * Returns the commands of the session in {@code filePath}.
+     *
+     * @throws IOException If the file could not be read.
+     * @throws DataLoadingException If the file is not a session.
+     */
+    public static List<RecordedCommand> readSession(Path filePath) throws IOException, DataLoadingException {
+        requireNonNull(filePath);
+        List<RecordedCommand> session = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith(SessionRecorder.COMMENT_PREFIX)) {
+                    continue;
+                }
+                session.add(RecordedCommand.fromLine(line));
+            }
+        } catch (IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+        return session;
+    }
+
+    /**
+     * Runs the commands of {@code session} with {@code logic}, and records their times.
+     */
+    public void replay(Logic logic, List<RecordedCommand> session) {
+        requireNonNull(logic);
+        requireNonNull(session);
+        for (RecordedCommand command : session) {
+            boolean isSuccessful = true;
+            String failure = null;
+            long start = System.nanoTime();
+            try {
+                logic.execute(command.getCommandText());
+            } catch (CommandException | ParseException e) {
+                isSuccessful = false;
+                failure = e.getMessage();
+            }
+            long durationMicros = (System.nanoTime() - start) / 1000;
+
+            String commandWord = command.getCommandWord();
+            recordedMicros.computeIfAbsent(commandWord, unused -> new Histogram()).record(command.getDurationMicros());
+            replayedMicros.computeIfAbsent(commandWord, unused -> new Histogram()).record(durationMicros);
+            commandCount++;
+            if (isSuccessful != command.isSuccessful()) {
+                mismatchCount++;
+                err.println(isSuccessful
+                        ? String.format(MESSAGE_UNEXPECTED_SUCCESS, command.getCommandText())
+                        : String.format(MESSAGE_MISMATCH, command.getCommandText(), failure));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of commands replayed.
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the number of commands replayed that failed when they succeeded in the session, or the other way round,
+     * e.g. because they were replayed on a different address book.
+     */
+    public int getMismatchCount() {
+        return mismatchCount;
+    }
+
+    /**
+     * Returns the times of the commands replayed with {@code commandWord}, in microseconds.
+     */
+    public Histogram getReplayedMicros(String commandWord) {
+        return replayedMicros.getOrDefault(commandWord, new Histogram());
+    }
+
+    /**
+     * Returns the count and percentiles of the times of each command word replayed, with the median recorded.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUMMARY, commandCount, mismatchCount))
+                .append('\n')
+                .append(String.format(HEADER_FORMAT, "command", "count", "p50", "p90", "p99", "max",
+                        "recorded p50"));
+        replayedMicros.forEach((commandWord, histogram) -> report.append(String.format(ROW_FORMAT,
+                commandWord.isEmpty() ? "(empty)" : commandWord, histogram.getCount(),
+                toMillis(histogram.getPercentile(50)), toMillis(histogram.getPercentile(90)),
+                toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax()),
+                toMillis(recordedMicros.get(commandWord).getPercentile(50)))));
+        return report.toString().trim();
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -60,12 +60,35 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.reminders.setReminders(reminders);
     }
 
+    /**
+     * Replaces the contents of the person list with {@code persons}, without checking them for duplicates.
+     * {@code persons} must be known not to contain duplicate persons, e.g. as they were saved from an address book.
+     */
+    public void setUniquePersons(List<Person> persons) {
+        this.persons.setUniquePersons(persons);
+    }
+
+    /**
+     * Replaces the contents of the reminder list with {@code reminders}, without checking them for duplicates.
+     * {@code reminders} must be known not to contain duplicate reminders, e.g. as they were saved from an address book.
+     */
+    public void setUniqueReminders(List<Reminder> reminders) {
+        this.reminders.setUniqueReminders(reminders);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // The lists of another address book hold no duplicates already
+            AddressBook otherAddressBook = (AddressBook) newData;
+            persons.setPersons(otherAddressBook.persons);
+            reminders.setReminders(otherAddressBook.reminders);
+            return;
+        }
         setPersons(newData.getPersonList());
         setReminders(newData.getReminderList());
     }
@@ -88,6 +111,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the address book, without checking them for duplicates.
+     * {@code persons} must be known to contain no duplicate persons and no persons in the address book already.
+     */
+    public void addUniquePersons(List<Person> persons) {
+        this.persons.addUniquePersons(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -125,6 +156,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         reminders.add(reminder);
     }
 
+    /**
+     * Adds {@code reminders} to the address book, without checking them for duplicates.
+     * {@code reminders} must be known to contain no duplicate reminders and no reminders in the address book already.
+     */
+    public void addUniqueReminders(List<Reminder> reminders) {
+        this.reminders.addUniqueReminders(reminders);
+    }
+
     /**
      * Replaces the given reminder {@code target} in the list with {@code editedReminder}.
      * {@code target} must exist in the address book.
@@ -154,13 +193,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     @Override
-    public ObservableList<Person> getPersonList() {
-        return persons.asUnmodifiableObservableList();
+    public ListenableList<Person> getPersonList() {
+        return persons.asUnmodifiableListenableList();
     }
 
     @Override
-    public ObservableList<Reminder> getReminderList() {
-        return reminders.asUnmodifiableObservableList();
+    public ListenableList<Reminder> getReminderList() {
+        return reminders.asUnmodifiableListenableList();
     }
 
     @Override
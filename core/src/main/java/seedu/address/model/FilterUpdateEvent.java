@@ -0,0 +1,37 @@
+package seedu.address.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for changing what the filtered person or reminder list of {@link ModelManager} shows.
+ */
+@Name(FilterUpdateEvent.NAME)
+@Label("Filter Update")
+@Category({"AcademeConnect", "Model"})
+@Description("Refiltering the person or reminder list shown")
+@StackTrace(false)
+class FilterUpdateEvent extends jdk.jfr.Event {
+
+    static final String NAME = "seedu.address.FilterUpdate";
+    static final String PERSONS = "persons";
+    static final String REMINDERS = "reminders";
+
+    @Label("List")
+    @Description("The list refiltered: " + PERSONS + " or " + REMINDERS)
+    String list;
+
+    @Label("Filter")
+    @Description("The class of the predicate or query filtered with")
+    String filter;
+
+    @Label("Source Size")
+    @Description("The number of persons or reminders, including reminder occurrences, filtered")
+    int sourceSize;
+
+    @Label("Shown Size")
+    int shownSize;
+}
@@ -1,13 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.metrics.MetricsRegistry;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderSummary;
 
 /**
  * The API of the Model component.
@@ -77,6 +82,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, e.g. as they are being loaded, keeping the filter of the filtered person list.
+     * {@code persons} must contain no duplicate persons and no persons in the address book already.
+     */
+    void addUniquePersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -85,7 +96,7 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /** Returns an unmodifiable view of the filtered person list */
-    ObservableList<Person> getFilteredPersonList();
+    ListenableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
@@ -112,6 +123,12 @@ public interface Model {
      */
     void addReminder(Reminder reminder);
 
+    /**
+     * Adds the given reminders, e.g. as they are being loaded, keeping the filter of the filtered reminder list.
+     * {@code reminders} must contain no duplicate reminders and no reminders in the address book already.
+     */
+    void addUniqueReminders(List<Reminder> reminders);
+
     /**
      * Replaces the given reminder {@code target} with {@code editedReminder}.
      * {@code target} must exist in the address book.
@@ -119,8 +136,18 @@ public interface Model {
      */
     void setReminder(Reminder target, Reminder editedReminder);
 
-    /** Returns an unmodifiable view of the filtered reminder list */
-    ObservableList<Reminder> getFilteredReminderList();
+    /**
+     * Returns an unmodifiable view of the filtered reminder list, as of its last refresh, see
+     * {@link #refreshReminderList()}.
+     */
+    ListenableList<Reminder> getFilteredReminderList();
+
+    /**
+     * Recomputes the reminder list from the stored reminders if they have changed since it was last computed.
+     * Changes to the stored reminders only mark the list as stale, so that a task that makes many changes, such as
+     * a chunk of a load, recomputes it once. It is called after each task on the model worker.
+     */
+    void refreshReminderList();
 
     /**
      * Updates the filter of the filtered reminder list to filter by the given {@code predicate}.
@@ -128,10 +155,49 @@ public interface Model {
      */
     void updateFilteredReminderList(Predicate<Reminder> predicate);
 
+    /**
+     * Updates the filtered reminder list to the uncompleted reminders due between {@code from} and {@code to},
+     * both inclusive.
+     */
+    void updateFilteredReminderListToDueBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Updates the filtered reminder list to the uncompleted reminders that are past their due date.
+     */
+    void updateFilteredReminderListToOverdue();
+
+    /**
+     * Updates the filtered reminder list to the next {@code count} uncompleted reminders that are not yet due.
+     */
+    void updateFilteredReminderListToNext(int count);
+
     /**
      * Returns a list of reminders associated with the given person.
      * @param person The person to get reminders for.
      * @return A list of reminders for the specified person.
      */
     java.util.List<Reminder> getRemindersByPerson(Person person);
+
+    /**
+     * Returns the summary of the upcoming reminders of the given person, which takes constant time.
+     * @param person The person to get the summary for.
+     */
+    ReminderSummary getReminderSummary(Person person);
+
+    /**
+     * Returns the persons whose reminder summaries have changed since this was last called, e.g. to refresh only
+     * their cards.
+     */
+    Set<Person> takePersonsWithChangedReminderSummaries();
+
+    /**
+     * Removes reminders that point to persons that no longer exist in the address book, e.g. as they were left behind
+     * when persons were deleted, and returns the number removed.
+     */
+    int cleanUpOrphanedReminders();
+
+    /**
+     * Returns the metrics of the commands run on this model.
+     */
+    MetricsRegistry getMetricsRegistry();
 }
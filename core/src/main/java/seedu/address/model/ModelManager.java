@@ -0,0 +1,528 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.StringUtil.summarize;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.list.FilteredListenableList;
+import seedu.address.commons.core.list.ListChange;
+import seedu.address.commons.core.list.ListenableArrayList;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderDateIndex;
+import seedu.address.model.reminder.ReminderSummary;
+import seedu.address.model.reminder.ReminderSummaryIndex;
+
+/**
+ * Represents the in-memory model of the address book data.
+ */
+public class ModelManager implements Model {
+    /**
+     * How far ahead of now occurrences of recurring reminders are expanded, beyond the next occurrence of each.
+     * This covers the upcoming reminders view and the due-notification horizon.
+     */
+    public static final Period OCCURRENCE_WINDOW = Period.ofDays(7);
+
+    private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    // The number of persons and reminders logged, so that logging does not take longer for larger address books
+    private static final int MAX_LOGGED_ITEMS = 3;
+
+    private final AddressBook addressBook;
+    private final UserPrefs userPrefs;
+    private final FilteredListenableList<Person> filteredPersons;
+    private final ListenableArrayList<Reminder> reminderOccurrences;
+    private final FilteredListenableList<Reminder> filteredReminders;
+    private final ReminderSummaryIndex reminderSummaries = new ReminderSummaryIndex();
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+    private Supplier<List<Reminder>> reminderQuery = this::getUpcomingOccurrences;
+
+    // Rebuilt lazily after the stored reminders change; null while stale
+    private ReminderDateIndex reminderDateIndex;
+    private List<Reminder> recurringReminders;
+    // Set when the stored reminders change, until the reminder list is recomputed from them
+    private boolean isReminderListStale = false;
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, userPrefs);
+
+        logger.fine(() -> "Initializing with persons " + summarize(addressBook.getPersonList(), MAX_LOGGED_ITEMS)
+                + ", reminders " + summarize(addressBook.getReminderList(), MAX_LOGGED_ITEMS)
+                + " and user prefs " + userPrefs);
+
+        this.addressBook = new AddressBook(addressBook);
+        this.userPrefs = new UserPrefs(userPrefs);
+        filteredPersons = new FilteredListenableList<>(this.addressBook.getPersonList());
+        reminderOccurrences = new ListenableArrayList<>();
+        filteredReminders = new FilteredListenableList<>(reminderOccurrences);
+        this.addressBook.getReminderList().forEach(reminderSummaries::add);
+        this.addressBook.getReminderList().addListener(change -> {
+            reminderDateIndex = null;
+            updateReminderSummaries(change);
+            isReminderListStale = true;
+        });
+
+        cleanUpOrphanedReminders();
+        updateFilteredReminderList(PREDICATE_SHOW_UPCOMING_REMINDERS);
+    }
+
+    public ModelManager() {
+        this(new AddressBook(), new UserPrefs());
+    }
+
+    @Override
+    public int cleanUpOrphanedReminders() {
+        ListenableList<Person> persons = addressBook.getPersonList();
+        ListenableList<Reminder> reminders = addressBook.getReminderList();
+
+        List<Reminder> orphanedReminders = reminders.stream()
+                .filter(reminder -> !persons.contains(reminder.getPerson()))
+                .collect(java.util.stream.Collectors.toList());
+
+        for (Reminder orphanedReminder : orphanedReminders) {
+            addressBook.removeReminder(orphanedReminder);
+        }
+        return orphanedReminders.size();
+    }
+
+    /**
+     * Applies a change to the stored reminders to the per-person reminder summaries.
+     */
+    private void updateReminderSummaries(ListChange<? extends Reminder> change) {
+        change.getRemoved().forEach(reminderSummaries::remove);
+        change.getAdded().forEach(reminderSummaries::add);
+    }
+
+    /**
+     * Recomputes the reminders shown in the reminder list from the stored reminders, using the latest query.
+     */
+    private void refreshReminderOccurrences() {
+        isReminderListStale = false;
+        reminderOccurrences.setAll(reminderQuery.get());
+    }
+
+    @Override
+    public void refreshReminderList() {
+        if (isReminderListStale) {
+            refreshReminderOccurrences();
+        }
+    }
+
+    /**
+     * Returns every stored reminder, with recurring reminders expanded into their occurrences within
+     * {@link #OCCURRENCE_WINDOW}.
+     */
+    private List<Reminder> getUpcomingOccurrences() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowEnd = now.plus(OCCURRENCE_WINDOW);
+        List<Reminder> occurrences = new ArrayList<>();
+        boolean hasRecurringReminder = false;
+        for (Reminder reminder : addressBook.getReminderList()) {
+            if (reminder.isRecurring()) {
+                hasRecurringReminder = true;
+                occurrences.addAll(reminder.getOccurrences(now, windowEnd));
+            } else {
+                occurrences.add(reminder);
+            }
+        }
+        if (hasRecurringReminder) {
+            // The stored reminders are sorted by date, but occurrences of a series may fall between them
+            occurrences.sort(Comparator.comparing(Reminder::getDate));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the index over the due dates of the uncompleted reminders that do not repeat, rebuilding it
+     * together with {@code recurringReminders} if the stored reminders have changed since it was last built.
+     */
+    private ReminderDateIndex getReminderDateIndex() {
+        if (reminderDateIndex == null) {
+            List<Reminder> pendingReminders = new ArrayList<>();
+            recurringReminders = new ArrayList<>();
+            for (Reminder reminder : addressBook.getReminderList()) {
+                if (reminder.isCompleted()) {
+                    continue;
+                }
+                if (reminder.isRecurring()) {
+                    recurringReminders.add(reminder);
+                } else {
+                    pendingReminders.add(reminder);
+                }
+            }
+            // The stored reminders are kept sorted by date, so no sorting is needed here
+            reminderDateIndex = new ReminderDateIndex(pendingReminders);
+        }
+        return reminderDateIndex;
+    }
+
+    /**
+     * Adds the occurrences of recurring reminders accepted by {@code isShown} to {@code reminders}, which holds the
+     * matching reminders from the date index, and sorts the result by date if any were added.
+     */
+    private List<Reminder> mergeRecurringOccurrences(List<Reminder> reminders,
+            Function<Reminder, List<Reminder>> expand, Predicate<Reminder> isShown) {
+        List<Reminder> merged = new ArrayList<>(reminders);
+        for (Reminder recurringReminder : recurringReminders) {
+            expand.apply(recurringReminder).stream().filter(isShown).forEach(merged::add);
+        }
+        if (merged.size() > reminders.size()) {
+            merged.sort(Comparator.comparing(Reminder::getDate));
+        }
+        return merged;
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs.resetData(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        userPrefs.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        this.addressBook.resetData(addressBook);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.hasPerson(person);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        addressBook.removePerson(target);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        addressBook.addPerson(person);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addUniquePersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addUniquePersons(persons);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        List<Reminder> remindersToUpdate = getRemindersByPerson(target);
+        for (Reminder r : remindersToUpdate) {
+            addressBook.setReminder(r, r.withPerson(editedPerson));
+        }
+        addressBook.setPerson(target, editedPerson);
+    }
+
+    //=========== Reminder ================================================================================
+
+    @Override
+    public boolean hasReminder(Reminder reminder) {
+        requireNonNull(reminder);
+        return addressBook.hasReminder(reminder);
+    }
+
+    @Override
+    public void deleteReminder(Reminder target) {
+        addressBook.removeReminder(target);
+    }
+
+    @Override
+    public void addReminder(Reminder reminder) {
+        addressBook.addReminder(reminder);
+        Person p = reminder.getPerson();
+
+        // Trigger person list update to reflect reminder change
+        addressBook.setPerson(p, p);
+        updateFilteredReminderList(PREDICATE_SHOW_UPCOMING_REMINDERS);
+    }
+
+    @Override
+    public void addUniqueReminders(List<Reminder> reminders) {
+        requireNonNull(reminders);
+        addressBook.addUniqueReminders(reminders);
+    }
+
+    @Override
+    public void setReminder(Reminder target, Reminder editedReminder) {
+        requireAllNonNull(target, editedReminder);
+
+        addressBook.setReminder(target, editedReminder);
+    }
+
+    //=========== Filtered Person List Accessors =============================================================
+
+    /**
+     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
+     * {@code versionedAddressBook}
+     */
+    @Override
+    public ListenableList<Person> getFilteredPersonList() {
+        return filteredPersons;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        FilterUpdateEvent event = new FilterUpdateEvent();
+        event.begin();
+        filteredPersons.setPredicate(predicate);
+        commitFilterUpdate(event, FilterUpdateEvent.PERSONS, () -> predicate.getClass().getSimpleName(),
+                addressBook.getPersonList(), filteredPersons);
+    }
+
+    //=========== Filtered Reminder List Accessors =============================================================
+
+    /**
+     * Returns an unmodifiable view of the list of {@code Reminder} backed by the internal list of
+     * {@code versionedAddressBook}
+     */
+    @Override
+    public ListenableList<Reminder> getFilteredReminderList() {
+        return filteredReminders;
+    }
+
+    @Override
+    public void updateFilteredReminderList(Predicate<Reminder> predicate) {
+        requireNonNull(predicate);
+        FilterUpdateEvent event = new FilterUpdateEvent();
+        event.begin();
+        reminderQuery = this::getUpcomingOccurrences;
+        refreshReminderOccurrences();
+        filteredReminders.setPredicate(predicate);
+        commitFilterUpdate(event, FilterUpdateEvent.REMINDERS, () -> predicate.getClass().getSimpleName(),
+                reminderOccurrences, filteredReminders);
+    }
+
+    @Override
+    public void updateFilteredReminderListToDueBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        showReminderQuery("dueBetween", () -> mergeRecurringOccurrences(
+                getReminderDateIndex().getDueBetween(from, to),
+                recurringReminder -> recurringReminder.getOccurrences(from, to),
+                occurrence -> !occurrence.getDate().value.isBefore(from)
+                        && !occurrence.getDate().value.isAfter(to)));
+    }
+
+    @Override
+    public void updateFilteredReminderListToOverdue() {
+        showReminderQuery("overdue", () -> {
+            LocalDateTime now = LocalDateTime.now();
+            return mergeRecurringOccurrences(getReminderDateIndex().getDueBefore(now),
+                    recurringReminder -> recurringReminder.getOverdueOccurrences(now), unused -> true);
+        });
+    }
+
+    @Override
+    public void updateFilteredReminderListToNext(int count) {
+        assert count > 0;
+        showReminderQuery("next", () -> getNextReminders(LocalDateTime.now(), count));
+    }
+
+    /**
+     * Returns the first {@code count} reminders and occurrences of recurring reminders due at or after {@code now},
+     * in ascending order of date. The occurrences are merged in lazily, with one cursor per recurring reminder, so
+     * that only the occurrences returned and one more of each recurring reminder are created.
+     */
+    private List<Reminder> getNextReminders(LocalDateTime now, int count) {
+        List<Reminder> nextDue = getReminderDateIndex().getNextDue(now, count);
+        PriorityQueue<OccurrenceCursor> cursors = new PriorityQueue<>();
+        for (int i = 0; i < recurringReminders.size(); i++) {
+            for (Reminder occurrence : recurringReminders.get(i).getNextOccurrences(now, 1)) {
+                if (!occurrence.getDate().value.isBefore(now)) {
+                    cursors.add(new OccurrenceCursor(occurrence, i));
+                }
+            }
+        }
+
+        List<Reminder> next = new ArrayList<>();
+        int dueIndex = 0;
+        while (next.size() < count) {
+            OccurrenceCursor cursor = cursors.peek();
+            Reminder due = dueIndex < nextDue.size() ? nextDue.get(dueIndex) : null;
+            // A reminder that does not repeat goes before an occurrence due at the same time
+            if (due != null && (cursor == null || due.getDate().compareTo(cursor.occurrence.getDate()) <= 0)) {
+                next.add(due);
+                dueIndex++;
+            } else if (cursor != null) {
+                cursors.poll();
+                next.add(cursor.occurrence);
+                cursor.occurrence.getFollowingOccurrence().ifPresent(following -> {
+                    cursor.occurrence = following;
+                    cursors.add(cursor);
+                });
+            } else {
+                break;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * The next occurrence of a recurring reminder that {@link #getNextReminders(LocalDateTime, int)} has yet to take.
+     * Cursors are ordered by the date of their occurrence, then by the order of their recurring reminders.
+     */
+    private static class OccurrenceCursor implements Comparable<OccurrenceCursor> {
+        private final int order;
+        private Reminder occurrence;
+
+        OccurrenceCursor(Reminder occurrence, int order) {
+            this.occurrence = occurrence;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(OccurrenceCursor other) {
+            int byDate = occurrence.getDate().compareTo(other.occurrence.getDate());
+            return byDate != 0 ? byDate : Integer.compare(order, other.order);
+        }
+    }
+
+    /**
+     * Shows the reminders returned by {@code query}, re-running it whenever the stored reminders change.
+     * {@code queryName} names the query in the {@link FilterUpdateEvent} recorded.
+     */
+    private void showReminderQuery(String queryName, Supplier<List<Reminder>> query) {
+        FilterUpdateEvent event = new FilterUpdateEvent();
+        event.begin();
+        reminderQuery = query;
+        refreshReminderOccurrences();
+        filteredReminders.setPredicate(PREDICATE_SHOW_ALL_REMINDERS);
+        commitFilterUpdate(event, FilterUpdateEvent.REMINDERS, () -> queryName, reminderOccurrences,
+                filteredReminders);
+    }
+
+    /**
+     * Ends {@code event} and commits it if it is being recorded, with the sizes of {@code source} and {@code shown}.
+     * The fields are only computed once the event is known to be recorded, so an update costs nothing extra otherwise.
+     */
+    private static void commitFilterUpdate(FilterUpdateEvent event, String list, Supplier<String> filter,
+            List<?> source, List<?> shown) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.list = list;
+            event.filter = filter.get();
+            event.sourceSize = source.size();
+            event.shownSize = shown.size();
+            event.commit();
+        }
+    }
+
+    @Override
+    public ReminderSummary getReminderSummary(Person person) {
+        requireNonNull(person);
+        return reminderSummaries.getSummary(person);
+    }
+
+    @Override
+    public Set<Person> takePersonsWithChangedReminderSummaries() {
+        return reminderSummaries.takeChangedPersons();
+    }
+
+    @Override
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    @Override
+    public java.util.List<Reminder> getRemindersByPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getReminderList().stream()
+                .filter(reminder -> reminder.getPerson().equals(person))
+                .collect(java.util.stream.Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModelManager)) {
+            return false;
+        }
+
+        ModelManager otherModelManager = (ModelManager) other;
+        return addressBook.equals(otherModelManager.addressBook)
+                && userPrefs.equals(otherModelManager.userPrefs)
+                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && filteredReminders.equals(otherModelManager.filteredReminders);
+    }
+
+    @Override
+    public void setPersonNote(Person person, Note note) {
+        requireAllNonNull(person, note);
+
+        Person updatedPerson = new Person(
+                person.getName(),
+                person.getPhone(),
+                person.getEmail(),
+                person.getAddress(),
+                note,
+                person.getTags()
+        );
+
+        setPerson(person, updatedPerson);
+    }
+
+}
@@ -1,6 +1,6 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
 
@@ -13,8 +13,8 @@ public interface ReadOnlyAddressBook {
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
      */
-    ObservableList<Person> getPersonList();
+    ListenableList<Person> getPersonList();
 
-    ObservableList<Reminder> getReminderList();
+    ListenableList<Reminder> getReminderList();
 
 }
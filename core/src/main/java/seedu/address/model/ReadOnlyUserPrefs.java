@@ -13,4 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the person list is filtered as a find command is typed.
+     */
+    boolean isLiveSearchEnabled();
+
 }
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isSingleLineNotStartingWithWhitespace;
 
 /**
  * Represents a Person's address in the address book.
@@ -26,8 +27,17 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    /**
+     * Constructs an {@code Address}, validating {@code address} unless {@code isValidated} is true.
+     */
+    private Address(String address, boolean isValidated) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        }
         value = address;
     }
 
@@ -42,7 +52,16 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Equivalent to matching VALIDATION_REGEX, without the cost of a regex
+        return isSingleLineNotStartingWithWhitespace(test);
+    }
+
+    /**
+     * Returns an {@code Address} for {@code address} without validating it.
+     * Only for values that are known to be valid, such as those in a snapshot saved by this app.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, true);
     }
 
     @Override
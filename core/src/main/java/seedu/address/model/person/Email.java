@@ -2,6 +2,9 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+
+import java.util.regex.Pattern;
 
 /**
  * Represents a Person's email in the address book.
@@ -32,6 +35,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -41,8 +45,17 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    /**
+     * Constructs an {@code Email}, validating {@code email} unless {@code isValidated} is true.
+     */
+    private Email(String email, boolean isValidated) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
@@ -57,7 +70,53 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return hasSimpleShape(test) || VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} is a valid email whose domain labels are purely alphanumeric, as most are.
+     * Checking this shape takes a single pass without a regex; it never accepts an invalid email.
+     */
+    private static boolean hasSimpleShape(String test) {
+        int at = test.indexOf('@');
+        if (at <= 0 || !isAsciiAlphanumeric(test.charAt(at - 1))) {
+            return false;
+        }
+
+        // local-part: alphanumeric runs separated by single special characters
+        boolean isAfterSpecialCharacter = true;
+        for (int i = 0; i < at; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isAfterSpecialCharacter = false;
+            } else if (SPECIAL_CHARACTERS.indexOf(c) >= 0 && !isAfterSpecialCharacter) {
+                isAfterSpecialCharacter = true;
+            } else {
+                return false;
+            }
+        }
+
+        // domain: alphanumeric labels separated by single periods, the last being at least 2 characters long
+        int labelLength = 0;
+        for (int i = at + 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                labelLength++;
+            } else if (c == '.' && labelLength > 0) {
+                labelLength = 0;
+            } else {
+                return false;
+            }
+        }
+        return labelLength >= 2;
+    }
+
+    /**
+     * Returns an {@code Email} for {@code email} without validating it.
+     * Only for values that are known to be valid, such as those in a snapshot saved by this app.
+     */
+    public static Email ofTrusted(String email) {
+        return new Email(email, true);
     }
 
     @Override
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that every keyword given starts a word in a {@code Person}'s {@code Name}, ignoring case.
+ * Unlike {@link NameContainsKeywordsPredicate}, a partly typed word already matches, and each further keyword or
+ * character narrows the matches, which suits filtering as the user types.
+ */
+public class NameStartsWithKeywordsPredicate implements NarrowablePredicate {
+    private final List<String> keywords;
+
+    /**
+     * Constructs a predicate that tests for all of {@code keywords}, none of which contains whitespace.
+     */
+    public NameStartsWithKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String name = person.getName().fullName;
+        for (String keyword : keywords) {
+            if (!hasWordStartingWith(name, keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if every keyword of {@code other} starts one of the keywords of this predicate, as then a name
+     * that has words starting with the keywords of this predicate also has words starting with those of
+     * {@code other}.
+     */
+    @Override
+    public boolean narrows(Predicate<Person> other) {
+        if (!(other instanceof NameStartsWithKeywordsPredicate)) {
+            return false;
+        }
+        for (String otherKeyword : ((NameStartsWithKeywordsPredicate) other).keywords) {
+            if (keywords.stream().noneMatch(keyword -> startsWithIgnoreCase(keyword, 0, otherKeyword))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if a word of {@code name} starts with {@code keyword}, ignoring case.
+     * Names have their whitespace normalised to single spaces, so words are separated by one space.
+     */
+    private static boolean hasWordStartingWith(String name, String keyword) {
+        int wordStart = 0;
+        while (wordStart != -1) {
+            if (startsWithIgnoreCase(name, wordStart, keyword)) {
+                return true;
+            }
+            int nextSpace = name.indexOf(' ', wordStart);
+            wordStart = nextSpace == -1 ? -1 : nextSpace + 1;
+        }
+        return false;
+    }
+
+    private static boolean startsWithIgnoreCase(String text, int offset, String prefix) {
+        return text.regionMatches(true, offset, prefix, 0, prefix.length());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameStartsWithKeywordsPredicate)) {
+            return false;
+        }
+
+        NameStartsWithKeywordsPredicate otherNameStartsWithKeywordsPredicate = (NameStartsWithKeywordsPredicate) other;
+        return keywords.equals(otherNameStartsWithKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on persons that can tell when it accepts no more persons than another predicate.
+ * A search whose query narrows the previous one only needs to test the persons that the previous query accepted.
+ */
+public interface NarrowablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every person accepted by this predicate is also accepted by {@code other}.
+     * Returning false is always safe; it only means that the persons rejected by {@code other} are tested again.
+     */
+    boolean narrows(Predicate<Person> other);
+}
@@ -7,7 +7,7 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NoteContainsKeywordsPredicate implements Predicate<Person> {
+public class NoteContainsKeywordsPredicate implements NarrowablePredicate {
     private final String keywords;
 
     public NoteContainsKeywordsPredicate(String keywords) {
@@ -20,6 +20,15 @@ public class NoteContainsKeywordsPredicate implements Predicate<Person> {
         return check.toLowerCase().contains(keywords.toLowerCase());
     }
 
+    /**
+     * Returns true if the keywords of this predicate contain those of {@code other}, e.g. after more are typed.
+     */
+    @Override
+    public boolean narrows(Predicate<Person> other) {
+        return other instanceof NoteContainsKeywordsPredicate
+                && keywords.toLowerCase().contains(((NoteContainsKeywordsPredicate) other).keywords.toLowerCase());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
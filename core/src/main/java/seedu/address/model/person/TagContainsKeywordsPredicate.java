@@ -9,7 +9,7 @@ import seedu.address.model.tag.Tag;
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements NarrowablePredicate {
     private final List<Tag> keywords;
 
     public TagContainsKeywordsPredicate(List<Tag> keywords) {
@@ -22,6 +22,15 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> person.getTags().contains(keyword));
     }
 
+    /**
+     * Returns true if {@code other} looks for every tag that this predicate does, as a person matches any one tag.
+     */
+    @Override
+    public boolean narrows(Predicate<Person> other) {
+        return other instanceof TagContainsKeywordsPredicate
+                && ((TagContainsKeywordsPredicate) other).keywords.containsAll(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -6,8 +6,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Iterator;
 import java.util.List;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableArrayList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -24,9 +24,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ListenableArrayList<Person> internalList = new ListenableArrayList<>();
+    private final ListenableList<Person> internalUnmodifiableList = internalList.asUnmodifiableList();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -98,9 +97,27 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Replaces the contents of this list with {@code persons}, which are known to contain no duplicate persons.
+     * Unlike {@link #setPersons(List)}, this does not check for duplicates, which takes quadratic time.
      */
-    public ObservableList<Person> asUnmodifiableObservableList() {
+    public void setUniquePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        internalList.setAll(persons);
+    }
+
+    /**
+     * Adds {@code persons} to the end of this list. They must be known to contain no duplicate persons and no persons
+     * in this list already, e.g. as they are being loaded from a saved address book.
+     */
+    public void addUniquePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        internalList.addAll(persons);
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ListenableList}.
+     */
+    public ListenableList<Person> asUnmodifiableListenableList() {
         return internalUnmodifiableList;
     }
 
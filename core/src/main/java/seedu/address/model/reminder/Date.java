@@ -0,0 +1,119 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+/**
+ * Represents a Reminder's date.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
+ */
+public class Date implements Comparable<Date> {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Date must be a valid date in 'yyyy-MM-dd' or 'dd/MM/yyyy' format, "
+            + "optionally with a time in 'HH:mm' format.";
+
+    // Formatters for displaying dates; parsing is done by DateParser
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm");
+    private static final DateTimeFormatter DATE_ONLY_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+
+    // Default Time for Date-Only Inputs
+    private static final LocalTime DEFAULT_TIME = LocalTime.MAX;
+
+    public final LocalDateTime value;
+
+    /**
+     * Constructs a {@code Date}.
+     *
+     * @param date A valid date string.
+     */
+    public Date(String date) {
+        requireNonNull(date);
+        LocalDateTime parsed = DateParser.parse(date, DEFAULT_TIME);
+        checkArgument(parsed != null, MESSAGE_CONSTRAINTS);
+        this.value = parsed;
+    }
+
+    /**
+     * Constructs a {@code Date} from an already resolved {@code LocalDateTime}.
+     *
+     * @param value A date and time, with {@link LocalTime#MAX} as the time of a date-only value.
+     */
+    public Date(LocalDateTime value) {
+        requireNonNull(value);
+        this.value = value;
+    }
+
+    /**
+     * Returns true if this date was given without a time, in which case it stands for the end of that day.
+     */
+    public boolean isDateOnly() {
+        return value.toLocalTime().equals(DEFAULT_TIME);
+    }
+
+    /**
+     * Checks if this date is upcoming (within the next 7 days from now).
+     * A date is considered upcoming if it's not in the past and not more than 7 days in the future.
+     *
+     * @return true if the date is within the next 7 days, false otherwise
+     */
+    public boolean isUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+
+        return !value.isBefore(now);
+    }
+
+    /**
+     * Returns the {@code Date} represented by {@code input}, or an empty {@code Optional} if it is not a valid date.
+     * Unlike checking {@link #isValidDate(String)} before constructing a {@code Date}, this parses {@code input}
+     * only once.
+     */
+    public static Optional<Date> parse(String input) {
+        LocalDateTime parsed = DateParser.parse(input, DEFAULT_TIME);
+        return parsed == null ? Optional.empty() : Optional.of(new Date(parsed));
+    }
+
+    /**
+     * Returns true if a given string is a valid date.
+     * A valid date is in one of the formats described in {@link #MESSAGE_CONSTRAINTS}.
+     */
+    public static boolean isValidDate(String test) {
+        return DateParser.parse(test, DEFAULT_TIME) != null;
+    }
+
+    @Override
+    public String toString() {
+        if (isDateOnly()) {
+            return value.format(DATE_ONLY_FORMATTER); // yyyy-MM-dd
+        } else {
+            return value.format(DATETIME_FORMATTER); // yyyy-MM-dd HH:mm
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Date)) {
+            return false;
+        }
+        Date otherDate = (Date) other;
+        return value.equals(otherDate.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public int compareTo(Date other) {
+        return this.value.compareTo(other.value);
+    }
+}
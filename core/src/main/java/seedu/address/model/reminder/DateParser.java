@@ -0,0 +1,180 @@
+package seedu.address.model.reminder;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Parses the date formats accepted by {@link Date} in a single pass over the input.
+ * Failures are reported by returning null instead of throwing, and no intermediate strings are created.
+ *
+ * Accepts {@code yyyy-MM-dd} and {@code dd/MM/yyyy}, each optionally followed by whitespace and {@code HH:mm},
+ * with surrounding whitespace ignored. Parsing is as strict as the {@code uuuu}, {@code MM}, {@code dd}, {@code HH}
+ * and {@code mm} patterns of {@link java.time.format.DateTimeFormatter} with {@code ResolverStyle.STRICT}: fields
+ * other than the year have exactly two digits, the date must exist, and a year has four digits unless it is signed.
+ */
+class DateParser {
+
+    private static final int YEAR_MIN_DIGITS = 4;
+    private static final int YEAR_MAX_DIGITS = 19;
+    private static final int TIME_LENGTH = 5; // HH:mm
+
+    private DateParser() {} // prevents instantiation
+
+    /**
+     * Returns the date and time {@code input} stands for, with {@code dateOnlyTime} as the time if none is given,
+     * or null if {@code input} is not a valid date.
+     */
+    static LocalDateTime parse(String input, LocalTime dateOnlyTime) {
+        if (input == null) {
+            return null;
+        }
+
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        // The time, if any, is separated from the date by whitespace; neither contains any itself
+        int dateEnd = start;
+        while (dateEnd < end && !isWhitespace(input.charAt(dateEnd))) {
+            dateEnd++;
+        }
+        LocalTime time = dateOnlyTime;
+        if (dateEnd < end) {
+            int timeStart = dateEnd;
+            while (isWhitespace(input.charAt(timeStart))) {
+                timeStart++;
+            }
+            time = parseTime(input, timeStart, end);
+            if (time == null) {
+                return null;
+            }
+        }
+
+        if (dateEnd - start >= 3 && input.charAt(start + 2) == '/') {
+            return parseDayFirst(input, start, dateEnd, time);
+        }
+        return parseYearFirst(input, start, dateEnd, time);
+    }
+
+    /**
+     * Parses {@code dd/MM/yyyy} in {@code input} between {@code start} and {@code end}.
+     */
+    private static LocalDateTime parseDayFirst(String input, int start, int end, LocalTime time) {
+        if (end - start < 6 || input.charAt(start + 5) != '/') {
+            return null;
+        }
+        int day = parseTwoDigits(input, start);
+        int month = parseTwoDigits(input, start + 3);
+        long year = parseYear(input, start + 6, end);
+        return resolve(year, month, day, time);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd} in {@code input} between {@code start} and {@code end}.
+     */
+    private static LocalDateTime parseYearFirst(String input, int start, int end, LocalTime time) {
+        // The year is the only field of variable length, so the month and day are found from the end
+        int monthStart = end - 5;
+        if (monthStart - 1 <= start || input.charAt(monthStart - 1) != '-' || input.charAt(end - 3) != '-') {
+            return null;
+        }
+        long year = parseYear(input, start, monthStart - 1);
+        int month = parseTwoDigits(input, monthStart);
+        int day = parseTwoDigits(input, end - 2);
+        return resolve(year, month, day, time);
+    }
+
+    /**
+     * Parses {@code HH:mm} in {@code input} between {@code start} and {@code end}, or returns null if it is invalid.
+     */
+    private static LocalTime parseTime(String input, int start, int end) {
+        if (end - start != TIME_LENGTH || input.charAt(start + 2) != ':') {
+            return null;
+        }
+        int hour = parseTwoDigits(input, start);
+        int minute = parseTwoDigits(input, start + 3);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /**
+     * Parses a year in {@code input} between {@code start} and {@code end}: four digits, or a sign followed by
+     * up to {@value #YEAR_MAX_DIGITS} digits, of which there must be more than four if the sign is {@code +}.
+     * Returns {@code Long.MIN_VALUE} if it is invalid.
+     */
+    private static long parseYear(String input, int start, int end) {
+        if (start >= end) {
+            return Long.MIN_VALUE;
+        }
+        char sign = input.charAt(start);
+        boolean isSigned = sign == '+' || sign == '-';
+        int digitsStart = isSigned ? start + 1 : start;
+        int digits = end - digitsStart;
+        if (digits < YEAR_MIN_DIGITS || digits > YEAR_MAX_DIGITS
+                || (!isSigned && digits > YEAR_MIN_DIGITS)
+                || (sign == '+' && digits == YEAR_MIN_DIGITS)) {
+            return Long.MIN_VALUE;
+        }
+
+        long year = 0;
+        for (int i = digitsStart; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            if (year > Year.MAX_VALUE) {
+                // Out of range already; stop before a longer year overflows
+                return Long.MIN_VALUE;
+            }
+            year = year * 10 + digit;
+        }
+        if (sign == '-') {
+            // Negative zero is rejected in strict parsing
+            return year == 0 ? Long.MIN_VALUE : -year;
+        }
+        return year;
+    }
+
+    /**
+     * Returns the value of the two ASCII digits at {@code index} in {@code input}, or -1 if they are not digits.
+     * The caller ensures that both characters exist.
+     */
+    private static int parseTwoDigits(String input, int index) {
+        int tens = input.charAt(index) - '0';
+        int ones = input.charAt(index + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    /**
+     * Returns the given date at {@code time}, or null if there is no such date.
+     */
+    private static LocalDateTime resolve(long year, int month, int day, LocalTime time) {
+        if (year < Year.MIN_VALUE || year > Year.MAX_VALUE || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        if (day > 28 && day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of((int) year, month, day, time.getHour(), time.getMinute(), time.getSecond(),
+                time.getNano());
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the {@code \s} regex class.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents the repetition rule of a Reminder.
+ * A recurring reminder is stored once; its occurrences are computed on demand from the reminder's date.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRecurrence(String)}
+ */
+public class Recurrence {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Recurrence should be one of 'daily', 'weekly', 'monthly' or 'every N days', "
+            + "where N is a positive integer of at most 4 digits.";
+
+    public static final String MESSAGE_END_BEFORE_START = "The end date of a recurrence cannot be before its start.";
+
+    public static final Recurrence NONE = new Recurrence();
+
+    private static final Pattern EVERY_N_DAYS_FORMAT = Pattern.compile("every\\s+(?<interval>[1-9]\\d{0,3})\\s+days?");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public final String value;
+
+    private final ChronoUnit unit;
+    private final int interval;
+    private final Date end;
+
+    /**
+     * Constructs a {@code Recurrence} that repeats indefinitely.
+     *
+     * @param rule A valid recurrence rule.
+     */
+    public Recurrence(String rule) {
+        this(rule, null);
+    }
+
+    /**
+     * Constructs a {@code Recurrence} whose last occurrence is no later than {@code end}.
+     *
+     * @param rule A valid recurrence rule.
+     * @param end The last date an occurrence may fall on, or null if the recurrence does not end.
+     */
+    public Recurrence(String rule, Date end) {
+        requireNonNull(rule);
+        checkArgument(isValidRecurrence(rule), MESSAGE_CONSTRAINTS);
+        String normalisedRule = normalise(rule);
+        switch (normalisedRule) {
+        case "daily":
+            unit = ChronoUnit.DAYS;
+            interval = 1;
+            break;
+        case "weekly":
+            unit = ChronoUnit.DAYS;
+            interval = 7;
+            break;
+        case "monthly":
+            unit = ChronoUnit.MONTHS;
+            interval = 1;
+            break;
+        default:
+            Matcher matcher = EVERY_N_DAYS_FORMAT.matcher(normalisedRule);
+            matcher.matches();
+            unit = ChronoUnit.DAYS;
+            interval = Integer.parseInt(matcher.group("interval"));
+            break;
+        }
+        this.value = normalisedRule;
+        this.end = end;
+    }
+
+    /**
+     * Constructs the empty {@code Recurrence} of a reminder that does not repeat.
+     */
+    private Recurrence() {
+        value = "";
+        unit = null;
+        interval = 0;
+        end = null;
+    }
+
+    /**
+     * Returns true if a given string is a valid recurrence rule.
+     */
+    public static boolean isValidRecurrence(String test) {
+        String normalisedTest = normalise(test);
+        return normalisedTest.equals("daily")
+                || normalisedTest.equals("weekly")
+                || normalisedTest.equals("monthly")
+                || EVERY_N_DAYS_FORMAT.matcher(normalisedTest).matches();
+    }
+
+    private static String normalise(String rule) {
+        return WHITESPACE.matcher(rule.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if this recurrence repeats, i.e. it is not {@link #NONE}.
+     */
+    public boolean isRecurring() {
+        return unit != null;
+    }
+
+    /**
+     * Returns the last date an occurrence may fall on, if this recurrence ends.
+     */
+    public Optional<Date> getEnd() {
+        return Optional.ofNullable(end);
+    }
+
+    /**
+     * Returns the {@code n}-th occurrence (zero-based) of a series starting at {@code start}, or
+     * {@link LocalDateTime#MAX} if it would be later than any date can be, which {@link #allowsOccurrenceAt} never
+     * allows. Monthly occurrences are computed from {@code start} directly so that the day of month does not drift
+     * after a short month.
+     */
+    public LocalDateTime getOccurrence(LocalDateTime start, long n) {
+        assert isRecurring();
+        try {
+            return start.plus(Math.multiplyExact(n, interval), unit);
+        } catch (DateTimeException | ArithmeticException e) {
+            return LocalDateTime.MAX;
+        }
+    }
+
+    /**
+     * Returns the zero-based number of the first occurrence of a series starting at {@code start}
+     * that is not before {@code from}. Runs in constant time regardless of how far {@code from} is from the start.
+     */
+    public long getFirstOccurrenceNumberNotBefore(LocalDateTime start, LocalDateTime from) {
+        assert isRecurring();
+        if (!from.isAfter(start)) {
+            return 0;
+        }
+        long n = unit.between(start, from) / interval;
+        while (getOccurrence(start, n).isBefore(from)) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns true if an occurrence at {@code dateTime} is within the end of this recurrence, and is a date at all.
+     */
+    public boolean allowsOccurrenceAt(LocalDateTime dateTime) {
+        return !dateTime.equals(LocalDateTime.MAX) && (end == null || !dateTime.isAfter(end.value));
+    }
+
+    @Override
+    public String toString() {
+        return end == null ? value : value + " until " + end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return value.equals(otherRecurrence.value)
+                && Objects.equals(end, otherRecurrence.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, end);
+    }
+}
@@ -0,0 +1,358 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a Reminder in the address book.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class Reminder {
+
+    public static final String MESSAGE_COMPLETED_OCCURRENCES_CONSTRAINTS =
+            "The number of completed occurrences of a reminder cannot be negative.";
+
+    /** The most occurrences of a recurring reminder that are expanded for one range of dates. */
+    public static final int MAX_EXPANDED_OCCURRENCES = 1000;
+
+    /**
+     * The most overdue occurrences of a recurring reminder that are listed. Those missed before them can be
+     * completed together with {@link #markAsCompletedUntil(LocalDateTime)}.
+     */
+    public static final int MAX_OVERDUE_OCCURRENCES = 10;
+
+    private final Person person;
+    private final Date date;
+    private final Message message;
+    private final boolean isCompleted;
+    private final Recurrence recurrence;
+    private final int completedOccurrences;
+
+    // The stored recurring reminder this reminder is an occurrence of, or null if it is not an expanded occurrence.
+    private final Reminder series;
+    // The zero-based number of this occurrence in its series, or 0 if it is not an expanded occurrence.
+    private final long occurrenceNumber;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Reminder(Person person, Date date, Message message) {
+        this(person, date, message, false);
+    }
+
+    /**
+     * Constructor with completion status
+     */
+    public Reminder(Person person, Date date, Message message, boolean isCompleted) {
+        this(person, date, message, isCompleted, Recurrence.NONE);
+    }
+
+    /**
+     * Constructor with completion status and recurrence, for a reminder none of whose occurrences is completed.
+     * For a recurring reminder, {@code date} is the date of its first occurrence.
+     */
+    public Reminder(Person person, Date date, Message message, boolean isCompleted, Recurrence recurrence) {
+        this(person, date, message, isCompleted, recurrence, 0);
+    }
+
+    /**
+     * Constructor with completion status, recurrence and the number of occurrences completed so far.
+     * For a recurring reminder, {@code date} is the date of its first occurrence, from which every occurrence is
+     * computed, and occurrences are completed in order.
+     */
+    public Reminder(Person person, Date date, Message message, boolean isCompleted, Recurrence recurrence,
+                    int completedOccurrences) {
+        this(person, date, message, isCompleted, recurrence, completedOccurrences, null, 0);
+    }
+
+    private Reminder(Person person, Date date, Message message, boolean isCompleted, Recurrence recurrence,
+                     int completedOccurrences, Reminder series, long occurrenceNumber) {
+        requireNonNull(person);
+        requireNonNull(date);
+        requireNonNull(message);
+        requireNonNull(recurrence);
+        checkArgument(completedOccurrences >= 0, MESSAGE_COMPLETED_OCCURRENCES_CONSTRAINTS);
+        this.person = person;
+        this.date = date;
+        this.message = message;
+        this.isCompleted = isCompleted;
+        this.recurrence = recurrence;
+        this.completedOccurrences = completedOccurrences;
+        this.series = series;
+        this.occurrenceNumber = occurrenceNumber;
+    }
+
+    /**
+     * Returns the person associated with this reminder.
+     * @return the person associated with this reminder.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the due date of this reminder.
+     * For a stored recurring reminder, this is the date of its first occurrence.
+     * @return the due date of this reminder.
+     */
+    public Date getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the message of this reminder.
+     * @return the message of this reminder.
+     */
+    public Message getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns the completion status of this reminder.
+     * @return the completion status of this reminder.
+     */
+    public boolean isCompleted() {
+        return isCompleted;
+    }
+
+    /**
+     * Returns the recurrence of this reminder, which is {@link Recurrence#NONE} if it does not repeat.
+     * @return the recurrence of this reminder.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Returns true if this reminder repeats.
+     */
+    public boolean isRecurring() {
+        return recurrence.isRecurring();
+    }
+
+    /**
+     * Returns the number of occurrences of the recurring reminder that have been completed, which is also the
+     * number of its first occurrence that has not been.
+     * @return the number of completed occurrences.
+     */
+    public int getCompletedOccurrences() {
+        return completedOccurrences;
+    }
+
+    /**
+     * Returns the zero-based number of this occurrence in its recurring reminder, or 0 if this reminder is not
+     * an expanded occurrence.
+     * @return the number of this occurrence.
+     */
+    public long getOccurrenceNumber() {
+        return occurrenceNumber;
+    }
+
+    /**
+     * Returns the reminder that is stored in the address book for this reminder.
+     * This is the recurring reminder for an expanded occurrence, and the reminder itself otherwise.
+     * @return the stored reminder.
+     */
+    public Reminder getSeries() {
+        return series == null ? this : series;
+    }
+
+    /**
+     * Returns a new Reminder with the same details but marked as completed.
+     * For a recurring reminder, or an occurrence of one, the returned reminder is the stored recurring reminder
+     * with its first uncompleted occurrence completed, so that completing an occurrence never duplicates the
+     * series. It is only marked as completed once there are no occurrences left.
+     * @return a new Reminder marked as completed.
+     */
+    public Reminder markAsCompleted() {
+        if (!isRecurring()) {
+            return new Reminder(this.person, this.date, this.message, true);
+        }
+        Reminder storedReminder = getSeries();
+        if (storedReminder != this) {
+            return storedReminder.markAsCompleted();
+        }
+        int completed = completedOccurrences + 1;
+        boolean hasOccurrencesLeft = recurrence.allowsOccurrenceAt(recurrence.getOccurrence(date.value, completed));
+        return new Reminder(person, date, message, !hasOccurrencesLeft, recurrence, completed);
+    }
+
+    /**
+     * Returns a new Reminder with every occurrence due up to {@code until} completed, e.g. to skip the occurrences
+     * missed while away, without completing them one at a time. Occurrences already completed stay completed.
+     * For a reminder that does not repeat, this is the same as {@link #markAsCompleted()}.
+     * @return a new Reminder with the occurrences up to {@code until} completed.
+     */
+    public Reminder markAsCompletedUntil(LocalDateTime until) {
+        requireNonNull(until);
+        if (!isRecurring()) {
+            return markAsCompleted();
+        }
+        Reminder storedReminder = getSeries();
+        if (storedReminder != this) {
+            return storedReminder.markAsCompletedUntil(until);
+        }
+        if (isCompleted) {
+            return this;
+        }
+        // Completing beyond the end of the recurrence would make its last occurrence one that cannot happen
+        LocalDateTime last = recurrence.getEnd().map(end -> end.value).filter(until::isAfter).orElse(until);
+        long dueCount = last.equals(LocalDateTime.MAX)
+                ? Integer.MAX_VALUE
+                : recurrence.getFirstOccurrenceNumberNotBefore(date.value, last.plusNanos(1));
+        int completed = (int) Math.max(completedOccurrences, Math.min(dueCount, Integer.MAX_VALUE));
+        boolean hasOccurrencesLeft = recurrence.allowsOccurrenceAt(recurrence.getOccurrence(date.value, completed));
+        return new Reminder(person, date, message, !hasOccurrencesLeft, recurrence, completed);
+    }
+
+    /**
+     * Returns a new Reminder with the same details but marked as not completed.
+     * @return a new Reminder marked as not completed.
+     */
+    public Reminder markAsNotCompleted() {
+        return new Reminder(this.person, this.date, this.message, false, this.recurrence,
+                this.completedOccurrences);
+    }
+
+    /**
+     * Returns a new Reminder with the same details but for {@code person}.
+     * @return a new Reminder for the given person.
+     */
+    public Reminder withPerson(Person person) {
+        return new Reminder(person, this.date, this.message, this.isCompleted, this.recurrence,
+                this.completedOccurrences);
+    }
+
+    /**
+     * Returns the reminders to display for this reminder between {@code from} and {@code until}.
+     * A reminder that does not repeat is returned as is, and a recurring reminder that has been completed is
+     * returned as its last occurrence.
+     * Otherwise, occurrences are expanded lazily: only the first uncompleted occurrence not before {@code from},
+     * plus any further occurrences up to {@code until}, are created, and no more than
+     * {@link #MAX_EXPANDED_OCCURRENCES}. Past occurrences are never materialised here; see
+     * {@link #getOverdueOccurrences(LocalDateTime)}.
+     * @return the reminders to display, in ascending order of date.
+     */
+    public List<Reminder> getOccurrences(LocalDateTime from, LocalDateTime until) {
+        return getOccurrences(from, until, MAX_EXPANDED_OCCURRENCES);
+    }
+
+    /**
+     * Returns at most {@code count} occurrences of this reminder not before {@code from}, expanded lazily as in
+     * {@link #getOccurrences(LocalDateTime, LocalDateTime)}.
+     * @return the reminders to display, in ascending order of date.
+     */
+    public List<Reminder> getNextOccurrences(LocalDateTime from, int count) {
+        assert count > 0;
+        return getOccurrences(from, LocalDateTime.MAX, count);
+    }
+
+    /**
+     * Returns the first {@link #MAX_OVERDUE_OCCURRENCES} occurrences of this recurring reminder that are due before
+     * {@code now} but have not been completed, in ascending order of date. Empty for a reminder that does not repeat.
+     */
+    public List<Reminder> getOverdueOccurrences(LocalDateTime now) {
+        List<Reminder> occurrences = new ArrayList<>();
+        if (!isRecurring() || isCompleted) {
+            return occurrences;
+        }
+        for (long n = completedOccurrences; occurrences.size() < MAX_OVERDUE_OCCURRENCES; n++) {
+            LocalDateTime occurrence = recurrence.getOccurrence(date.value, n);
+            if (!occurrence.isBefore(now) || !recurrence.allowsOccurrenceAt(occurrence)) {
+                return occurrences;
+            }
+            occurrences.add(createOccurrence(n, occurrence, false));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the occurrence after this one in its recurring reminder, if the recurrence allows one.
+     * Empty for a reminder that is not an uncompleted occurrence expanded from a recurring reminder.
+     */
+    public Optional<Reminder> getFollowingOccurrence() {
+        if (series == null || isCompleted) {
+            return Optional.empty();
+        }
+        long n = occurrenceNumber + 1;
+        LocalDateTime occurrence = recurrence.getOccurrence(series.date.value, n);
+        return recurrence.allowsOccurrenceAt(occurrence)
+                ? Optional.of(series.createOccurrence(n, occurrence, false))
+                : Optional.empty();
+    }
+
+    private List<Reminder> getOccurrences(LocalDateTime from, LocalDateTime until, int limit) {
+        List<Reminder> occurrences = new ArrayList<>();
+        if (!isRecurring()) {
+            occurrences.add(this);
+            return occurrences;
+        }
+        if (isCompleted) {
+            int last = Math.max(completedOccurrences - 1, 0);
+            occurrences.add(createOccurrence(last, recurrence.getOccurrence(date.value, last), true));
+            return occurrences;
+        }
+
+        long n = Math.max(completedOccurrences, recurrence.getFirstOccurrenceNumberNotBefore(date.value, from));
+        LocalDateTime occurrence = recurrence.getOccurrence(date.value, n);
+        while (recurrence.allowsOccurrenceAt(occurrence) && occurrences.size() < limit
+                && (occurrences.isEmpty() || !occurrence.isAfter(until))) {
+            occurrences.add(createOccurrence(n, occurrence, false));
+            n++;
+            occurrence = recurrence.getOccurrence(date.value, n);
+        }
+        return occurrences;
+    }
+
+    private Reminder createOccurrence(long n, LocalDateTime occurrence, boolean isOccurrenceCompleted) {
+        Date occurrenceDate = occurrence.equals(date.value) ? date : new Date(occurrence);
+        return new Reminder(person, occurrenceDate, message, isOccurrenceCompleted, recurrence, completedOccurrences,
+                this, n);
+    }
+
+    public boolean isUpcoming() {
+        return !isCompleted && this.date.isUpcoming();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Reminder)) {
+            return false;
+        }
+        Reminder otherReminder = (Reminder) other;
+        return person.equals(otherReminder.person)
+                && date.equals(otherReminder.date)
+                && message.equals(otherReminder.message)
+                && isCompleted == otherReminder.isCompleted
+                && recurrence.equals(otherReminder.recurrence)
+                && completedOccurrences == otherReminder.completedOccurrences;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, date, message, isCompleted, recurrence, completedOccurrences);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person)
+                .add("dueDate", date)
+                .add("message", message)
+                .add("recurrence", recurrence)
+                .add("completedOccurrences", completedOccurrences)
+                .toString();
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable index over the due dates of reminders that answers date-range queries by binary search.
+ * Due dates are packed as epoch seconds into a sorted {@code long[]} that runs parallel to the reminders, so
+ * every query takes O(log n + k) time for k matching reminders, and returns a view without copying.
+ */
+public class ReminderDateIndex {
+
+    private final List<Reminder> reminders;
+    private final long[] dueTimes;
+
+    /**
+     * Constructs an index over {@code sortedReminders}.
+     *
+     * @param sortedReminders Reminders sorted by date in ascending order.
+     */
+    public ReminderDateIndex(List<Reminder> sortedReminders) {
+        requireNonNull(sortedReminders);
+        reminders = List.copyOf(sortedReminders);
+        dueTimes = new long[reminders.size()];
+        for (int i = 0; i < dueTimes.length; i++) {
+            dueTimes[i] = toEpochSecond(reminders.get(i).getDate().value);
+            assert i == 0 || dueTimes[i - 1] <= dueTimes[i] : "Reminders must be sorted by date";
+        }
+    }
+
+    /**
+     * Returns the number of reminders in the index.
+     */
+    public int size() {
+        return dueTimes.length;
+    }
+
+    /**
+     * Returns the reminders due between {@code from} and {@code to}, both inclusive, in ascending order of date.
+     */
+    public List<Reminder> getDueBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int start = lowerBound(toEpochSecond(from));
+        int end = Math.max(start, upperBound(toEpochSecond(to)));
+        return view(start, end);
+    }
+
+    /**
+     * Returns the reminders due strictly before {@code time}, in ascending order of date.
+     */
+    public List<Reminder> getDueBefore(LocalDateTime time) {
+        requireNonNull(time);
+        return view(0, lowerBound(toEpochSecond(time)));
+    }
+
+    /**
+     * Returns the first {@code count} reminders due at or after {@code from}, in ascending order of date.
+     */
+    public List<Reminder> getNextDue(LocalDateTime from, int count) {
+        requireNonNull(from);
+        assert count >= 0;
+        int start = lowerBound(toEpochSecond(from));
+        return view(start, start + Math.min(count, dueTimes.length - start));
+    }
+
+    private List<Reminder> view(int start, int end) {
+        return Collections.unmodifiableList(reminders.subList(start, end));
+    }
+
+    /**
+     * Returns the index of the first due time that is not before {@code key}.
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = dueTimes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dueTimes[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first due time that is after {@code key}.
+     */
+    private int upperBound(long key) {
+        return key == Long.MAX_VALUE ? dueTimes.length : lowerBound(key + 1);
+    }
+
+    /**
+     * Packs a local date and time into seconds. Time zones play no part as every due date shares the same one.
+     */
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
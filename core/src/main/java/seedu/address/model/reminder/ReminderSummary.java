@@ -0,0 +1,71 @@
+package seedu.address.model.reminder;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A summary of the upcoming reminders of a person: how many there are, and which one is due first.
+ * Guarantees: immutable.
+ */
+public class ReminderSummary {
+
+    public static final ReminderSummary EMPTY = new ReminderSummary(0, null);
+
+    private final int upcomingCount;
+    private final Reminder nextReminder;
+
+    /**
+     * Constructs a {@code ReminderSummary}.
+     *
+     * @param upcomingCount The number of upcoming reminders.
+     * @param nextReminder The upcoming reminder due first, or null if there are none.
+     */
+    public ReminderSummary(int upcomingCount, Reminder nextReminder) {
+        assert upcomingCount >= 0;
+        assert (upcomingCount == 0) == (nextReminder == null);
+        this.upcomingCount = upcomingCount;
+        this.nextReminder = nextReminder;
+    }
+
+    public int getUpcomingCount() {
+        return upcomingCount;
+    }
+
+    /**
+     * Returns the upcoming reminder due first. For a recurring reminder, this is its next occurrence.
+     */
+    public Optional<Reminder> getNextReminder() {
+        return Optional.ofNullable(nextReminder);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReminderSummary)) {
+            return false;
+        }
+
+        ReminderSummary otherSummary = (ReminderSummary) other;
+        return upcomingCount == otherSummary.upcomingCount
+                && Objects.equals(nextReminder, otherSummary.nextReminder);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(upcomingCount, nextReminder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("upcomingCount", upcomingCount)
+                .add("nextReminder", nextReminder)
+                .toString();
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maintains a {@link ReminderSummary} for every person, so that looking one up does not scan all reminders.
+ *
+ * Stored reminders that are not completed are grouped by person as they are added and removed. A person's summary
+ * is computed from their own reminders only, and kept until one of them changes or its next reminder becomes due,
+ * which is the earliest point at which any of their reminders can stop being upcoming.
+ *
+ * The persons whose summaries change in either way are collected until they are taken, so that the UI can refresh
+ * the cards of only those persons.
+ *
+ * The index is thread-safe, as the UI looks up summaries while commands change the reminders on the model worker.
+ */
+public class ReminderSummaryIndex {
+
+    private final Supplier<LocalDateTime> clock;
+    private final Map<Person, List<Reminder>> pendingReminders = new HashMap<>();
+    private final Map<Person, ReminderSummary> summaries = new HashMap<>();
+    private final Set<Person> changedPersons = new HashSet<>();
+    // The earliest time at which a cached summary expires, or null if none of them can
+    private LocalDateTime nextExpiry;
+
+    /**
+     * Constructs an empty index that uses the system clock.
+     */
+    public ReminderSummaryIndex() {
+        this(LocalDateTime::now);
+    }
+
+    /**
+     * Constructs an empty index that takes the current time from {@code clock}.
+     */
+    ReminderSummaryIndex(Supplier<LocalDateTime> clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Adds a stored reminder to the index. Completed reminders are never upcoming, so they are ignored.
+     */
+    public synchronized void add(Reminder reminder) {
+        requireNonNull(reminder);
+        if (reminder.isCompleted()) {
+            return;
+        }
+        Person person = reminder.getPerson();
+        pendingReminders.computeIfAbsent(person, unused -> new ArrayList<>()).add(reminder);
+        summaries.remove(person);
+        changedPersons.add(person);
+    }
+
+    /**
+     * Removes a stored reminder from the index.
+     */
+    public synchronized void remove(Reminder reminder) {
+        requireNonNull(reminder);
+        Person person = reminder.getPerson();
+        List<Reminder> reminders = pendingReminders.get(person);
+        if (reminders == null || !reminders.remove(reminder)) {
+            return;
+        }
+        if (reminders.isEmpty()) {
+            pendingReminders.remove(person);
+        }
+        summaries.remove(person);
+        changedPersons.add(person);
+    }
+
+    /**
+     * Returns the summary of the upcoming reminders of {@code person}.
+     */
+    public synchronized ReminderSummary getSummary(Person person) {
+        requireNonNull(person);
+        List<Reminder> reminders = pendingReminders.get(person);
+        if (reminders == null) {
+            // Not cached, so that persons without reminders take up no space
+            return ReminderSummary.EMPTY;
+        }
+        LocalDateTime now = clock.get();
+        ReminderSummary summary = summaries.get(person);
+        if (summary == null || isExpired(summary, now)) {
+            summary = computeSummary(reminders, now);
+            summaries.put(person, summary);
+            summary.getNextReminder().ifPresent(this::updateNextExpiry);
+        }
+        return summary;
+    }
+
+    /**
+     * Returns the persons whose summaries have changed since this was last called, because one of their reminders
+     * was added or removed, or because their next reminder has become due.
+     */
+    public synchronized Set<Person> takeChangedPersons() {
+        LocalDateTime now = clock.get();
+        if (nextExpiry != null && nextExpiry.isBefore(now)) {
+            nextExpiry = null;
+            Iterator<Map.Entry<Person, ReminderSummary>> entries = summaries.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Person, ReminderSummary> entry = entries.next();
+                if (isExpired(entry.getValue(), now)) {
+                    changedPersons.add(entry.getKey());
+                    entries.remove();
+                } else {
+                    entry.getValue().getNextReminder().ifPresent(this::updateNextExpiry);
+                }
+            }
+        }
+        if (changedPersons.isEmpty()) {
+            return Set.of();
+        }
+        Set<Person> taken = Set.copyOf(changedPersons);
+        changedPersons.clear();
+        return taken;
+    }
+
+    private void updateNextExpiry(Reminder nextReminder) {
+        LocalDateTime due = nextReminder.getDate().value;
+        if (nextExpiry == null || due.isBefore(nextExpiry)) {
+            nextExpiry = due;
+        }
+    }
+
+    private static boolean isExpired(ReminderSummary summary, LocalDateTime now) {
+        return summary.getNextReminder()
+                .map(nextReminder -> nextReminder.getDate().value.isBefore(now))
+                .orElse(false);
+    }
+
+    /**
+     * Returns the summary of {@code reminders} at {@code now}. A recurring reminder counts once, as its next
+     * occurrence, for as long as it has one.
+     */
+    private static ReminderSummary computeSummary(List<Reminder> reminders, LocalDateTime now) {
+        int count = 0;
+        Reminder next = null;
+        for (Reminder reminder : reminders) {
+            List<Reminder> upcomingOccurrences = reminder.getNextOccurrences(now, 1);
+            if (upcomingOccurrences.isEmpty()) {
+                continue;
+            }
+            Reminder upcoming = upcomingOccurrences.get(0);
+            if (upcoming.getDate().value.isBefore(now)) {
+                continue;
+            }
+            count++;
+            if (next == null || upcoming.getDate().value.isBefore(next.getDate().value)) {
+                next = upcoming;
+            }
+        }
+        return count == 0 ? ReminderSummary.EMPTY : new ReminderSummary(count, next);
+    }
+}
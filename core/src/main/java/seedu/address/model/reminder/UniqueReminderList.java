@@ -3,12 +3,13 @@ package seedu.address.model.reminder;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableArrayList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
 
@@ -17,7 +18,8 @@ import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
  * A reminder is considered unique by comparing using {@code Reminder#equals(Object)}. As such, adding, updating,
  * and removing of reminders uses Reminder#equals(Object) for equality checks.
  *
- * The list is automatically sorted by date in ascending order.
+ * The list is automatically sorted by date in ascending order. A reminder that is added or replaced is inserted at
+ * its place, rather than sorting the list again, so that listeners only see the reminders that changed.
  *
  * Supports a minimal set of list operations.
  *
@@ -29,10 +31,8 @@ public class UniqueReminderList implements Iterable<Reminder> {
     private static final Comparator<Reminder> DATE_COMPARATOR =
             Comparator.comparing(Reminder::getDate);
 
-    private final ObservableList<Reminder> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Reminder> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
-
+    private final ListenableArrayList<Reminder> internalList = new ListenableArrayList<>();
+    private final ListenableList<Reminder> internalUnmodifiableList = internalList.asUnmodifiableList();
 
     /**
      * Returns true if the list contains an equivalent reminder as the given argument.
@@ -53,8 +53,8 @@ public class UniqueReminderList implements Iterable<Reminder> {
         if (contains(toAdd)) {
             throw new DuplicateReminderException();
         }
-        internalList.add(toAdd);
-        sortReminders();
+        // After any reminders with the same date, as sorting after appending it would place it
+        internalList.add(findInsertionIndex(toAdd, internalList.size()), toAdd);
     }
 
     /**
@@ -75,8 +75,12 @@ public class UniqueReminderList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
-        internalList.set(index, editedReminder);
-        sortReminders();
+        if (DATE_COMPARATOR.compare(target, editedReminder) == 0) {
+            internalList.set(index, editedReminder);
+            return;
+        }
+        internalList.remove(index);
+        internalList.add(findInsertionIndex(editedReminder, index), editedReminder);
     }
 
     /**
@@ -93,7 +97,6 @@ public class UniqueReminderList implements Iterable<Reminder> {
     public void setReminders(UniqueReminderList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        sortReminders();
     }
 
     /**
@@ -107,21 +110,82 @@ public class UniqueReminderList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
-        internalList.setAll(reminders);
-        sortReminders();
+        internalList.setAll(sortByDate(reminders));
+    }
+
+    /**
+     * Replaces the contents of this list with {@code reminders}, which are known to contain no duplicate reminders.
+     * Unlike {@link #setReminders(List)}, this does not check for duplicates, which takes quadratic time.
+     * The list will be automatically sorted by date.
+     */
+    public void setUniqueReminders(List<Reminder> reminders) {
+        requireAllNonNull(reminders);
+        internalList.setAll(sortByDate(reminders));
     }
 
     /**
-     * Sorts the internal list by date in ascending order.
+     * Adds {@code reminders} to this list, in order of date. They must be known to contain no duplicate reminders
+     * and no reminders in this list already, e.g. as they are being loaded from a saved address book.
      */
-    private void sortReminders() {
-        FXCollections.sort(internalList, DATE_COMPARATOR);
+    public void addUniqueReminders(List<Reminder> reminders) {
+        requireAllNonNull(reminders);
+        List<Reminder> added = sortByDate(reminders);
+        List<Reminder> merged = new ArrayList<>(internalList.size() + added.size());
+        int i = 0;
+        // Reminders already in the list come before added ones with the same date, as if each were added in turn
+        for (Reminder reminder : internalList) {
+            while (i < added.size() && DATE_COMPARATOR.compare(added.get(i), reminder) < 0) {
+                merged.add(added.get(i++));
+            }
+            merged.add(reminder);
+        }
+        merged.addAll(added.subList(i, added.size()));
+        internalList.setAll(merged);
+    }
+
+    /**
+     * Returns a copy of {@code reminders} sorted by date in ascending order.
+     */
+    private static List<Reminder> sortByDate(List<Reminder> reminders) {
+        List<Reminder> sorted = new ArrayList<>(reminders);
+        sorted.sort(DATE_COMPARATOR);
+        return sorted;
+    }
+
+    /**
+     * Returns the index at which {@code reminder} is placed among the reminders with the same date, as a stable sort
+     * would place it had it been at {@code index}: after those before {@code index}, and before the others.
+     */
+    private int findInsertionIndex(Reminder reminder, int index) {
+        int low = 0;
+        int high = internalList.size();
+        // The first reminder that is not earlier than reminder
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (DATE_COMPARATOR.compare(internalList.get(mid), reminder) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int sameDateStart = low;
+        high = internalList.size();
+        // The first reminder that is later than reminder
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (DATE_COMPARATOR.compare(internalList.get(mid), reminder) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Math.max(sameDateStart, Math.min(index, low));
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ListenableList}.
      */
-    public ObservableList<Reminder> asUnmodifiableObservableList() {
+    public ListenableList<Reminder> asUnmodifiableListenableList() {
         return internalUnmodifiableList;
     }
 
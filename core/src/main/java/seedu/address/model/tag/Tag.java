@@ -2,6 +2,8 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+import static seedu.address.commons.util.StringUtil.isAsciiWhitespace;
 
 /**
  * Represents a Tag in the address book.
@@ -22,10 +24,7 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
-        requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
-        this.tagType = "default";
+        this(tagName, "default");
     }
 
     /**
@@ -35,8 +34,17 @@ public class Tag {
      * @param tagType Categorisation of the tag.
      */
     public Tag(String tagName, String tagType) {
+        this(tagName, tagType, false);
+    }
+
+    /**
+     * Constructs a {@code Tag}, validating {@code tagName} unless {@code isValidated} is true.
+     */
+    private Tag(String tagName, String tagType, boolean isValidated) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
         this.tagType = tagType;
     }
@@ -45,7 +53,25 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Equivalent to matching VALIDATION_REGEX, without the cost of a regex
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && !isAsciiWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a {@code Tag} for {@code tagName} without validating it.
+     * Only for names that are known to be valid, such as those in a snapshot saved by this app.
+     */
+    public static Tag ofTrusted(String tagName, String tagType) {
+        return new Tag(tagName, tagType, true);
     }
 
     /**
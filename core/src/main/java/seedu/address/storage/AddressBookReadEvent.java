@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for reading the address book from a JSON file.
+ */
+@Name(AddressBookReadEvent.NAME)
+@Label("Address Book Read")
+@Category({"AcademeConnect", "Storage"})
+@Description("Reading and converting the address book from its JSON data file")
+@StackTrace(false)
+class AddressBookReadEvent extends jdk.jfr.Event {
+
+    static final String NAME = "seedu.address.AddressBookRead";
+
+    @Label("File")
+    String path;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Records")
+    @Description("The number of persons and reminders read, or zero if there was no file or it was invalid")
+    int records;
+}
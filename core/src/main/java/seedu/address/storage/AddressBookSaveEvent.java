@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for saving the address book to a JSON file.
+ */
+@Name(AddressBookSaveEvent.NAME)
+@Label("Address Book Save")
+@Category({"AcademeConnect", "Storage"})
+@Description("Converting and writing the address book to its JSON data file")
+@StackTrace(false)
+class AddressBookSaveEvent extends jdk.jfr.Event {
+
+    static final String NAME = "seedu.address.AddressBookSave";
+
+    @Label("File")
+    String path;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Records")
+    @Description("The number of persons and reminders saved")
+    int records;
+}
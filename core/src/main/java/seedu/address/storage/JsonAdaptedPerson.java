@@ -70,18 +70,42 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this adapted person into the model's {@code Person} object without validating its field values.
+     * Only for persons from a snapshot whose checksum matches.
+     *
+     * @throws IllegalValueException if a field is missing from the adapted person.
+     */
+    Person toTrustedModelType() throws IllegalValueException {
+        return toModelType(true);
+    }
+
+    /**
+     * Adds the values of this adapted person to {@code checksum}.
+     */
+    void addTo(SnapshotChecksum checksum) {
+        checksum.add(name).add(phone).add(email).add(address).add(note).add(tags.size());
+        for (JsonAdaptedTag tag : tags) {
+            tag.addTo(checksum);
+        }
+    }
+
+    private Person toModelType(boolean isTrusted) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(isTrusted ? tag.toTrustedModelType() : tag.toModelType());
         }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = isTrusted ? Name.ofTrusted(name) : new Name(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -89,6 +113,8 @@ class JsonAdaptedPerson {
         final Phone modelPhone;
         if (phone.isEmpty()) {
             modelPhone = Phone.EMPTY;
+        } else if (isTrusted) {
+            modelPhone = Phone.ofTrusted(phone);
         } else if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         } else {
@@ -101,6 +127,8 @@ class JsonAdaptedPerson {
         final Email modelEmail;
         if (email.isEmpty()) {
             modelEmail = Email.EMPTY;
+        } else if (isTrusted) {
+            modelEmail = Email.ofTrusted(email);
         } else if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         } else {
@@ -113,6 +141,8 @@ class JsonAdaptedPerson {
         final Address modelAddress;
         if (address.isEmpty()) {
             modelAddress = Address.EMPTY;
+        } else if (isTrusted) {
+            modelAddress = Address.ofTrusted(address);
         } else if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         } else {
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Date;
+import seedu.address.model.reminder.Message;
+import seedu.address.model.reminder.Recurrence;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * Jackson-friendly version of {@link Reminder}.
+ */
+class JsonAdaptedReminder {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Reminder's %s field is missing!";
+
+    private final JsonAdaptedPerson person;
+    private final String date;
+    private final String message;
+    private final boolean isCompleted;
+    private final String recurrence;
+    private final String recurrenceEnd;
+    private final Integer completedOccurrences;
+
+    /**
+     * Constructs a {@code JsonAdaptedReminder} with the given reminder details.
+     * {@code recurrence}, {@code recurrenceEnd} and {@code completedOccurrences} are absent for reminders that do
+     * not repeat.
+     */
+    @JsonCreator
+    public JsonAdaptedReminder(@JsonProperty("person") JsonAdaptedPerson person,
+                               @JsonProperty("date") String date,
+                               @JsonProperty("message") String message,
+                               @JsonProperty("isCompleted") boolean isCompleted,
+                               @JsonProperty("recurrence") String recurrence,
+                               @JsonProperty("recurrenceEnd") String recurrenceEnd,
+                               @JsonProperty("completedOccurrences") Integer completedOccurrences) {
+        this.person = person;
+        this.date = date;
+        this.message = message;
+        this.isCompleted = isCompleted;
+        this.recurrence = recurrence;
+        this.recurrenceEnd = recurrenceEnd;
+        this.completedOccurrences = completedOccurrences;
+    }
+
+    /**
+     * Converts a given {@code Reminder} into this class for Jackson use.
+     */
+    public JsonAdaptedReminder(Reminder source) {
+        person = new JsonAdaptedPerson(source.getPerson());
+        date = source.getDate().toString();
+        message = source.getMessage().toString();
+        isCompleted = source.isCompleted();
+        Recurrence sourceRecurrence = source.getRecurrence();
+        recurrence = sourceRecurrence.isRecurring() ? sourceRecurrence.value : null;
+        recurrenceEnd = sourceRecurrence.getEnd().map(Date::toString).orElse(null);
+        completedOccurrences = sourceRecurrence.isRecurring() ? source.getCompletedOccurrences() : null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted reminder object into the model's {@code Reminder} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted reminder.
+     */
+    public Reminder toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this adapted reminder into the model's {@code Reminder} object without validating the values of
+     * its person. Only for reminders from a snapshot whose checksum matches.
+     * The date, message and recurrence are still checked, as they have to be parsed anyway.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted reminder.
+     */
+    Reminder toTrustedModelType() throws IllegalValueException {
+        return toModelType(true);
+    }
+
+    /**
+     * Adds the values of this adapted reminder to {@code checksum}.
+     */
+    void addTo(SnapshotChecksum checksum) {
+        checksum.add(person != null);
+        if (person != null) {
+            person.addTo(checksum);
+        }
+        checksum.add(date).add(message).add(isCompleted).add(recurrence).add(recurrenceEnd);
+        checksum.add(completedOccurrences != null);
+        if (completedOccurrences != null) {
+            checksum.add(completedOccurrences);
+        }
+    }
+
+    private Reminder toModelType(boolean isTrusted) throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Person.class.getSimpleName()));
+        }
+        final Person modelPerson = isTrusted ? person.toTrustedModelType() : person.toModelType();
+
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Date.class.getSimpleName()));
+        }
+        final Date modelDate = Date.parse(date)
+                .orElseThrow(() -> new IllegalValueException(Date.MESSAGE_CONSTRAINTS));
+
+        if (message == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Message.class.getSimpleName()));
+        }
+        if (!Message.isValidMessage(message)) {
+            throw new IllegalValueException(Message.MESSAGE_CONSTRAINTS);
+        }
+        final Message modelMessage = new Message(message);
+
+        final Recurrence modelRecurrence;
+        if (recurrence == null) {
+            if (recurrenceEnd != null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        Recurrence.class.getSimpleName()));
+            }
+            modelRecurrence = Recurrence.NONE;
+        } else if (!Recurrence.isValidRecurrence(recurrence)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        } else if (recurrenceEnd == null) {
+            modelRecurrence = new Recurrence(recurrence);
+        } else {
+            Date modelRecurrenceEnd = Date.parse(recurrenceEnd)
+                    .orElseThrow(() -> new IllegalValueException(Date.MESSAGE_CONSTRAINTS));
+            modelRecurrence = new Recurrence(recurrence, modelRecurrenceEnd);
+        }
+
+        if (completedOccurrences != null && completedOccurrences < 0) {
+            throw new IllegalValueException(Reminder.MESSAGE_COMPLETED_OCCURRENCES_CONSTRAINTS);
+        }
+        final int modelCompletedOccurrences = completedOccurrences == null ? 0 : completedOccurrences;
+
+        return new Reminder(modelPerson, modelDate, modelMessage, isCompleted, modelRecurrence,
+                modelCompletedOccurrences);
+    }
+
+}
@@ -60,4 +60,19 @@ class JsonAdaptedTag {
         return new Tag(tagName, tagType);
     }
 
+    /**
+     * Converts this adapted tag into the model's {@code Tag} object without validating it.
+     * Only for tags from a snapshot whose checksum matches.
+     */
+    Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName, tagType);
+    }
+
+    /**
+     * Adds the values of this adapted tag to {@code checksum}.
+     */
+    void addTo(SnapshotChecksum checksum) {
+        checksum.add(tagName).add(tagType);
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -45,17 +46,31 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        AddressBookReadEvent event = new AddressBookReadEvent();
+        event.begin();
+        Optional<ReadOnlyAddressBook> addressBook = Optional.empty();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+
+            try {
+                addressBook = Optional.of(jsonAddressBook.get().toModelType());
+                return addressBook;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = filePath.toString();
+                event.bytes = getSizeQuietly(filePath);
+                event.records = addressBook.map(JsonAddressBookStorage::countRecords).orElse(0);
+                event.commit();
+            }
         }
     }
 
@@ -73,8 +88,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = filePath.toString();
+            event.bytes = getSizeQuietly(filePath);
+            event.records = countRecords(addressBook);
+            event.commit();
+        }
+    }
+
+    private static int countRecords(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().size() + addressBook.getReminderList().size();
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath} in bytes, or -1 if it cannot be read.
+     */
+    private static long getSizeQuietly(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
     }
 
 }
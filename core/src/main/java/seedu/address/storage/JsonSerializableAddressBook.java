@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * An Immutable AddressBook that is serializable to JSON format.
+ * It is saved with a schema version and a checksum of its values. When both match on loading, the snapshot is
+ * unchanged since this app saved it, so it is loaded without validating every field and checking for duplicates again.
+ */
+@JsonRootName(value = "addressbook")
+class JsonSerializableAddressBook {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_REMINDER = "Reminders list contains duplicate reminder(s).";
+
+    /** The version of the format that this class saves, to be increased whenever the format changes. */
+    public static final int CURRENT_SCHEMA_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
+    private final Integer schemaVersion;
+    private final String checksum;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedReminder> reminders = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and reminders.
+     * {@code schemaVersion} and {@code checksum} are absent from files saved by older versions of this app.
+     */
+    @JsonCreator
+    public JsonSerializableAddressBook(@JsonProperty("schemaVersion") Integer schemaVersion,
+                                       @JsonProperty("checksum") String checksum,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                       @JsonProperty("reminders") List<JsonAdaptedReminder> reminders) {
+        this.schemaVersion = schemaVersion;
+        this.checksum = checksum;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (reminders != null) {
+            this.reminders.addAll(reminders);
+        }
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        reminders.addAll(source.getReminderList().stream().map(JsonAdaptedReminder::new).collect(Collectors.toList()));
+        schemaVersion = CURRENT_SCHEMA_VERSION;
+        checksum = computeChecksum();
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object.
+     * Field values are only validated if the snapshot may have been changed since it was saved.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType() throws IllegalValueException {
+        if (isTrusted()) {
+            logger.fine("Address book snapshot is unchanged since it was saved, loading it without validation");
+            return toTrustedModelType();
+        }
+        logger.info("Address book snapshot has no matching checksum, validating all of its data");
+
+        AddressBook addressBook = new AddressBook();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            Person person = jsonAdaptedPerson.toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+
+        for (JsonAdaptedReminder jsonAdaptedReminder : reminders) {
+            Reminder reminder = jsonAdaptedReminder.toModelType();
+            if (addressBook.hasReminder(reminder)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_REMINDER);
+            }
+            addressBook.addReminder(reminder);
+        }
+
+        return addressBook;
+    }
+
+    /**
+     * Returns true if this snapshot has the current schema version and its values match its checksum.
+     */
+    boolean isTrusted() {
+        return schemaVersion != null && schemaVersion == CURRENT_SCHEMA_VERSION
+                && checksum != null && checksum.equals(computeChecksum());
+    }
+
+    /**
+     * Converts this snapshot without validating field values or checking for duplicates, which
+     * {@link #isTrusted()} shows were already done before the snapshot was saved.
+     */
+    private AddressBook toTrustedModelType() throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toTrustedModelType());
+        }
+        List<Reminder> modelReminders = new ArrayList<>(reminders.size());
+        for (JsonAdaptedReminder jsonAdaptedReminder : reminders) {
+            modelReminders.add(jsonAdaptedReminder.toTrustedModelType());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setUniquePersons(modelPersons);
+        addressBook.setUniqueReminders(modelReminders);
+        return addressBook;
+    }
+
+    private String computeChecksum() {
+        SnapshotChecksum snapshotChecksum = new SnapshotChecksum().add(schemaVersion == null ? 0 : schemaVersion);
+        snapshotChecksum.add(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            person.addTo(snapshotChecksum);
+        }
+        snapshotChecksum.add(reminders.size());
+        for (JsonAdaptedReminder reminder : reminders) {
+            reminder.addTo(snapshotChecksum);
+        }
+        return snapshotChecksum.getValue();
+    }
+
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.util.zip.CRC32C;
+
+/**
+ * Computes a checksum over the values of a saved address book, so that a snapshot that has not been changed since
+ * it was saved can be recognised on loading.
+ *
+ * Values are fed in a fixed order and each string is framed with its length, so that moving characters from one
+ * value to the next changes the checksum. The checksum detects accidental and manual edits, not deliberate tampering.
+ */
+class SnapshotChecksum {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte NULL_MARKER = 0;
+    private static final byte VALUE_MARKER = 1;
+
+    private final CRC32C crc = new CRC32C();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int buffered = 0;
+
+    /**
+     * Adds {@code value}, which may be null, to the checksum.
+     */
+    SnapshotChecksum add(String value) {
+        if (value == null) {
+            put(NULL_MARKER);
+            return this;
+        }
+        put(VALUE_MARKER);
+        putInt(value.length());
+        // Each char is fed as its two UTF-16 bytes, which avoids encoding the string into a new array
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            put((byte) (c >>> 8));
+            put((byte) c);
+        }
+        return this;
+    }
+
+    /**
+     * Adds {@code value} to the checksum.
+     */
+    SnapshotChecksum add(boolean value) {
+        put(value ? VALUE_MARKER : NULL_MARKER);
+        return this;
+    }
+
+    /**
+     * Adds {@code count}, e.g. the size of a list of values that follow, to the checksum.
+     */
+    SnapshotChecksum add(int count) {
+        putInt(count);
+        return this;
+    }
+
+    /**
+     * Returns the checksum of the values added so far as a string of 8 hexadecimal digits.
+     */
+    String getValue() {
+        flush();
+        return String.format("%08x", crc.getValue());
+    }
+
+    private void putInt(int value) {
+        put((byte) (value >>> 24));
+        put((byte) (value >>> 16));
+        put((byte) (value >>> 8));
+        put((byte) value);
+    }
+
+    private void put(byte b) {
+        if (buffered == BUFFER_SIZE) {
+            flush();
+        }
+        buffer[buffered++] = b;
+    }
+
+    private void flush() {
+        crc.update(buffer, 0, buffered);
+        buffered = 0;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchMainTest {
+
+    private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+
+    @Test
+    public void run_invalidArguments_usageAndErrorExitCode() {
+        assertInvalidArguments("Unknown option --verbose", "--verbose");
+        assertInvalidArguments("--checkpoint needs a positive number of commands", "--checkpoint", "0");
+        assertInvalidArguments("--checkpoint needs a positive number of commands", "--checkpoint");
+        assertInvalidArguments("--config needs a valid file path", "--config");
+        assertInvalidArguments("Only one script can be given", "first.txt", "second.txt");
+    }
+
+    private void assertInvalidArguments(String expectedError, String... args) {
+        errBytes.reset();
+        PrintStream err = new PrintStream(errBytes, true);
+        int exitCode = BatchMain.run(args, new ByteArrayInputStream(new byte[0]), System.out, err);
+        assertEquals(BatchMain.EXIT_ERROR, exitCode);
+        assertTrue(errBytes.toString().startsWith(expectedError + System.lineSeparator() + BatchMain.MESSAGE_USAGE),
+                errBytes.toString());
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Generates a large address book, then times reading it and running a fixed workload of commands on it.
+ * As in the app, each command that succeeds saves the address book.
+ */
+public class LoadTestMain {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILURE = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: LoadTestMain [--persons COUNT] [--reminders COUNT] "
+            + "[--seed SEED] [--keep FILE]\n"
+            + "  --persons COUNT    generates COUNT persons, " + AddressBookGenerator.DEFAULT_PERSON_COUNT
+            + " by default\n"
+            + "  --reminders COUNT  generates COUNT reminders for each person, "
+            + AddressBookGenerator.DEFAULT_REMINDERS_PER_PERSON + " by default\n"
+            + "  --seed SEED        generates the address book from SEED\n"
+            + "  --keep FILE        saves the address book to FILE and keeps it, instead of a temporary file";
+
+    static final List<String> WORKLOAD = List.of(
+            "list",
+            "find Bernice",
+            "find Bernice Tan",
+            "find t/colleagues",
+            "find rtt/databases",
+            "find note/survey paper",
+            "list",
+            "add n/Load Test Person p/91234567 e/loadtest@example.com a/1 Load Road t/friends",
+            "edit 1 p/98765432",
+            "tag 1 t/loadtest",
+            "reminder add 1 d/2030-01-01 10:00 m/Load test",
+            "reminder list",
+            "delete 1");
+
+    private final AddressBookGenerator generator = new AddressBookGenerator();
+    private Optional<Path> keptFile = Optional.empty();
+
+    private LoadTestMain() {}
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Runs the load test given by {@code args} and returns the exit code.
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        LoadTestMain loadTest = new LoadTestMain();
+        Optional<String> argumentError = loadTest.parseArguments(args);
+        if (argumentError.isPresent()) {
+            err.println(argumentError.get());
+            err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("load-test");
+            Path dataFile = loadTest.keptFile.orElse(directory.resolve("addressbook.json"));
+            return loadTest.runLoadTest(dataFile, directory.resolve("preferences.json"), out, err);
+        } catch (IOException | DataLoadingException e) {
+            err.println("Load test failed: " + e.getMessage());
+            return EXIT_ERROR;
+        } finally {
+            if (directory != null) {
+                deleteQuietly(directory.resolve("addressbook.json"));
+                deleteQuietly(directory);
+            }
+        }
+    }
+
+    private Optional<String> parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 == args.length) {
+                return Optional.of(option + " needs a value");
+            }
+            String value = args[i + 1];
+            try {
+                switch (option) {
+                case "--persons":
+                    generator.withPersonCount(Integer.parseInt(value));
+                    break;
+                case "--reminders":
+                    generator.withRemindersPerPerson(Integer.parseInt(value));
+                    break;
+                case "--seed":
+                    generator.withSeed(Long.parseLong(value));
+                    break;
+                case "--keep":
+                    if (!FileUtil.isValidPath(value)) {
+                        return Optional.of("--keep needs a valid file path");
+                    }
+                    keptFile = Optional.of(Paths.get(value));
+                    break;
+                default:
+                    return Optional.of("Unknown option " + option);
+                }
+            } catch (IllegalArgumentException e) {
+                return Optional.of("Invalid value " + value + " for " + option + ": " + e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int runLoadTest(Path dataFile, Path prefsFile, PrintStream out, PrintStream err)
+            throws IOException, DataLoadingException {
+        long start = System.nanoTime();
+        generator.writeTo(dataFile);
+        out.println(String.format("Generated and saved %s in %.1f ms", dataFile, elapsedMillis(start)));
+
+        Storage storage = new StorageManager(new JsonAddressBookStorage(dataFile), new JsonUserPrefsStorage(prefsFile));
+        start = System.nanoTime();
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().orElseThrow();
+        out.println(String.format("Read %d persons and %d reminders in %.1f ms", addressBook.getPersonList().size(),
+                addressBook.getReminderList().size(), elapsedMillis(start)));
+
+        Logic logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()), storage);
+        int failureCount = 0;
+        for (String command : WORKLOAD) {
+            start = System.nanoTime();
+            try {
+                logic.execute(command);
+                out.println(String.format("%10.1f ms  %s", elapsedMillis(start), command));
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                err.println(String.format("%10.1f ms  %s\n    %s", elapsedMillis(start), command, e.getMessage()));
+            }
+        }
+        return failureCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILURE;
+    }
+
+    private static double elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Only a temporary file is left behind
+        }
+    }
+}
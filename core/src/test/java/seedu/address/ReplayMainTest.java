@@ -0,0 +1,101 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.workload.RecordedCommand;
+import seedu.address.logic.workload.SessionRecorder;
+import seedu.address.logic.workload.SessionReplayer;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class ReplayMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+
+    @Test
+    public void run_invalidArguments_usageAndErrorExitCode() {
+        assertInvalidArguments("Unknown option --verbose", "--verbose", "1", "session.txt");
+        assertInvalidArguments("--runs needs a positive number of replays", "--runs", "0", "session.txt");
+        assertInvalidArguments("--warmup needs a number of replays", "--warmup", "-1", "session.txt");
+        assertInvalidArguments("--data needs a value", "--data");
+        assertInvalidArguments("One session file must be given");
+        assertInvalidArguments("One session file must be given", "first.txt", "second.txt");
+    }
+
+    @Test
+    public void run_session_reportedAndDataFileUnchanged() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(dataFile).saveAddressBook(getTypicalAddressBook());
+        String data = Files.readString(dataFile);
+        // Each replay deletes the person it adds, so it only succeeds if each starts from the data file
+        Path sessionFile = writeSession(
+                new RecordedCommand(0, 1000, true, "add n/Replay Person p/91234567 e/replay@example.com a/1 Road"),
+                new RecordedCommand(10, 1000, true, "delete 8"),
+                new RecordedCommand(20, 1000, false, "delete 8"));
+
+        int exitCode = run("--runs", "2", "--warmup", "1", "--data", dataFile.toString(), sessionFile.toString());
+
+        assertEquals(ReplayMain.EXIT_SUCCESS, exitCode, errBytes.toString());
+        assertTrue(outBytes.toString().contains(String.format(SessionReplayer.MESSAGE_SUMMARY, 6, 0)),
+                outBytes.toString());
+        assertEquals(data, Files.readString(dataFile));
+    }
+
+    @Test
+    public void run_withoutDataFile_dataSnapshotOfSessionReplayed() throws Exception {
+        Path sessionFile = writeSession(new RecordedCommand(0, 1000, true, "delete 7"));
+        assertEquals(ReplayMain.EXIT_MISMATCH, run(sessionFile.toString()));
+
+        errBytes.reset();
+        new JsonAddressBookStorage(SessionRecorder.getDataSnapshotPath(sessionFile))
+                .saveAddressBook(getTypicalAddressBook());
+        assertEquals(ReplayMain.EXIT_SUCCESS, run(sessionFile.toString()), errBytes.toString());
+    }
+
+    @Test
+    public void run_differentOutcome_mismatchExitCode() throws Exception {
+        Path sessionFile = writeSession(new RecordedCommand(0, 1000, true, "delete 1"));
+        assertEquals(ReplayMain.EXIT_MISMATCH, run(sessionFile.toString()));
+    }
+
+    @Test
+    public void run_invalidSession_errorExitCode() throws Exception {
+        Path sessionFile = testFolder.resolve("session.txt");
+        Files.write(sessionFile, List.of("list"));
+        assertEquals(ReplayMain.EXIT_ERROR, run(sessionFile.toString()));
+        assertEquals(ReplayMain.EXIT_ERROR, run(testFolder.resolve("missing.txt").toString()));
+    }
+
+    private Path writeSession(RecordedCommand... commands) throws Exception {
+        Path sessionFile = testFolder.resolve("session.txt");
+        Files.write(sessionFile, Stream.of(commands).map(RecordedCommand::toLine).collect(Collectors.toList()));
+        return sessionFile;
+    }
+
+    private int run(String... args) {
+        return ReplayMain.run(args, new PrintStream(outBytes, true), new PrintStream(errBytes, true));
+    }
+
+    private void assertInvalidArguments(String expectedError, String... args) {
+        errBytes.reset();
+        assertEquals(ReplayMain.EXIT_ERROR, run(args));
+        assertTrue(errBytes.toString().startsWith(expectedError + System.lineSeparator() + ReplayMain.MESSAGE_USAGE),
+                errBytes.toString());
+    }
+}
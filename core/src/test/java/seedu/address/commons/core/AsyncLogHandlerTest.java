@@ -0,0 +1,172 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler recordingHandler = new RecordingHandler();
+    private AsyncLogHandler asyncHandler;
+
+    @AfterEach
+    public void tearDown() {
+        recordingHandler.release.countDown();
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(1, recordingHandler));
+    }
+
+    @Test
+    public void constructor_nullHandler_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncLogHandler(2, recordingHandler, null));
+    }
+
+    @Test
+    public void publish_records_passedOnInOrder() {
+        recordingHandler.release.countDown();
+        asyncHandler = new AsyncLogHandler(32, recordingHandler);
+        for (int i = 0; i < 20; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncHandler.flush();
+        assertEquals(20, recordingHandler.records.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("message " + i, recordingHandler.records.get(i).getMessage());
+        }
+        assertTrue(recordingHandler.isFlushed);
+    }
+
+    @Test
+    public void publish_belowLevel_notPassedOn() {
+        recordingHandler.release.countDown();
+        asyncHandler = new AsyncLogHandler(4, recordingHandler);
+        asyncHandler.setLevel(Level.WARNING);
+        asyncHandler.publish(new LogRecord(Level.INFO, "info"));
+        asyncHandler.publish(new LogRecord(Level.SEVERE, "severe"));
+        asyncHandler.flush();
+        assertEquals(List.of("severe"), getMessages());
+    }
+
+    @Test
+    public void publish_sourceOfCaller_keptWhenPassedOn() {
+        recordingHandler.release.countDown();
+        asyncHandler = new AsyncLogHandler(4, recordingHandler);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.ALL);
+        logger.addHandler(asyncHandler);
+        logger.info("message");
+        asyncHandler.flush();
+        assertEquals(AsyncLogHandlerTest.class.getName(), recordingHandler.records.get(0).getSourceClassName());
+    }
+
+    @Test
+    public void publish_bufferFull_dropsBelowWarningAndLogsCount() throws Exception {
+        asyncHandler = new AsyncLogHandler(3, recordingHandler);
+        asyncHandler.publish(new LogRecord(Level.INFO, "taken"));
+        // The writer now waits in the recording handler with "taken", so the buffer fills up
+        assertTrue(recordingHandler.publishing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(2, asyncHandler.getDroppedCount());
+
+        recordingHandler.release.countDown();
+        asyncHandler.publish(new LogRecord(Level.WARNING, "warning"));
+        asyncHandler.flush();
+        assertEquals(List.of("taken", "message 0", "message 1", "message 2",
+                String.format(AsyncLogHandler.MESSAGE_DROPPED, 2), "warning"), getMessages());
+        assertEquals(0, asyncHandler.getDroppedCount());
+    }
+
+    @Test
+    public void publish_bufferFullWarning_waitsForRoom() throws Exception {
+        asyncHandler = new AsyncLogHandler(2, recordingHandler);
+        asyncHandler.publish(new LogRecord(Level.INFO, "taken"));
+        assertTrue(recordingHandler.publishing.await(5, TimeUnit.SECONDS));
+        asyncHandler.publish(new LogRecord(Level.INFO, "message 0"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "message 1"));
+
+        Thread warningThread = new Thread(() -> asyncHandler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        warningThread.join(100);
+        assertTrue(warningThread.isAlive());
+
+        recordingHandler.release.countDown();
+        warningThread.join(5000);
+        asyncHandler.flush();
+        assertEquals(List.of("taken", "message 0", "message 1", "warning"), getMessages());
+    }
+
+    @Test
+    public void close_recordsInBuffer_passedOnAndHandlersClosed() {
+        recordingHandler.release.countDown();
+        asyncHandler = new AsyncLogHandler(8, recordingHandler);
+        for (int i = 0; i < 5; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncHandler.close();
+        assertEquals(5, recordingHandler.records.size());
+        assertTrue(recordingHandler.isClosed);
+
+        // Records published after closing are ignored
+        asyncHandler.publish(new LogRecord(Level.SEVERE, "after close"));
+        assertEquals(5, recordingHandler.records.size());
+    }
+
+    private List<String> getMessages() {
+        return recordingHandler.records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+    }
+
+    /**
+     * A handler that records what it is given, and waits to be released before recording the first record.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            publishing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.commons.core.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class FilteredListenableListTest {
+
+    private static final Predicate<String> IS_VOWEL = "aeiou"::contains;
+
+    private final ListenableArrayList<String> source = new ListenableArrayList<>(List.of("a", "b", "e", "c", "i"));
+    private final FilteredListenableList<String> filtered = new FilteredListenableList<>(source, IS_VOWEL);
+    private final List<String> changes = new ArrayList<>();
+
+    @Test
+    public void constructor_source_onlyMatches() {
+        assertEquals(List.of("a", "e", "i"), filtered);
+        assertEquals(source, new FilteredListenableList<>(source));
+    }
+
+    @Test
+    public void sourceChanged_matchesChanged_changeAtFilteredIndex() {
+        filtered.addListener(this::recordChange);
+
+        source.add(3, "o");
+        assertEquals(List.of("a", "e", "o", "i"), filtered);
+        source.remove("e");
+        assertEquals(List.of("a", "o", "i"), filtered);
+        source.set(4, "u");
+        assertEquals(List.of("a", "o", "u"), filtered);
+        source.subList(0, 3).clear();
+        assertEquals(List.of("u"), filtered);
+
+        assertEquals(List.of("2:[]>[o]", "1:[e]>[]", "2:[i]>[u]", "0:[a, o]>[]"), changes);
+    }
+
+    @Test
+    public void sourceChanged_noMatchesChanged_noChange() {
+        filtered.addListener(this::recordChange);
+
+        source.add(1, "x");
+        source.remove("b");
+        source.set(3, "y");
+        assertEquals(List.of(), changes);
+
+        // the matches after the changed items are still found at their new indexes
+        source.remove("i");
+        assertEquals(List.of("a", "e"), filtered);
+        assertEquals(List.of("2:[i]>[]"), changes);
+    }
+
+    @Test
+    public void setPredicate_newPredicate_oneChange() {
+        filtered.addListener(this::recordChange);
+        filtered.setPredicate(IS_VOWEL.negate());
+        assertEquals(List.of("b", "c"), filtered);
+        assertEquals(List.of("0:[a, e, i]>[b, c]"), changes);
+    }
+
+    private void recordChange(ListChange<? extends String> change) {
+        changes.add(change.getFrom() + ":" + change.getRemoved() + ">" + change.getAdded());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.core.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListenableArrayListTest {
+
+    private final ListenableArrayList<String> list = new ListenableArrayList<>(List.of("a", "b", "c"));
+    private final List<String> changes = new ArrayList<>();
+
+    @Test
+    public void mutations_withListener_oneChangeEach() {
+        list.addListener(this::recordChange);
+
+        list.add("d");
+        list.set(0, "x");
+        list.remove("b");
+        list.subList(0, 2).clear();
+        list.addAll(0, List.of("e", "f"));
+        list.setAll(List.of("g"));
+
+        assertEquals(List.of("3:[]>[d]", "0:[a]>[x]", "1:[b]>[]", "0:[x, c]>[]", "0:[]>[e, f]",
+                "0:[e, f, d]>[g]"), changes);
+        assertEquals(List.of("g"), list);
+    }
+
+    @Test
+    public void setAll_emptyToEmpty_noChange() {
+        ListenableArrayList<String> emptyList = new ListenableArrayList<>();
+        emptyList.addListener(this::recordChange);
+        emptyList.setAll(List.of());
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void removeListener_removedListener_notNotified() {
+        ListListener<String> listener = this::recordChange;
+        list.addListener(listener);
+        list.removeListener(listener);
+        list.add("d");
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void asUnmodifiableList_changesToList_seenAndNotifiedByView() {
+        ListenableList<String> view = list.asUnmodifiableList();
+        view.addListener(this::recordChange);
+        list.add("d");
+        assertEquals(List.of("a", "b", "c", "d"), view);
+        assertEquals(List.of("3:[]>[d]"), changes);
+        assertThrows(UnsupportedOperationException.class, () -> view.add("e"));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    private void recordChange(ListChange<? extends String> change) {
+        changes.add(change.getFrom() + ":" + change.getRemoved() + ">" + change.getAdded());
+    }
+}
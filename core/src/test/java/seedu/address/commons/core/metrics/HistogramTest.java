@@ -0,0 +1,76 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getters_noValues_returnZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().record(-1));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(-1));
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 4; value++) {
+            histogram.record(value);
+        }
+        assertEquals(4, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(4, histogram.getMax());
+        assertEquals(2.5, histogram.getMean());
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(2, histogram.getPercentile(50));
+        assertEquals(3, histogram.getPercentile(75));
+        assertEquals(4, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinAnEighth() {
+        Random random = new Random(1);
+        long[] values = new long[10000];
+        Histogram histogram = new Histogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 40);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[] {1, 10, 50, 90, 99, 99.9}) {
+            long actual = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long estimate = histogram.getPercentile(percentile);
+            assertTrue(actual <= estimate && estimate <= actual + actual / 8, percentile + ": " + estimate);
+        }
+        assertEquals(values[values.length - 1], histogram.getPercentile(100));
+        assertEquals(values[0], histogram.getMin());
+    }
+
+    @Test
+    public void record_maxValue_success() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(50));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class MetricsRegistryTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void getCommandMetrics_sameCommandWord_sameMetrics() {
+        assertSame(registry.getCommandMetrics("list"), registry.getCommandMetrics("list"));
+        assertEquals("list", registry.getCommandMetrics("list").getCommandWord());
+    }
+
+    @Test
+    public void getCommandMetrics_tooManyCommandWords_collectedAsOther() {
+        for (int i = 0; i < MetricsRegistry.MAX_COMMAND_WORDS; i++) {
+            registry.getCommandMetrics("word" + i);
+        }
+        assertEquals(MetricsRegistry.OTHER_COMMAND_WORDS, registry.getCommandMetrics("oneTooMany").getCommandWord());
+        assertEquals("word0", registry.getCommandMetrics("word0").getCommandWord());
+        assertEquals(MetricsRegistry.MAX_COMMAND_WORDS + 1, registry.getAllCommandMetrics().size());
+    }
+
+    @Test
+    public void getAllCommandMetrics_sortedByCommandWord() {
+        registry.getCommandMetrics("list");
+        registry.getCommandMetrics("add");
+        registry.getCommandMetrics("find");
+        List<String> commandWords = registry.getAllCommandMetrics().stream()
+                .map(CommandMetrics::getCommandWord)
+                .collect(Collectors.toList());
+        assertEquals(List.of("add", "find", "list"), commandWords);
+    }
+
+    @Test
+    public void recordCompletion_countsRunsAndFailures() {
+        CommandMetrics metrics = registry.getCommandMetrics("delete");
+        metrics.recordCompletion(true, 100);
+        metrics.recordCompletion(false, -1);
+        assertEquals(2, metrics.getRunCount());
+        assertEquals(1, metrics.getFailureCount());
+        assertEquals(1, metrics.getAllocatedBytes().getCount());
+    }
+
+    @Test
+    public void getReport_noCommands_showsModelSizes() {
+        registry.setModelSizes(7, 3, 2);
+        assertEquals("Model: 7 persons (3 shown), 2 reminders\n" + MetricsRegistry.MESSAGE_NO_COMMANDS,
+                registry.getReport());
+    }
+
+    @Test
+    public void getReport_commands_showsEachPhase() {
+        CommandMetrics metrics = registry.getCommandMetrics("find");
+        metrics.getParseNanos().record(1_000_000);
+        metrics.getExecuteNanos().record(2_500_000);
+        metrics.recordCompletion(true, 2048);
+        String report = registry.getReport();
+        assertTrue(report.contains("find: 1 runs, 0 failed"), report);
+        assertTrue(report.contains("parse     p50   1.00 ms"), report);
+        assertTrue(report.contains("execute   p50   2.50 ms"), report);
+        assertTrue(!report.contains("save"), report);
+        assertTrue(report.contains("allocated p50      2 KB"), report);
+    }
+
+    @Test
+    public void writeReport_writesReport() throws Exception {
+        Path filePath = testFolder.resolve("metrics").resolve("metrics.txt");
+        registry.getCommandMetrics("list").recordCompletion(true, -1);
+        registry.writeReport(filePath);
+        assertEquals(registry.getReport() + "\n", FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void getCurrentThreadAllocatedBytes_allocation_increases() {
+        long before = MetricsRegistry.getCurrentThreadAllocatedBytes();
+        byte[] allocated = new byte[1 << 20];
+        long after = MetricsRegistry.getCurrentThreadAllocatedBytes();
+        if (before >= 0) {
+            assertTrue(after - before >= allocated.length);
+        }
+    }
+}
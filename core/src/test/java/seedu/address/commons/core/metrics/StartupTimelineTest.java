@@ -0,0 +1,77 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+public class StartupTimelineTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void mark_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StartupTimeline().mark(null));
+    }
+
+    @Test
+    public void mark_phases_inOrderAndSumToTotal() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.mark("config");
+        timeline.mark("data");
+        timeline.mark("ui");
+
+        Map<String, Long> phaseNanos = timeline.getPhaseNanos();
+        assertEquals(List.of("config", "data", "ui"), List.copyOf(phaseNanos.keySet()));
+        assertEquals(timeline.getTotalNanos(), phaseNanos.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void mark_samePhaseTwice_timesAdded() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.mark("data");
+        timeline.mark("data");
+        assertEquals(1, timeline.getPhaseNanos().size());
+        assertEquals(timeline.getTotalNanos(), timeline.getPhaseNanos().get("data").longValue());
+    }
+
+    @Test
+    public void getReport_phasesAndSizes_listed() {
+        StartupTimeline timeline = new StartupTimeline(500, System.nanoTime());
+        timeline.mark("config");
+        timeline.mark("first frame");
+        timeline.setAddressBookSize(10, 20);
+
+        String report = timeline.getReport();
+        assertTrue(report.startsWith("Startup took "));
+        assertTrue(report.contains("with 10 persons and 20 reminders"));
+        assertTrue(report.contains("  config "));
+        assertTrue(report.contains("  first frame "));
+    }
+
+    @Test
+    public void writeReport_missingFolder_writesJson() throws Exception {
+        StartupTimeline timeline = new StartupTimeline(500, System.nanoTime());
+        timeline.mark("config");
+        timeline.setAddressBookSize(10, 20);
+        Path filePath = testFolder.resolve("reports").resolve("startup.json");
+        timeline.writeReport(filePath);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> report = JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), Map.class);
+        assertEquals(500, report.get("jvmUptimeMillis"));
+        assertEquals(10, report.get("persons"));
+        assertEquals(20, report.get("reminders"));
+        assertTrue(((Map<?, ?>) report.get("phaseMillis")).containsKey("config"));
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -140,4 +142,67 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for character classes --------------------------------------
+
+    @Test
+    public void isAsciiCharacterClasses() {
+        assertTrue(StringUtil.isAsciiDigit('7'));
+        assertFalse(StringUtil.isAsciiDigit('\u0663')); // non-ASCII digit
+
+        assertTrue(StringUtil.isAsciiAlphanumeric('q'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('Q'));
+        assertFalse(StringUtil.isAsciiAlphanumeric('_'));
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u00E9')); // non-ASCII letter
+
+        assertTrue(StringUtil.isAsciiWhitespace('\u000B'));
+        assertFalse(StringUtil.isAsciiWhitespace('\u00A0')); // non-breaking space
+    }
+
+    //---------------- Tests for isSingleLineNotStartingWithWhitespace --------------------------------------
+
+    @Test
+    public void isSingleLineNotStartingWithWhitespace() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isSingleLineNotStartingWithWhitespace(null));
+
+        // EP: empty or starting with whitespace
+        assertFalse(StringUtil.isSingleLineNotStartingWithWhitespace(""));
+        assertFalse(StringUtil.isSingleLineNotStartingWithWhitespace(" abc"));
+        assertFalse(StringUtil.isSingleLineNotStartingWithWhitespace("\tabc"));
+
+        // EP: line terminator after the first character
+        assertFalse(StringUtil.isSingleLineNotStartingWithWhitespace("ab\nc"));
+        assertFalse(StringUtil.isSingleLineNotStartingWithWhitespace("abc\u2028"));
+
+        // EP: valid
+        assertTrue(StringUtil.isSingleLineNotStartingWithWhitespace("a"));
+        assertTrue(StringUtil.isSingleLineNotStartingWithWhitespace("\u2028abc")); // only whitespace is checked first
+        assertTrue(StringUtil.isSingleLineNotStartingWithWhitespace("a b\tc "));
+    }
+
+    //---------------- Tests for getFirstWord --------------------------------------
+
+    @Test
+    public void getFirstWord() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getFirstWord(null));
+        assertEquals("", StringUtil.getFirstWord(" \t"));
+        assertEquals("list", StringUtil.getFirstWord("list"));
+        assertEquals("reminder", StringUtil.getFirstWord("  reminder\tadd 1"));
+    }
+
+    //---------------- Tests for summarize --------------------------------------
+
+    @Test
+    public void summarize() {
+        assertThrows(NullPointerException.class, () -> StringUtil.summarize(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.summarize(List.of(), -1));
+
+        // EP: no more items than the maximum
+        assertEquals("[]", StringUtil.summarize(List.of(), 3));
+        assertEquals("[a, b, c]", StringUtil.summarize(List.of("a", "b", "c"), 3));
+
+        // EP: more items than the maximum
+        assertEquals("[a, b, ... 2 more]", StringUtil.summarize(List.of("a", "b", "c", "d"), 2));
+        assertEquals("[... 4 more]", StringUtil.summarize(List.of("a", "b", "c", "d"), 0));
+    }
+
 }
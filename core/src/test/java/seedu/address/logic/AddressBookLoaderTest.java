@@ -0,0 +1,101 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalReminders.ALICE_REMINDER;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookGenerator;
+import seedu.address.testutil.ReminderBuilder;
+
+public class AddressBookLoaderTest {
+
+    private final Model model = new ModelManager();
+    private final ModelWorker modelWorker = new ModelWorker();
+    private final AddressBookLoader loader = new AddressBookLoader(model, modelWorker);
+
+    @AfterEach
+    public void tearDown() {
+        modelWorker.shutdown();
+    }
+
+    @Test
+    public void load_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> loader.load(null));
+    }
+
+    @Test
+    public void load_addressBook_allInModel() throws Exception {
+        AddressBook addressBook = new AddressBookGenerator()
+                .withPersonCount(AddressBookLoader.CHUNK_SIZE * 2 + 1)
+                .withRemindersPerPerson(1)
+                .generate();
+        assertEquals(addressBook, loader.load(() -> addressBook).get(5, TimeUnit.SECONDS));
+        assertEquals(addressBook, new AddressBook(model.getAddressBook()));
+        assertEquals(addressBook.getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void load_orphanedReminders_removed() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addReminder(ALICE_REMINDER);
+        addressBook.addReminder(new ReminderBuilder().withPerson(BENSON).build());
+        loader.load(() -> addressBook).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(ALICE_REMINDER), model.getAddressBook().getReminderList());
+    }
+
+    @Test
+    public void load_readerThrows_completesExceptionally() throws Exception {
+        IOException readError = new IOException("read error");
+        CompletableFuture<ReadOnlyAddressBook> load = loader.load(() -> {
+            throw readError;
+        });
+        Throwable error = load.handle((addressBook, e) -> e).get(5, TimeUnit.SECONDS);
+        assertEquals(readError, error.getCause());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void load_tasksSubmittedWhileLoading_runBetweenChunks() throws Exception {
+        AddressBook addressBook = new AddressBookGenerator()
+                .withPersonCount(AddressBookLoader.CHUNK_SIZE * 4)
+                .withRemindersPerPerson(0)
+                .generate();
+        CountDownLatch readRelease = new CountDownLatch(1);
+        CompletableFuture<ReadOnlyAddressBook> load = loader.load(() -> {
+            readRelease.await(5, TimeUnit.SECONDS);
+            return addressBook;
+        });
+
+        // After each task while loading, a task records how many persons are loaded when it runs
+        List<Integer> loadedCounts = Collections.synchronizedList(new ArrayList<>());
+        modelWorker.addTaskListener(() -> {
+            if (!load.isDone()) {
+                modelWorker.execute(() -> loadedCounts.add(model.getAddressBook().getPersonList().size()));
+            }
+        });
+        readRelease.countDown();
+        load.get(5, TimeUnit.SECONDS);
+        modelWorker.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+        assertTrue(loadedCounts.stream().anyMatch(count -> 0 < count && count < addressBook.getPersonList().size()));
+    }
+}
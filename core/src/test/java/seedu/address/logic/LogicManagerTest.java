@@ -0,0 +1,357 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.FlightRecorderUtil.recordEvents;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.workload.RecordedCommand;
+import seedu.address.logic.workload.SessionRecorder;
+import seedu.address.logic.workload.SessionReplayer;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Date;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ReminderBuilder;
+
+public class LogicManagerTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+    private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void execute_invalidCommandFormat_throwsParseException() {
+        String invalidCommand = "uicfhmowqewca";
+        assertParseException(invalidCommand, MESSAGE_UNKNOWN_COMMAND);
+    }
+
+    @Test
+    public void execute_commandExecutionError_throwsCommandException() {
+        String deleteCommand = "delete 9";
+        assertCommandException(deleteCommand, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_validCommand_success() throws Exception {
+        String listCommand = ListCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_validCommand_recordsMetrics() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        CommandMetrics metrics = model.getMetricsRegistry().getCommandMetrics(ListCommand.COMMAND_WORD);
+        assertEquals(1, metrics.getRunCount());
+        assertEquals(0, metrics.getFailureCount());
+        assertEquals(1, metrics.getParseNanos().getCount());
+        assertEquals(1, metrics.getExecuteNanos().getCount());
+        assertEquals(1, metrics.getSaveNanos().getCount());
+    }
+
+    @Test
+    public void executeWithoutSaving_validCommand_recordsNoSave() throws Exception {
+        logic.executeWithoutSaving(ListCommand.COMMAND_WORD);
+        CommandMetrics metrics = model.getMetricsRegistry().getCommandMetrics(ListCommand.COMMAND_WORD);
+        assertEquals(1, metrics.getExecuteNanos().getCount());
+        assertEquals(0, metrics.getSaveNanos().getCount());
+    }
+
+    @Test
+    public void execute_failingCommand_recordsFailure() {
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        CommandMetrics metrics = model.getMetricsRegistry().getCommandMetrics("delete");
+        assertEquals(1, metrics.getRunCount());
+        assertEquals(1, metrics.getFailureCount());
+        assertEquals(1, metrics.getParseNanos().getCount());
+        assertEquals(0, metrics.getExecuteNanos().getCount());
+    }
+
+    @Test
+    public void execute_sessionRecorded_commandsRecorded() throws Exception {
+        Path sessionFile = temporaryFolder.resolve("session.txt");
+        try (SessionRecorder recorder = new SessionRecorder(sessionFile, temporaryFolder.resolve("addressBook.json"))) {
+            logic.setSessionRecorder(recorder);
+            logic.execute(ListCommand.COMMAND_WORD);
+            assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+            logic.setSessionRecorder(null);
+            logic.execute(ListCommand.COMMAND_WORD);
+        }
+        List<RecordedCommand> session = SessionReplayer.readSession(sessionFile);
+        assertEquals(2, session.size());
+        assertEquals(ListCommand.COMMAND_WORD, session.get(0).getCommandText());
+        assertTrue(session.get(0).isSuccessful());
+        assertEquals("delete 9", session.get(1).getCommandText());
+        assertFalse(session.get(1).isSuccessful());
+    }
+
+    @Test
+    public void execute_validCommand_recordsCommandEvent() throws Throwable {
+        List<RecordedEvent> events = recordEvents(CommandEvent.NAME, () -> logic.execute(ListCommand.COMMAND_WORD));
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(ListCommand.COMMAND_WORD, event.getString("commandWord"));
+        assertTrue(event.getBoolean("succeeded"));
+        assertTrue(event.getDuration("saveDuration").toNanos() > 0);
+        assertEquals(model.getFilteredPersonList().size(), event.getInt("resultSize"));
+    }
+
+    @Test
+    public void execute_failingCommand_recordsFailedCommandEvent() throws Throwable {
+        List<RecordedEvent> events = recordEvents(CommandEvent.NAME, () ->
+                assertThrows(CommandException.class, () -> logic.execute("delete 9")));
+        assertEquals(1, events.size());
+        assertEquals("delete", events.get(0).getString("commandWord"));
+        assertFalse(events.get(0).getBoolean("succeeded"));
+        assertEquals(0, events.get(0).getDuration("saveDuration").toNanos());
+    }
+
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD).get();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() throws Exception {
+        Throwable error = logic.executeAsync("uicfhmowqewca").handle((result, e) -> e).get();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_whileLoading_onlyReadOnlyCommandsRunBeforeLoad() throws Exception {
+        CountDownLatch readRelease = new CountDownLatch(1);
+        CompletableFuture<ReadOnlyAddressBook> load = logic.loadAddressBook(() -> {
+            readRelease.await(5, TimeUnit.SECONDS);
+            return getTypicalAddressBook();
+        });
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> listBeforeAdd = logic.executeAsync(ListCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> add = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> listAfterAdd = logic.executeAsync(ListCommand.COMMAND_WORD);
+
+        listBeforeAdd.get(5, TimeUnit.SECONDS);
+        assertFalse(add.isDone());
+        // Waits its turn after the command that waits for the load
+        assertFalse(listAfterAdd.isDone());
+
+        readRelease.countDown();
+        listAfterAdd.get(5, TimeUnit.SECONDS);
+        assertTrue(load.isDone() && add.isDone());
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeAsync_listAndExitWhileLoading_noPartialSave() throws Exception {
+        List<Integer> savedPersonCounts = new CopyOnWriteArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedPersonCounts.add(addressBook.getPersonList().size());
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        CountDownLatch readRelease = new CountDownLatch(1);
+        CompletableFuture<ReadOnlyAddressBook> load = logic.loadAddressBook(() -> {
+            readRelease.await(5, TimeUnit.SECONDS);
+            return getTypicalAddressBook();
+        });
+
+        logic.executeAsync(ListCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        CompletableFuture<CommandResult> exit = logic.executeAsync(ExitCommand.COMMAND_WORD);
+        logic.saveAddressBook();
+        assertFalse(exit.isDone());
+        assertTrue(savedPersonCounts.isEmpty());
+
+        readRelease.countDown();
+        assertTrue(exit.get(5, TimeUnit.SECONDS).isExit());
+        assertTrue(load.isDone());
+        assertEquals(List.of(getTypicalAddressBook().getPersonList().size()), savedPersonCounts);
+    }
+
+    @Test
+    public void loadAddressBook_remindersLoaded_reminderListRefreshedAfterTasks() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(AMY);
+        Reminder upcoming = new ReminderBuilder().withPerson(AMY)
+                .withDate(new Date(LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES)).toString())
+                .build();
+        addressBook.addReminder(upcoming);
+
+        logic.loadAddressBook(() -> addressBook).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(upcoming), model.getFilteredReminderList());
+    }
+
+    @Test
+    public void executeAsync_loadFails_waitingCommandsStillRun() throws Exception {
+        logic.loadAddressBook(() -> {
+            throw new IOException("read error");
+        });
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.executeAsync(addCommand).get(5, TimeUnit.SECONDS);
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_throwsCommandException() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_storageThrowsAdException_throwsCommandException() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
+    }
+
+    /**
+     * Executes the command and confirms that
+     * - no exceptions are thrown <br>
+     * - the feedback message is equal to {@code expectedMessage} <br>
+     * - the internal model manager state is the same as that in {@code expectedModel} <br>
+     * @see #assertCommandFailure(String, Class, String, Model)
+     */
+    private void assertCommandSuccess(String inputCommand, String expectedMessage,
+            Model expectedModel) throws CommandException, ParseException {
+        CommandResult result = logic.execute(inputCommand);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(expectedModel, model);
+    }
+
+    /**
+     * Executes the command, confirms that a ParseException is thrown and that the result message is correct.
+     * @see #assertCommandFailure(String, Class, String, Model)
+     */
+    private void assertParseException(String inputCommand, String expectedMessage) {
+        assertCommandFailure(inputCommand, ParseException.class, expectedMessage);
+    }
+
+    /**
+     * Executes the command, confirms that a CommandException is thrown and that the result message is correct.
+     * @see #assertCommandFailure(String, Class, String, Model)
+     */
+    private void assertCommandException(String inputCommand, String expectedMessage) {
+        assertCommandFailure(inputCommand, CommandException.class, expectedMessage);
+    }
+
+    /**
+     * Executes the command, confirms that the exception is thrown and that the result message is correct.
+     * @see #assertCommandFailure(String, Class, String, Model)
+     */
+    private void assertCommandFailure(String inputCommand, Class<? extends Throwable> expectedException,
+            String expectedMessage) {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandFailure(inputCommand, expectedException, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Executes the command and confirms that
+     * - the {@code expectedException} is thrown <br>
+     * - the resulting error message is equal to {@code expectedMessage} <br>
+     * - the internal model manager state is the same as that in {@code expectedModel} <br>
+     * @see #assertCommandSuccess(String, String, Model)
+     */
+    private void assertCommandFailure(String inputCommand, Class<? extends Throwable> expectedException,
+            String expectedMessage, Model expectedModel) {
+        assertThrows(expectedException, expectedMessage, () -> logic.execute(inputCommand));
+        assertEquals(expectedModel, model);
+    }
+
+    /**
+     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     *
+     * @param e the exception to be thrown by the Storage component
+     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     */
+    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
+
+        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                throw e;
+            }
+        };
+
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        logic = new LogicManager(model, storage);
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+}
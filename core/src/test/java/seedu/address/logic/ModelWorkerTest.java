@@ -0,0 +1,92 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class ModelWorkerTest {
+
+    private final ModelWorker modelWorker = new ModelWorker();
+
+    @AfterEach
+    public void tearDown() {
+        modelWorker.shutdown();
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelWorker.submit(null));
+    }
+
+    @Test
+    public void submit_tasks_runInOrderOnOneThread() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstTaskRelease = new CountDownLatch(1);
+        modelWorker.submit(() -> {
+            // Later tasks wait for this one even though it blocks
+            firstTaskRelease.await(5, TimeUnit.SECONDS);
+            order.add(1);
+            threads.add(Thread.currentThread());
+            return null;
+        });
+        CompletableFuture<Integer> second = modelWorker.submit(() -> {
+            order.add(2);
+            threads.add(Thread.currentThread());
+            return 2;
+        });
+        firstTaskRelease.countDown();
+
+        assertEquals(Integer.valueOf(2), second.get());
+        assertEquals(List.of(1, 2), order);
+        assertSame(threads.get(0), threads.get(1));
+        assertTrue(threads.get(0) != Thread.currentThread());
+    }
+
+    @Test
+    public void submit_taskThrows_futureCompletesWithException() throws Exception {
+        CommandException exception = new CommandException("failed");
+        Throwable error = modelWorker.submit(() -> {
+            throw exception;
+        }).handle((result, e) -> e).get();
+        assertSame(exception, error);
+    }
+
+    @Test
+    public void addTaskListener_taskRuns_listenerRunsBeforeFutureCompletes() throws Exception {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        modelWorker.addTaskListener(() -> events.add("listener"));
+        modelWorker.submit(() -> events.add("task")).thenRun(() -> events.add("future")).get();
+        modelWorker.execute(() -> {
+            throw new IllegalStateException();
+        });
+        modelWorker.submit(() -> null).get();
+
+        // listeners also run after failed tasks
+        assertEquals(List.of("task", "listener", "future", "listener", "listener"), events);
+    }
+
+    @Test
+    public void shutdown_pendingTasks_waitsForThem() {
+        List<Integer> done = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 3; i++) {
+            int task = i;
+            modelWorker.execute(() -> done.add(task));
+        }
+        modelWorker.shutdown();
+        assertEquals(List.of(0, 1, 2), done);
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = "add n/Amy Bee p/11111111 e/amy@example.com a/Block 312";
+    private static final String ADD_BOB = "add n/Bob Choo p/22222222 e/bob@example.com a/Block 123";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+    private final PrintStream err = new PrintStream(errBytes, true);
+    private int saveCount = 0;
+
+    @Test
+    public void run_validCommands_savedOnceAtEnd() throws Exception {
+        BatchResult result = run(0, false, "# comment", "", ADD_AMY, "list", ADD_BOB, "delete 1");
+
+        assertEquals(new BatchResult(4, 0, 1), result);
+        assertEquals(1, saveCount);
+        Optional<ReadOnlyAddressBook> saved = readSavedAddressBook();
+        assertEquals(model.getAddressBook(), saved.get());
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, saved.get().getPersonList().size());
+    }
+
+    @Test
+    public void run_noChanges_notSaved() throws Exception {
+        assertEquals(new BatchResult(2, 0, 0), run(0, false, "list", "find Alice"));
+        assertEquals(Optional.empty(), readSavedAddressBook());
+    }
+
+    @Test
+    public void run_failedCommands_reportedAndOthersRun() throws Exception {
+        BatchResult result = run(0, false, ADD_AMY, "delete 99", "unknown", ADD_BOB);
+
+        assertEquals(new BatchResult(4, 2, 1), result);
+        String errors = errBytes.toString();
+        assertTrue(errors.contains("Line 2: delete 99\n    " + MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), errors);
+        assertTrue(errors.contains("Line 3: unknown"), errors);
+    }
+
+    @Test
+    public void run_stopOnFailure_stopsAtFirstFailure() throws Exception {
+        assertEquals(new BatchResult(2, 1, 1), run(0, true, ADD_AMY, "delete 99", ADD_BOB));
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_checkpoints_savedAtCheckpointsWithChanges() throws Exception {
+        // saved after the 2nd command, not after the 4th as list changes nothing, and at the end
+        assertEquals(new BatchResult(5, 0, 2), run(2, false, ADD_AMY, ADD_BOB, "list", "find Amy", "delete 1"));
+        assertEquals(2, saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        assertEquals(new BatchResult(2, 0, 1), run(0, false, ADD_AMY, "exit", ADD_BOB));
+    }
+
+    private BatchResult run(int checkpointInterval, boolean isStoppedOnFailure, String... lines) throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        BatchRunner batchRunner = new BatchRunner(logic, checkpointInterval, isStoppedOnFailure, err);
+        return batchRunner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    private Optional<ReadOnlyAddressBook> readSavedAddressBook() throws Exception {
+        return new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).readAddressBook();
+    }
+}
@@ -8,14 +8,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.metrics.MetricsRegistry;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
@@ -24,6 +28,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderSummary;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -124,6 +129,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addUniquePersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -150,7 +160,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObservableList<Person> getFilteredPersonList() {
+        public ListenableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -179,13 +189,23 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addUniqueReminders(List<Reminder> reminders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setReminder(Reminder target, Reminder editedReminder) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Reminder> getFilteredReminderList() {
+        public ListenableList<Reminder> getFilteredReminderList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshReminderList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -194,11 +214,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredReminderListToDueBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredReminderListToOverdue() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredReminderListToNext(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public java.util.List<Reminder> getRemindersByPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReminderSummary getReminderSummary(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> takePersonsWithChangedReminderSummaries() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int cleanUpOrphanedReminders() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MetricsRegistry getMetricsRegistry() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.model.Model.PREDICATE_SHOW_UPCOMING_REMINDERS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.reminder.Date;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.testutil.ReminderBuilder;
+
+public class ReminderMarkCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Reminder daily;
+
+    @BeforeEach
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        daily = new ReminderBuilder().withPerson(ALICE).withDate(new Date(start).toString())
+                .withMessage("Daily").withRecurrence("daily").build();
+        model.addReminder(daily);
+        model.updateFilteredReminderList(PREDICATE_SHOW_UPCOMING_REMINDERS);
+    }
+
+    @Test
+    public void execute_laterOccurrence_throwsCommandException() {
+        Reminder secondOccurrence = model.getFilteredReminderList().get(1);
+        ReminderMarkCommand command = new ReminderMarkCommand(List.of(Index.fromOneBased(2)));
+        assertCommandFailure(command, model, String.format(
+                ReminderMarkCommand.MESSAGE_EARLIER_OCCURRENCE_NOT_COMPLETED, Messages.format(secondOccurrence)));
+    }
+
+    @Test
+    public void execute_consecutiveOccurrences_onlyThoseCompleted() throws Exception {
+        Reminder thirdOccurrence = model.getFilteredReminderList().get(2);
+        new ReminderMarkCommand(List.of(Index.fromOneBased(2), Index.fromOneBased(1))).execute(model);
+
+        assertTrue(model.hasReminder(new Reminder(ALICE, daily.getDate(), daily.getMessage(), false,
+                daily.getRecurrence(), 2)));
+        assertEquals(thirdOccurrence.getDate(), model.getFilteredReminderList().get(0).getDate());
+    }
+
+    @Test
+    public void execute_untilDate_occurrencesDueByThenCompleted() throws Exception {
+        Reminder fourthOccurrence = model.getFilteredReminderList().get(3);
+        Date until = model.getFilteredReminderList().get(2).getDate();
+        new ReminderMarkCommand(Index.fromOneBased(2), until).execute(model);
+
+        assertTrue(model.hasReminder(new Reminder(ALICE, daily.getDate(), daily.getMessage(), false,
+                daily.getRecurrence(), 3)));
+        assertEquals(fourthOccurrence.getDate(), model.getFilteredReminderList().get(0).getDate());
+    }
+
+    @Test
+    public void execute_untilDateInvalidIndex_throwsCommandException() {
+        ReminderMarkCommand command = new ReminderMarkCommand(Index.fromOneBased(
+                model.getFilteredReminderList().size() + 1), daily.getDate());
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_REMINDER_DISPLAYED_INDEX);
+    }
+}
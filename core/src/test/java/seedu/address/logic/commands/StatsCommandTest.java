@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommands_showsNoCommands() {
+        assertCommandSuccess(new StatsCommand(), model, new MetricsRegistry().getReport(), expectedModel);
+    }
+
+    @Test
+    public void execute_commands_showsReport() {
+        model.getMetricsRegistry().getCommandMetrics("list").recordCompletion(true, -1);
+        assertCommandSuccess(new StatsCommand(), model, model.getMetricsRegistry().getReport(), expectedModel);
+    }
+}
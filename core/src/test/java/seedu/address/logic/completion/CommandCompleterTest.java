@@ -0,0 +1,98 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.list.ListenableArrayList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private final ListenableArrayList<Person> persons = new ListenableArrayList<>(List.of(ALICE, BENSON));
+    private final CommandCompleter completer = new CommandCompleter(persons);
+
+    @Test
+    public void complete_firstWord_completesCommandWord() {
+        assertComplete("re", 0, "reminder");
+        assertComplete("  VIEW", 2, "viewNote");
+        assertComplete("st", 0, "stats");
+        assertEquals(List.of(new Completion(0, "delete"), new Completion(0, "deleteNote")),
+                completer.getCompletions("de", 2, 5));
+
+        // a complete command word
+        assertNoCompletion("list");
+        assertNoCompletion("xyz");
+    }
+
+    @Test
+    public void complete_reminderSecondWord_completesSubCommandWord() {
+        assertComplete("reminder m", 9, "mark");
+        assertComplete("reminder  l", 10, "list");
+        assertNoCompletion("reminder add");
+    }
+
+    @Test
+    public void complete_argumentWithoutPrefix_completesPrefixOfCommand() {
+        assertComplete("add n/Bob e", 10, "e/");
+        assertComplete("reminder list f", 14, "from/");
+        assertComplete("find j", 5, "jtt/");
+        // prefixes that the command does not take
+        assertNoCompletion("find e");
+        assertNoCompletion("list e");
+        assertNoCompletion("add n/Bob e/b");
+    }
+
+    @Test
+    public void complete_tagPrefix_completesTag() {
+        // ALICE is tagged friends, and BENSON owesMoney and friends
+        assertComplete("tag 1 t/fr", 8, "friends");
+        assertComplete("add n/Bob t/O", 12, "owesMoney");
+    }
+
+    @Test
+    public void complete_reminderAddName_completesPersonNameWithSpaces() {
+        assertComplete("reminder add n/al", 15, "Alice Pauline");
+        assertComplete("reminder add n/Benson M", 15, "Benson Meier");
+        assertComplete("reminder add d/2025-01-01 n/b", 28, "Benson Meier");
+        // past the name, only prefixes are completed
+        assertNoCompletion("reminder add n/Alice Pauline m/x");
+        assertComplete("reminder add n/Alice Pauline d", 29, "d/");
+        // names are only completed for reminders
+        assertNoCompletion("add n/al");
+    }
+
+    @Test
+    public void complete_personsChange_followsList() {
+        persons.add(new PersonBuilder().withName("Alan Turing").build());
+        assertEquals(List.of(new Completion(15, "Alan Turing"), new Completion(15, "Alice Pauline")),
+                completer.getCompletions("reminder add n/al", 17, 5));
+
+        persons.remove(ALICE);
+        assertComplete("reminder add n/al", 15, "Alan Turing");
+        persons.clear();
+        assertNoCompletion("reminder add n/al");
+    }
+
+    @Test
+    public void completion_applyTo_replacesTypedWord() {
+        Completion completion = completer.complete("reminder add n/al", 17).get();
+        assertEquals("ice Pauline", completion.getRemainder(17));
+        assertEquals("reminder add n/Alice Pauline", completion.applyTo("reminder add n/al", 17));
+    }
+
+    private void assertComplete(String text, int expectedStart, String expectedText) {
+        assertEquals(Optional.of(new Completion(expectedStart, expectedText)),
+                completer.complete(text, text.length()));
+    }
+
+    private void assertNoCompletion(String text) {
+        assertEquals(Optional.empty(), completer.complete(text, text.length()));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionDictionaryTest {
+
+    private final CompletionDictionary dictionary = new CompletionDictionary();
+
+    @Test
+    public void complete_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dictionary.complete(null));
+    }
+
+    @Test
+    public void complete_emptyDictionary_returnsEmpty() {
+        assertEquals(Optional.empty(), dictionary.complete(""));
+    }
+
+    @Test
+    public void complete_matchingWords_returnsFirstLongerWordIgnoringCase() {
+        dictionary.add("friends");
+        dictionary.add("Family");
+        dictionary.add("colleagues");
+        dictionary.add("fri");
+
+        assertEquals(Optional.of("colleagues"), dictionary.complete(""));
+        assertEquals(Optional.of("Family"), dictionary.complete("f"));
+        assertEquals(Optional.of("Family"), dictionary.complete("FA"));
+
+        // a word that is already complete is skipped
+        assertEquals(Optional.of("friends"), dictionary.complete("FRI"));
+        assertEquals(Optional.empty(), dictionary.complete("friends"));
+        assertEquals(Optional.empty(), dictionary.complete("g"));
+    }
+
+    @Test
+    public void getCompletions_limit_returnsRankedWordsUpToLimit() {
+        dictionary.add("friends");
+        dictionary.add("Family");
+        dictionary.add("fri");
+        dictionary.add("colleagues");
+
+        assertEquals(List.of("Family", "fri", "friends"), dictionary.getCompletions("f", 5));
+        assertEquals(List.of("Family", "fri"), dictionary.getCompletions("f", 2));
+        assertEquals(List.of(), dictionary.getCompletions("f", 0));
+    }
+
+    @Test
+    public void remove_wordAddedTwice_keptUntilRemovedTwice() {
+        dictionary.add("friends");
+        dictionary.add("friends");
+
+        dictionary.remove("friends");
+        assertTrue(dictionary.contains("friends"));
+        assertEquals(Optional.of("friends"), dictionary.complete("f"));
+
+        dictionary.remove("friends");
+        assertFalse(dictionary.contains("friends"));
+        assertEquals(Optional.empty(), dictionary.complete("f"));
+
+        // removing an absent word does nothing
+        dictionary.remove("friends");
+        assertFalse(dictionary.contains("friends"));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.list.ListenableArrayList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagCompleterTest {
+
+    private static final Person RESEARCHER = new PersonBuilder().withName("Researcher")
+            .withTags().withAddedTag("robotics", "research").withAddedTag("professor", "title").build();
+
+    private final ListenableArrayList<Person> persons = new ListenableArrayList<>(List.of(ALICE, BENSON, RESEARCHER));
+    private final TagCompleter completer = new TagCompleter(persons);
+
+    @Test
+    public void getSuggestion_tagPrefix_completesFromAllTags() {
+        // ALICE is tagged friends, and BENSON owesMoney and friends
+        assertEquals(Optional.of("friends"), completer.getSuggestion("tag 1 t/fr", 10));
+        assertEquals(Optional.of("owesMoney"), completer.getSuggestion("t/O", 3));
+        assertEquals(Optional.of("robotics"), completer.getSuggestion("t/ro", 4));
+        assertEquals(Optional.empty(), completer.getSuggestion("t/friends", 9));
+    }
+
+    @Test
+    public void getSuggestion_typedTagPrefix_completesFromTagsOfThatType() {
+        assertEquals(Optional.of("robotics"), completer.getSuggestion("add n/Bob rtt/r", 15));
+        assertEquals(Optional.empty(), completer.getSuggestion("rtt/f", 5));
+        assertEquals(Optional.of("professor"), completer.getSuggestion("jtt/", 4));
+    }
+
+    @Test
+    public void getSuggestion_noTagBeforeCaret_returnsEmpty() {
+        assertEquals(Optional.empty(), completer.getSuggestion("tag 1 fr", 8));
+        assertEquals(Optional.empty(), completer.getSuggestion("tag 1 t/ fr", 11));
+        assertEquals(Optional.empty(), completer.getSuggestion("t/", 1));
+        // a prefix that does not start the word
+        assertEquals(Optional.empty(), completer.getSuggestion("xt/fr", 5));
+    }
+
+    @Test
+    public void getSuggestion_personsChange_followsList() {
+        persons.remove(RESEARCHER);
+        assertEquals(Optional.empty(), completer.getSuggestion("rtt/r", 5));
+
+        // friends stays while a person still has it
+        persons.remove(ALICE);
+        assertEquals(Optional.of("friends"), completer.getSuggestion("t/f", 3));
+        persons.set(0, new PersonBuilder(BENSON).withTags("family").build());
+        assertEquals(Optional.of("family"), completer.getSuggestion("t/f", 3));
+        assertEquals(Optional.empty(), completer.getSuggestion("t/o", 3));
+    }
+
+    @Test
+    public void findTagStart() {
+        assertEquals(8, TagCompleter.findTagStart("tag 1 t/fr", 10));
+        assertEquals(14, TagCompleter.findTagStart("add n/Bob rtt/r", 15));
+        assertEquals(4, TagCompleter.findTagStart("jtt/prof n/Name", 6));
+        assertEquals(-1, TagCompleter.findTagStart("tag 1 friends", 13));
+    }
+}
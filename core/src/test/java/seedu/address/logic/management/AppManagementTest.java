@@ -0,0 +1,134 @@
+package seedu.address.logic.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalReminders.getTypicalAddressBookWithReminders;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AppManagementTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private StorageManager storage;
+    private LogicManager logic;
+    private AppManagement appManagement;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBookWithReminders(), new UserPrefs());
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        appManagement = new AppManagement(logic, storage);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logic.getModelWorker().shutdown();
+    }
+
+    @Test
+    public void counts_typicalAddressBook() {
+        assertEquals(model.getAddressBook().getPersonList().size(), appManagement.getPersonCount());
+        assertEquals(3, appManagement.getReminderCount());
+        assertEquals(model.getFilteredPersonList().size(), appManagement.getShownPersonCount());
+        assertEquals(model.getFilteredReminderList().size(), appManagement.getShownReminderCount());
+    }
+
+    @Test
+    public void forceSave_savesAddressBook() {
+        appManagement.forceSave();
+        assertTrue(Files.exists(storage.getAddressBookFilePath()));
+        assertEquals(1, appManagement.getSaveCount());
+        assertTrue(appManagement.getLastSavedBytes() > 0);
+        assertEquals(appManagement.getLastSavedBytes(), appManagement.getTotalSavedBytes());
+    }
+
+    @Test
+    public void reload_changedModel_restoresSavedAddressBook() {
+        appManagement.forceSave();
+        int personCount = appManagement.getPersonCount();
+        model.deletePerson(ALICE);
+
+        assertEquals(personCount, appManagement.reload());
+        assertEquals(personCount, appManagement.getPersonCount());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void reload_noDataFile_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> appManagement.reload());
+    }
+
+    @Test
+    public void cleanUpOrphanedReminders_orphanedReminder_removed() {
+        model.deletePerson(ALICE);
+        assertEquals(1, appManagement.cleanUpOrphanedReminders());
+        assertEquals(2, appManagement.getReminderCount());
+        assertEquals(0, appManagement.cleanUpOrphanedReminders());
+    }
+
+    @Test
+    public void commandCounts_commandsRun() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(Exception.class, () -> logic.execute("delete 99"));
+        assertEquals(2, appManagement.getCommandCount());
+        assertEquals(1, appManagement.getFailedCommandCount());
+        assertEquals(model.getMetricsRegistry().getReport(), appManagement.getCommandMetricsReport());
+    }
+
+    @Test
+    public void setLogLevel_validLevel_setsLogLevel() {
+        Level original = LogsCenter.getLogLevel();
+        try {
+            appManagement.setLogLevel("fine");
+            assertEquals("FINE", appManagement.getLogLevel());
+        } finally {
+            LogsCenter.setLogLevel(original);
+        }
+    }
+
+    @Test
+    public void setLogLevel_invalidLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> appManagement.setLogLevel("LOUD"));
+    }
+
+    @Test
+    public void register_platformServer_registeredUntilUnregistered() throws Exception {
+        ObjectName name = new ObjectName(AppManagement.OBJECT_NAME);
+        appManagement.register();
+        try {
+            assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+            assertEquals(appManagement.getPersonCount(),
+                    ManagementFactory.getPlatformMBeanServer().getAttribute(name, "PersonCount"));
+        } finally {
+            appManagement.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}
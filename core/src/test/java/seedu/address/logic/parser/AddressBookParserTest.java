@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -22,6 +23,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -110,6 +112,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -120,4 +128,20 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void isReadOnly() {
+        assertTrue(AddressBookParser.isReadOnly(ListCommand.COMMAND_WORD));
+        assertTrue(AddressBookParser.isReadOnly("  find alice bob"));
+        assertTrue(AddressBookParser.isReadOnly(StatsCommand.COMMAND_WORD));
+        assertTrue(AddressBookParser.isReadOnly("reminder  list overdue"));
+
+        assertFalse(AddressBookParser.isReadOnly("delete 1"));
+        assertFalse(AddressBookParser.isReadOnly(ClearCommand.COMMAND_WORD));
+        assertFalse(AddressBookParser.isReadOnly(ExitCommand.COMMAND_WORD));
+        assertFalse(AddressBookParser.isReadOnly("reminder mark 1"));
+        assertFalse(AddressBookParser.isReadOnly("reminder"));
+        assertFalse(AddressBookParser.isReadOnly("listing"));
+        assertFalse(AddressBookParser.isReadOnly(""));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_FIELD_EMPTY;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
 import seedu.address.model.person.NoteContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
@@ -47,6 +49,18 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "note/hello", expectedFindNoteCommand);
     }
 
+    @Test
+    public void parseLiveSearch_validArgs_returnsPredicate() throws Exception {
+        // names match by the start of words
+        assertEquals(new NameStartsWithKeywordsPredicate(Arrays.asList("Ali", "Bo")),
+                parser.parseLiveSearch(" Ali \t Bo"));
+
+        // tags and notes match as in find
+        assertEquals(new TagContainsKeywordsPredicate(Arrays.asList(new Tag("test1"))),
+                parser.parseLiveSearch("t/test1"));
+        assertEquals(new NoteContainsKeywordsPredicate("hel"), parser.parseLiveSearch("note/hel"));
+    }
+
     @Test
     public void parse_invalidArgs() {
         // no blank field
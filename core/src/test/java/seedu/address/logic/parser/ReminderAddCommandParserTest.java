@@ -21,6 +21,7 @@ import seedu.address.logic.commands.ReminderAddCommand;
 import seedu.address.model.person.Name;
 import seedu.address.model.reminder.Date;
 import seedu.address.model.reminder.Message;
+import seedu.address.model.reminder.Recurrence;
 
 public class ReminderAddCommandParserTest {
     private final ReminderAddCommandParser parser = new ReminderAddCommandParser();
@@ -46,6 +47,37 @@ public class ReminderAddCommandParserTest {
         assertParseSuccess(parser, NAME_DESC_AMY + DATE_DESC_REMINDER + MESSAGE_DESC_REMINDER, expectedCommand);
     }
 
+    @Test
+    public void parse_recurrencePresent_success() {
+        Date expectedDate = new Date(VALID_DATE_REMINDER);
+        Message expectedMessage = new Message(VALID_MESSAGE_REMINDER);
+
+        // without end date
+        assertParseSuccess(parser, "1" + DATE_DESC_REMINDER + MESSAGE_DESC_REMINDER + " r/weekly",
+                new ReminderAddCommand(INDEX_FIRST_PERSON, expectedDate, expectedMessage, new Recurrence("weekly")));
+
+        // with end date
+        assertParseSuccess(parser, "1" + DATE_DESC_REMINDER + MESSAGE_DESC_REMINDER + " r/every 3 days u/2027-01-31",
+                new ReminderAddCommand(INDEX_FIRST_PERSON, expectedDate, expectedMessage,
+                        new Recurrence("every 3 days", new Date("2027-01-31"))));
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        // invalid rule
+        assertParseFailure(parser, "1" + DATE_DESC_REMINDER + MESSAGE_DESC_REMINDER + " r/yearly",
+                Recurrence.MESSAGE_CONSTRAINTS);
+
+        // end before start
+        assertParseFailure(parser, "1" + DATE_DESC_REMINDER + MESSAGE_DESC_REMINDER + " r/daily u/2026-01-01",
+                Recurrence.MESSAGE_END_BEFORE_START);
+
+        // end without rule
+        assertParseFailure(parser, "1" + DATE_DESC_REMINDER + MESSAGE_DESC_REMINDER + " u/2027-01-31",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderAddCommandParser.MESSAGE_UNTIL_WITHOUT_RECURRENCE
+                + "\n" + ReminderAddCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderAddCommand.MESSAGE_USAGE);
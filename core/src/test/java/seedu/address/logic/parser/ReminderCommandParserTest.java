@@ -46,6 +46,17 @@ public class ReminderCommandParserTest {
         ReminderMarkCommand command = (ReminderMarkCommand) parser.parse(
                 ReminderMarkCommand.SUB_COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
         assertEquals(new ReminderMarkCommand(List.of(INDEX_FIRST_PERSON)), command);
+
+        command = (ReminderMarkCommand) parser.parse(
+                ReminderMarkCommand.SUB_COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " to/2026-12-31");
+        assertEquals(new ReminderMarkCommand(INDEX_FIRST_PERSON, new Date("2026-12-31")), command);
+    }
+
+    @Test
+    public void parse_markUntilWithSeveralIndexes_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ReminderMarkCommand.MESSAGE_USAGE), () -> parser.parse(
+                        ReminderMarkCommand.SUB_COMMAND_WORD + " 1 2 to/2026-12-31"));
     }
 
     @Test
@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ReminderListCommand;
+import seedu.address.model.reminder.Date;
+
+public class ReminderListCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderListCommand.MESSAGE_USAGE);
+
+    private ReminderListCommandParser parser = new ReminderListCommandParser();
+
+    @Test
+    public void parse_noArguments_returnsUpcomingListCommand() {
+        assertParseSuccess(parser, "", new ReminderListCommand());
+        assertParseSuccess(parser, "  3 ", new ReminderListCommand());
+    }
+
+    @Test
+    public void parse_validRange_returnsDueBetweenListCommand() {
+        assertParseSuccess(parser, " from/2026-12-01 to/31/12/2026 23:00",
+                new ReminderListCommand(new Date("2026-12-01"), new Date("2026-12-31 23:00")));
+
+        // same day
+        assertParseSuccess(parser, " to/2026-12-01 from/2026-12-01",
+                new ReminderListCommand(new Date("2026-12-01"), new Date("2026-12-01")));
+    }
+
+    @Test
+    public void parse_invalidRange_failure() {
+        // missing bound
+        assertParseFailure(parser, " from/2026-12-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " to/2026-12-01", MESSAGE_INVALID_FORMAT);
+
+        // non-empty preamble
+        assertParseFailure(parser, " overdue from/2026-12-01 to/2026-12-31", MESSAGE_INVALID_FORMAT);
+
+        // invalid date
+        assertParseFailure(parser, " from/2026-13-01 to/2026-12-31", Date.MESSAGE_CONSTRAINTS);
+
+        // end before start
+        assertParseFailure(parser, " from/2026-12-31 to/2026-12-01",
+                ReminderListCommandParser.MESSAGE_RANGE_END_BEFORE_START);
+
+        // beyond the years a range may cover
+        assertParseFailure(parser, " from/+999999990-01-01 to/+999999990-12-31",
+                ReminderListCommandParser.MESSAGE_RANGE_OUT_OF_BOUNDS);
+        assertParseFailure(parser, " from/2026-12-01 to/+10000-01-01",
+                ReminderListCommandParser.MESSAGE_RANGE_OUT_OF_BOUNDS);
+        assertParseFailure(parser, " from/-0001-12-01 to/2026-01-01",
+                ReminderListCommandParser.MESSAGE_RANGE_OUT_OF_BOUNDS);
+        assertParseSuccess(parser, " from/0001-01-01 to/9999-12-31",
+                new ReminderListCommand(new Date("0001-01-01"), new Date("9999-12-31")));
+
+        // duplicate prefix
+        assertParseFailure(parser, " from/2026-12-01 from/2026-12-02 to/2026-12-31",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FROM));
+    }
+
+    @Test
+    public void parse_overdue_returnsOverdueListCommand() {
+        assertParseSuccess(parser, " overdue ", ReminderListCommand.overdue());
+        assertParseFailure(parser, " overdue 3", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_next_returnsNextListCommand() {
+        assertParseSuccess(parser, " next 5", new ReminderListCommand(5));
+        assertParseFailure(parser, " next", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " next 0", ReminderListCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " next five", ReminderListCommandParser.MESSAGE_INVALID_COUNT);
+
+        // count beyond the cap
+        assertParseSuccess(parser, " next " + ReminderListCommand.MAX_NEXT_COUNT,
+                new ReminderListCommand(ReminderListCommand.MAX_NEXT_COUNT));
+        assertParseFailure(parser, " next " + (ReminderListCommand.MAX_NEXT_COUNT + 1),
+                ReminderListCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " next 2000000000", ReminderListCommandParser.MESSAGE_INVALID_COUNT);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveSearchTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Queue<Runnable> evaluatorTasks = new ArrayDeque<>();
+    private final LiveSearch queuedLiveSearch = new LiveSearch(model, evaluatorTasks::add, Runnable::run);
+    private final LiveSearch liveSearch = new LiveSearch(model, Runnable::run, Runnable::run);
+
+    @Test
+    public void update_findCommand_filtersByStartOfWords() {
+        liveSearch.update("find mei");
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        liveSearch.update("  find MEI d");
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_notFindCommandAfterFind_showsAllPersons() {
+        liveSearch.update("find mei");
+        liveSearch.update("find ");
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+
+        liveSearch.update("find mei");
+        liveSearch.update("fin");
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_invalidFindCommand_listUnchanged() {
+        liveSearch.update("find mei");
+        liveSearch.update("find mei t/");
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_queriesReplacedBeforeEvaluated_onlyLatestShown() {
+        queuedLiveSearch.update("find b");
+        queuedLiveSearch.update("find d");
+        queuedLiveSearch.update("find g");
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+
+        // the replaced queries stop without showing their matches
+        evaluatorTasks.remove().run();
+        evaluatorTasks.remove().run();
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+        evaluatorTasks.remove().run();
+        assertEquals(List.of(GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_narrowingQueryAfterPersonsChange_includesChangedPersons() {
+        liveSearch.update("find mei");
+        Person meierAdded = new PersonBuilder().withName("Zed Meier").build();
+        model.addPerson(meierAdded);
+        Person bensonEdited = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        model.setPerson(BENSON, bensonEdited);
+
+        // narrows the last query, so only its matches and the changed persons are tested
+        liveSearch.update("find meie");
+        assertEquals(List.of(DANIEL, meierAdded), model.getFilteredPersonList());
+
+        // widens the last query, so every person is tested
+        liveSearch.update("find m");
+        assertTrue(model.getFilteredPersonList().contains(bensonEdited));
+    }
+
+    @Test
+    public void reset_afterFind_listKeptWhenTextCleared() {
+        liveSearch.update("find mei");
+        liveSearch.reset();
+        liveSearch.update("");
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_liveSearchDisabled_listUnchanged() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setLiveSearchEnabled(false);
+        Model disabledModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+        new LiveSearch(disabledModel, Runnable::run, Runnable::run).update("find mei");
+        assertEquals(getTypicalPersons(), disabledModel.getFilteredPersonList());
+    }
+}
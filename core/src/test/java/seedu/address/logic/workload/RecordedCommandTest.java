@@ -0,0 +1,59 @@
+package seedu.address.logic.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class RecordedCommandTest {
+
+    private static final RecordedCommand FIND = new RecordedCommand(1500, 2300, true, "find Alex\tYeoh");
+
+    @Test
+    public void constructor_invalidValues_throwsException() {
+        assertThrows(NullPointerException.class, () -> new RecordedCommand(0, 0, true, null));
+        assertThrows(IllegalArgumentException.class, () -> new RecordedCommand(-1, 0, true, "list"));
+        assertThrows(IllegalArgumentException.class, () -> new RecordedCommand(0, -1, true, "list"));
+        assertThrows(IllegalArgumentException.class, () -> new RecordedCommand(0, 0, true, "list\nclear"));
+    }
+
+    @Test
+    public void toLine_fromLine_sameCommand() throws Exception {
+        assertEquals("1500\t2300\tok\tfind Alex\tYeoh", FIND.toLine());
+        assertEquals(FIND, RecordedCommand.fromLine(FIND.toLine()));
+
+        RecordedCommand failed = new RecordedCommand(0, 10, false, "");
+        assertEquals(failed, RecordedCommand.fromLine(failed.toLine()));
+    }
+
+    @Test
+    public void fromLine_invalidLine_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> RecordedCommand.fromLine("list"));
+        assertThrows(IllegalValueException.class, () -> RecordedCommand.fromLine("1\t2\tmaybe\tlist"));
+        assertThrows(IllegalValueException.class, () -> RecordedCommand.fromLine("a\t2\tok\tlist"));
+        assertThrows(IllegalValueException.class, () -> RecordedCommand.fromLine("1\t-2\tok\tlist"));
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("find", FIND.getCommandWord());
+        assertEquals("reminder", new RecordedCommand(0, 0, true, "  reminder list").getCommandWord());
+        assertEquals("", new RecordedCommand(0, 0, false, " ").getCommandWord());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(FIND.equals(FIND));
+        assertTrue(FIND.equals(new RecordedCommand(1500, 2300, true, "find Alex\tYeoh")));
+        assertFalse(FIND.equals(null));
+        assertFalse(FIND.equals(5));
+        assertFalse(FIND.equals(new RecordedCommand(1501, 2300, true, "find Alex\tYeoh")));
+        assertFalse(FIND.equals(new RecordedCommand(1500, 2301, true, "find Alex\tYeoh")));
+        assertFalse(FIND.equals(new RecordedCommand(1500, 2300, false, "find Alex\tYeoh")));
+        assertFalse(FIND.equals(new RecordedCommand(1500, 2300, true, "find Alex")));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SessionRecorderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SessionRecorder(null, testFolder.resolve("data.json")));
+        assertThrows(NullPointerException.class, () -> new SessionRecorder(testFolder.resolve("session.txt"), null));
+    }
+
+    @Test
+    public void constructor_dataFile_copiedNextToSession() throws Exception {
+        Path sessionFile = testFolder.resolve("session.txt");
+        Path dataFile = testFolder.resolve("data.json");
+        Files.writeString(dataFile, "{ \"persons\" : [ ] }");
+        new SessionRecorder(sessionFile, dataFile, 0).close();
+        Files.writeString(dataFile, "{ }");
+
+        Path snapshot = SessionRecorder.getDataSnapshotPath(sessionFile);
+        assertEquals(testFolder.resolve("session.txt" + SessionRecorder.DATA_SNAPSHOT_SUFFIX), snapshot);
+        assertEquals("{ \"persons\" : [ ] }", Files.readString(snapshot));
+
+        // Without a data file, the snapshot of the earlier session is removed
+        Files.delete(dataFile);
+        new SessionRecorder(sessionFile, dataFile, 0).close();
+        assertFalse(Files.exists(snapshot));
+    }
+
+    @Test
+    public void record_commands_readBackInOrder() throws Exception {
+        Path sessionFile = testFolder.resolve("sessions").resolve("session.txt");
+        try (SessionRecorder recorder = new SessionRecorder(sessionFile, testFolder.resolve("data.json"), 0)) {
+            recorder.record("list", 2_000_000, 1_500_000, true);
+            recorder.record("delete 9", 5_000_000, 300_000, false);
+        }
+        assertEquals(List.of(new RecordedCommand(2, 1500, true, "list"),
+                new RecordedCommand(5, 300, false, "delete 9")), SessionReplayer.readSession(sessionFile));
+    }
+
+    @Test
+    public void record_beforeStartOrMultiline_recordedAtStartOrSkipped() throws Exception {
+        Path sessionFile = testFolder.resolve("session.txt");
+        try (SessionRecorder recorder = new SessionRecorder(sessionFile, testFolder.resolve("data.json"), 1_000_000)) {
+            recorder.record("list", 0, 100_000, true);
+            recorder.record("list\nclear", 2_000_000, 100_000, true);
+        }
+        assertEquals(List.of(new RecordedCommand(0, 100, true, "list")), SessionReplayer.readSession(sessionFile));
+    }
+
+    @Test
+    public void record_afterClose_ignored() throws Exception {
+        Path sessionFile = testFolder.resolve("session.txt");
+        SessionRecorder recorder = new SessionRecorder(sessionFile, testFolder.resolve("data.json"), 0);
+        recorder.close();
+        recorder.record("list", 0, 0, true);
+        assertTrue(SessionReplayer.readSession(sessionFile).isEmpty());
+        assertTrue(Files.readAllLines(sessionFile).stream()
+                .allMatch(line -> line.startsWith(SessionRecorder.COMMENT_PREFIX)));
+    }
+}
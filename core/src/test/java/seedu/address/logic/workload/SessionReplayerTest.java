@@ -0,0 +1,88 @@
+package seedu.address.logic.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class SessionReplayerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+    private final SessionReplayer replayer = new SessionReplayer(new PrintStream(errBytes, true));
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logic.getModelWorker().shutdown();
+    }
+
+    @Test
+    public void readSession_invalidLine_throwsDataLoadingException() throws Exception {
+        Path sessionFile = testFolder.resolve("session.txt");
+        Files.write(sessionFile, List.of("# comment", "0\t10\tok\tlist", "not a command"));
+        assertThrows(DataLoadingException.class, () -> SessionReplayer.readSession(sessionFile));
+    }
+
+    @Test
+    public void replay_sameOutcomes_timesByCommandWord() {
+        List<RecordedCommand> session = List.of(
+                new RecordedCommand(0, 1000, true, "list"),
+                new RecordedCommand(10, 2000, true, "find Alice"),
+                new RecordedCommand(20, 3000, true, "list"),
+                new RecordedCommand(30, 4000, false, "delete 100"));
+        replayer.replay(logic, session);
+        replayer.replay(logic, session);
+
+        assertEquals(8, replayer.getCommandCount());
+        assertEquals(0, replayer.getMismatchCount());
+        assertEquals(4, replayer.getReplayedMicros("list").getCount());
+        assertEquals(2, replayer.getReplayedMicros("find").getCount());
+        assertEquals(0, replayer.getReplayedMicros("add").getCount());
+        assertEquals("", errBytes.toString());
+
+        String report = replayer.getReport();
+        assertTrue(report.startsWith(String.format(SessionReplayer.MESSAGE_SUMMARY, 8, 0)), report);
+        assertTrue(report.contains("\nlist "), report);
+        assertTrue(report.contains("\ndelete "), report);
+    }
+
+    @Test
+    public void replay_differentOutcomes_mismatchesReported() {
+        replayer.replay(logic, List.of(
+                new RecordedCommand(0, 1000, true, "delete 100"),
+                new RecordedCommand(10, 1000, false, "list")));
+        assertEquals(2, replayer.getMismatchCount());
+        String err = errBytes.toString();
+        assertTrue(err.startsWith(String.format(SessionReplayer.MESSAGE_MISMATCH, "delete 100", "")), err);
+        assertTrue(err.contains(String.format(SessionReplayer.MESSAGE_UNEXPECTED_SUCCESS, "list")), err);
+    }
+}
@@ -8,6 +8,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalReminders.ALICE_REMINDER;
+import static seedu.address.testutil.TypicalReminders.BENSON_REMINDER;
+import static seedu.address.testutil.TypicalReminders.CARL_REMINDER;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -16,8 +19,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableArrayList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.reminder.Reminder;
@@ -79,6 +82,13 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void addUniqueReminders_remindersAdded_sortedByDate() {
+        addressBook.addReminder(ALICE_REMINDER);
+        addressBook.addUniqueReminders(List.of(CARL_REMINDER, BENSON_REMINDER));
+        assertEquals(List.of(BENSON_REMINDER, ALICE_REMINDER, CARL_REMINDER), addressBook.getReminderList());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -94,8 +104,8 @@ public class AddressBookTest {
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
     private static class AddressBookStub implements ReadOnlyAddressBook {
-        private final ObservableList<Person> persons = FXCollections.observableArrayList();
-        private final ObservableList<Reminder> reminders = FXCollections.observableArrayList();
+        private final ListenableArrayList<Person> persons = new ListenableArrayList<>();
+        private final ListenableArrayList<Reminder> reminders = new ListenableArrayList<>();
 
         AddressBookStub(Collection<Person> persons) {
             this(persons, Collections.emptyList());
@@ -107,12 +117,12 @@ public class AddressBookTest {
         }
 
         @Override
-        public ObservableList<Person> getPersonList() {
+        public ListenableList<Person> getPersonList() {
             return persons;
         }
 
         @Override
-        public ObservableList<Reminder> getReminderList() {
+        public ListenableList<Reminder> getReminderList() {
             return reminders;
         }
     }
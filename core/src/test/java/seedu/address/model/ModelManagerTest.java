@@ -5,19 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.FlightRecorderUtil.recordEvents;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Date;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.ReminderSummary;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.ReminderBuilder;
@@ -125,6 +132,124 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasReminder(completedReminder));
     }
 
+    @Test
+    public void updateFilteredReminderListToDueBetween_recurringReminder_expandsWithinRange() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        Reminder once = new ReminderBuilder().withPerson(ALICE).withDate(new Date(start.plusDays(3).plusHours(1)).toString())
+                .withMessage("Once").build();
+        Reminder daily = new ReminderBuilder().withPerson(BENSON).withDate(new Date(start).toString())
+                .withMessage("Daily").withRecurrence("daily").build();
+        Reminder completed = new ReminderBuilder().withPerson(ALICE).withDate(new Date(start).toString())
+                .withMessage("Done").build().markAsCompleted();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addReminder(once);
+        modelManager.addReminder(daily);
+        modelManager.addReminder(completed);
+
+        // occurrences beyond the upcoming window are expanded, completed reminders are left out
+        modelManager.updateFilteredReminderListToDueBetween(start.plusDays(2), start.plusDays(20));
+        List<Reminder> shown = modelManager.getFilteredReminderList();
+        assertEquals(20, shown.size());
+        assertEquals(new Date(start.plusDays(2)), shown.get(0).getDate());
+        assertEquals(once, shown.get(2));
+        assertEquals(new Date(start.plusDays(20)), shown.get(19).getDate());
+
+        // the query is kept when the stored reminders change, and re-run once the list is refreshed
+        modelManager.deleteReminder(once);
+        assertEquals(20, modelManager.getFilteredReminderList().size());
+        modelManager.refreshReminderList();
+        assertEquals(19, modelManager.getFilteredReminderList().size());
+    }
+
+    @Test
+    public void updateFilteredReminderListToOverdueAndNext_mixedReminders_success() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        Reminder overdue = new ReminderBuilder().withPerson(ALICE).withDate(new Date(now.minusDays(2)).toString())
+                .withMessage("Overdue").build();
+        Reminder overdueSeries = new ReminderBuilder().withPerson(BENSON)
+                .withDate(new Date(now.minusDays(1)).toString()).withMessage("Series").withRecurrence("weekly")
+                .build();
+        Reminder upcoming = new ReminderBuilder().withPerson(ALICE).withDate(new Date(now.plusDays(1)).toString())
+                .withMessage("Upcoming").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addReminder(overdue);
+        modelManager.addReminder(overdueSeries);
+        modelManager.addReminder(upcoming);
+
+        modelManager.updateFilteredReminderListToOverdue();
+        assertEquals(List.of(overdue, overdueSeries), modelManager.getFilteredReminderList());
+
+        // the next occurrences of the series are interleaved with other reminders
+        modelManager.updateFilteredReminderListToNext(3);
+        List<Reminder> next = modelManager.getFilteredReminderList();
+        assertEquals(3, next.size());
+        assertEquals(upcoming, next.get(0));
+        assertEquals(new Date(now.plusDays(6)), next.get(1).getDate());
+        assertEquals(new Date(now.plusDays(13)), next.get(2).getDate());
+    }
+
+    @Test
+    public void updateFilteredReminderListToNext_recurringReminders_mergedInDateOrder() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        Reminder daily = new ReminderBuilder().withPerson(ALICE).withDate(new Date(start).toString())
+                .withMessage("Daily").withRecurrence("daily", new Date(start.plusDays(2)).toString()).build();
+        Reminder everyThreeDays = new ReminderBuilder().withPerson(BENSON)
+                .withDate(new Date(start.plusHours(1)).toString()).withMessage("Every three days")
+                .withRecurrence("every 3 days").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addReminder(daily);
+        modelManager.addReminder(everyThreeDays);
+
+        // the daily reminder ends after its third occurrence, the other goes on
+        modelManager.updateFilteredReminderListToNext(6);
+        assertEquals(List.of(start, start.plusHours(1), start.plusDays(1), start.plusDays(2),
+                start.plusDays(3).plusHours(1), start.plusDays(6).plusHours(1)),
+                modelManager.getFilteredReminderList().stream().map(reminder -> reminder.getDate().value).toList());
+    }
+
+    @Test
+    public void updateFilteredLists_recordsFilterUpdateEvents() throws Throwable {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<RecordedEvent> events = recordEvents(FilterUpdateEvent.NAME, () -> {
+            modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+            modelManager.updateFilteredReminderListToOverdue();
+        });
+        assertEquals(2, events.size());
+        assertEquals(FilterUpdateEvent.PERSONS, events.get(0).getString("list"));
+        assertEquals(NameContainsKeywordsPredicate.class.getSimpleName(), events.get(0).getString("filter"));
+        assertEquals(2, events.get(0).getInt("sourceSize"));
+        assertEquals(1, events.get(0).getInt("shownSize"));
+        assertEquals(FilterUpdateEvent.REMINDERS, events.get(1).getString("list"));
+        assertEquals("overdue", events.get(1).getString("filter"));
+        assertEquals(0, events.get(1).getInt("shownSize"));
+    }
+
+    @Test
+    public void getReminderSummary_storedRemindersChange_updated() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        Reminder upcoming = new ReminderBuilder().withPerson(ALICE).withDate(new Date(now.plusDays(1)).toString())
+                .withMessage("Upcoming").build();
+        modelManager.addPerson(ALICE);
+        assertEquals(ReminderSummary.EMPTY, modelManager.getReminderSummary(ALICE));
+
+        modelManager.addReminder(upcoming);
+        assertEquals(new ReminderSummary(1, upcoming), modelManager.getReminderSummary(ALICE));
+
+        // reminders follow an edited person
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(ReminderSummary.EMPTY, modelManager.getReminderSummary(ALICE));
+        assertEquals(new ReminderSummary(1, upcoming.withPerson(editedAlice)),
+                modelManager.getReminderSummary(editedAlice));
+
+        modelManager.deleteReminder(upcoming.withPerson(editedAlice));
+        assertEquals(ReminderSummary.EMPTY, modelManager.getReminderSummary(editedAlice));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.StringGenerator;
+
 public class EmailTest {
 
     @Test
@@ -85,4 +88,19 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void isValidEmail_generatedInput_matchesValidationRegex() {
+        for (String test : StringGenerator.generate("aZ09+-_.@\u00E9 ", 10, 100000)) {
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), () -> "Input: " + test);
+        }
+
+        // emails with a single '@', which are much more likely to be valid
+        for (String localPart : StringGenerator.generate("a0+-_.", 5, 300)) {
+            for (String domain : StringGenerator.generate("aZ0-.", 7, 300)) {
+                String test = localPart + "@" + domain;
+                assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), () -> "Input: " + test);
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    private static final Person ALICE_BOB = new PersonBuilder().withName("Alice Bob").build();
+
+    @Test
+    public void equals() {
+        NameStartsWithKeywordsPredicate firstPredicate = new NameStartsWithKeywordsPredicate(List.of("first"));
+        NameStartsWithKeywordsPredicate secondPredicate =
+                new NameStartsWithKeywordsPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameStartsWithKeywordsPredicate(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_everyKeywordStartsWord_returnsTrue() {
+        assertTrue(new NameStartsWithKeywordsPredicate(List.of("Al")).test(ALICE_BOB));
+        assertTrue(new NameStartsWithKeywordsPredicate(List.of("bO", "alice")).test(ALICE_BOB));
+        assertTrue(new NameStartsWithKeywordsPredicate(List.of()).test(ALICE_BOB));
+    }
+
+    @Test
+    public void test_someKeywordDoesNotStartWord_returnsFalse() {
+        // within a word
+        assertFalse(new NameStartsWithKeywordsPredicate(List.of("lice")).test(ALICE_BOB));
+        // only one keyword matches
+        assertFalse(new NameStartsWithKeywordsPredicate(List.of("Alice", "Carol")).test(ALICE_BOB));
+        // longer than the word
+        assertFalse(new NameStartsWithKeywordsPredicate(List.of("Bobby")).test(ALICE_BOB));
+    }
+
+    @Test
+    public void narrows() {
+        NameStartsWithKeywordsPredicate al = new NameStartsWithKeywordsPredicate(List.of("al"));
+
+        // more characters or more keywords -> returns true
+        assertTrue(new NameStartsWithKeywordsPredicate(List.of("ALI")).narrows(al));
+        assertTrue(new NameStartsWithKeywordsPredicate(List.of("b", "al")).narrows(al));
+        assertTrue(al.narrows(al));
+
+        // fewer characters or other keywords -> returns false
+        assertFalse(new NameStartsWithKeywordsPredicate(List.of("a")).narrows(al));
+        assertFalse(new NameStartsWithKeywordsPredicate(List.of("bal")).narrows(al));
+
+        // other kinds of predicates -> returns false
+        assertFalse(al.narrows(new NameContainsKeywordsPredicate(List.of("al"))));
+        assertFalse(al.narrows(new TagContainsKeywordsPredicate(List.of(new Tag("al")))));
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.StringGenerator;
+
 public class NameTest {
 
     @Test
@@ -57,4 +60,17 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void ofTrusted_storedName_keptAsIs() {
+        assertEquals("Peter Jack", Name.ofTrusted("Peter Jack").fullName);
+        assertEquals(new Name("Peter   Jack"), Name.ofTrusted("Peter Jack"));
+    }
+
+    @Test
+    public void isValidName_generatedInput_matchesValidationRegex() {
+        for (String test : StringGenerator.generate(StringGenerator.VALIDATION_ALPHABET, 8, 20000)) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), () -> "Input: " + test);
+        }
+    }
 }
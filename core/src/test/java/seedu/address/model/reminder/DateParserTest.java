@@ -0,0 +1,130 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DateParserTest {
+
+    private static final List<DateTimeFormatter> DATETIME_FORMATTERS = List.of(
+            strictFormatter("uuuu-MM-dd HH:mm"), strictFormatter("dd/MM/uuuu HH:mm"));
+    private static final List<DateTimeFormatter> DATE_ONLY_FORMATTERS = List.of(
+            strictFormatter("uuuu-MM-dd"), strictFormatter("dd/MM/uuuu"));
+
+    private static final String[] FRAGMENTS = {
+        "2024", "2025", "0000", "-0001", "+12345", "12345", "-0000", "999999999", "+1000000000", "02", "29", "30",
+        "31", "12", "13", "00", "1", "-", "/", ":", " ", "  ", "\t", "\n", "\u0001", " ", "23", "24", "59", "60",
+        "a", "０１", ""
+    };
+
+    @Test
+    public void parse_validInput_returnsDateTime() {
+        assertEquals(LocalDateTime.of(2025, 11, 15, 10, 30), parse("2025-11-15 10:30"));
+        assertEquals(LocalDateTime.of(2025, 11, 15, 10, 30), parse("15/11/2025 10:30"));
+        assertEquals(LocalDate.of(2024, 2, 29).atTime(LocalTime.MAX), parse("2024-02-29"));
+        assertEquals(LocalDate.of(2024, 2, 29).atTime(LocalTime.MAX), parse("29/02/2024"));
+
+        // surrounding and separating whitespace
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), parse(" \t2025-01-01 \n 00:00  "));
+
+        // signed years
+        assertEquals(LocalDate.of(-1, 1, 1).atTime(LocalTime.MAX), parse("-0001-01-01"));
+        assertEquals(LocalDate.of(12345, 1, 1).atTime(LocalTime.MAX), parse("+12345-01-01"));
+    }
+
+    @Test
+    public void parse_invalidInput_returnsNull() {
+        assertNull(DateParser.parse(null, LocalTime.MAX));
+        assertNull(parse("")); // empty string
+        assertNull(parse("2025-02-29")); // not a leap year
+        assertNull(parse("2025-11-31")); // no such day
+        assertNull(parse("2025-1-01")); // single-digit month
+        assertNull(parse("1/01/2025")); // single-digit day
+        assertNull(parse("12345-01-01")); // long year without sign
+        assertNull(parse("+2025-01-01")); // signed four-digit year
+        assertNull(parse("2025-01-01 24:00")); // no such hour
+        assertNull(parse("2025-01-01 10:60")); // no such minute
+        assertNull(parse("2025-01-01 1030")); // missing colon
+        assertNull(parse("2025-01-01T10:30")); // ISO separator
+        assertNull(parse("2025/01/01")); // mixed formats
+    }
+
+    @Test
+    public void parse_generatedInput_matchesDateTimeFormatter() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder input = new StringBuilder();
+            int fragments = 1 + random.nextInt(8);
+            for (int j = 0; j < fragments; j++) {
+                input.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertMatchesFormatter(input.toString());
+        }
+    }
+
+    @Test
+    public void parse_generatedDates_matchesDateTimeFormatter() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 50_000; i++) {
+            String day = twoDigits(random.nextInt(33));
+            String month = twoDigits(random.nextInt(14));
+            String year = String.valueOf(1990 + random.nextInt(120));
+            String time = random.nextBoolean() ? "" : " " + twoDigits(random.nextInt(26)) + ":"
+                    + twoDigits(random.nextInt(62));
+            assertMatchesFormatter(year + "-" + month + "-" + day + time);
+            assertMatchesFormatter(day + "/" + month + "/" + year + time);
+        }
+    }
+
+    private static void assertMatchesFormatter(String input) {
+        assertEquals(parseWithFormatters(input), parse(input), () -> "Input: \"" + input + "\"");
+    }
+
+    private static LocalDateTime parse(String input) {
+        return DateParser.parse(input, LocalTime.MAX);
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    private static DateTimeFormatter strictFormatter(String pattern) {
+        return new DateTimeFormatterBuilder()
+                .appendPattern(pattern)
+                .toFormatter()
+                .withResolverStyle(ResolverStyle.STRICT);
+    }
+
+    /**
+     * Parses {@code input} as {@code Date} did before {@code DateParser}, to check that the two agree.
+     */
+    private static LocalDateTime parseWithFormatters(String input) {
+        String normalisedInput = input.replaceAll("\\s+", " ").trim();
+        for (DateTimeFormatter formatter : DATETIME_FORMATTERS) {
+            try {
+                return LocalDateTime.parse(normalisedInput, formatter);
+            } catch (DateTimeParseException e) {
+                // Continue to next format
+            }
+        }
+        for (DateTimeFormatter formatter : DATE_ONLY_FORMATTERS) {
+            try {
+                return LocalDate.parse(normalisedInput, formatter).atTime(LocalTime.MAX);
+            } catch (DateTimeParseException e) {
+                // Continue to next format
+            }
+        }
+        return null;
+    }
+}
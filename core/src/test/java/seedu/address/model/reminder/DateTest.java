@@ -0,0 +1,50 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Date((String) null));
+    }
+
+    @Test
+    public void constructor_invalidDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Date("2025-02-30"));
+    }
+
+    @Test
+    public void isValidDate() {
+        // invalid dates
+        assertFalse(Date.isValidDate(null));
+        assertFalse(Date.isValidDate(""));
+        assertFalse(Date.isValidDate("2025-13-01"));
+        assertFalse(Date.isValidDate("2025-12-01 25:00"));
+
+        // valid dates
+        assertTrue(Date.isValidDate("2025-12-01"));
+        assertTrue(Date.isValidDate("01/12/2025 09:15"));
+        assertTrue(Date.isValidDate(" 2025-12-01   09:15 "));
+    }
+
+    @Test
+    public void parse() {
+        assertEquals(Optional.empty(), Date.parse("2025-02-30"));
+        assertEquals(Optional.of(new Date("2025-12-01 09:15")), Date.parse("01/12/2025 09:15"));
+    }
+
+    @Test
+    public void toString_dateOnlyAndDateTime_formattedYearFirst() {
+        assertEquals("2025-12-01", new Date("01/12/2025").toString());
+        assertEquals("2025-12-01 09:15", new Date(LocalDateTime.of(2025, 12, 1, 9, 15)).toString());
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ReminderBuilder;
+
+public class RecurrenceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 31, 10, 0);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Recurrence(null));
+    }
+
+    @Test
+    public void constructor_invalidRule_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence("fortnightly"));
+    }
+
+    @Test
+    public void isValidRecurrence() {
+        // null rule
+        assertThrows(NullPointerException.class, () -> Recurrence.isValidRecurrence(null));
+
+        // invalid rules
+        assertFalse(Recurrence.isValidRecurrence("")); // empty string
+        assertFalse(Recurrence.isValidRecurrence("yearly")); // unsupported frequency
+        assertFalse(Recurrence.isValidRecurrence("every 0 days")); // zero interval
+        assertFalse(Recurrence.isValidRecurrence("every -2 days")); // negative interval
+        assertFalse(Recurrence.isValidRecurrence("every 10000 days")); // interval too long
+        assertFalse(Recurrence.isValidRecurrence("every days")); // missing interval
+
+        // valid rules
+        assertTrue(Recurrence.isValidRecurrence("daily"));
+        assertTrue(Recurrence.isValidRecurrence("Weekly")); // case insensitive
+        assertTrue(Recurrence.isValidRecurrence(" monthly ")); // surrounding whitespace
+        assertTrue(Recurrence.isValidRecurrence("every 3 days"));
+        assertTrue(Recurrence.isValidRecurrence("every  1 day")); // singular, extra whitespace
+    }
+
+    @Test
+    public void isRecurring() {
+        assertFalse(Recurrence.NONE.isRecurring());
+        assertTrue(new Recurrence("daily").isRecurring());
+    }
+
+    @Test
+    public void getOccurrence_monthly_doesNotDriftAfterShortMonth() {
+        Recurrence monthly = new Recurrence("monthly");
+        assertEquals(LocalDateTime.of(2026, 2, 28, 10, 0), monthly.getOccurrence(START, 1));
+        assertEquals(LocalDateTime.of(2026, 3, 31, 10, 0), monthly.getOccurrence(START, 2));
+    }
+
+    @Test
+    public void getFirstOccurrenceNumberNotBefore() {
+        Recurrence everyThreeDays = new Recurrence("every 3 days");
+
+        // from before or at the start -> first occurrence
+        assertEquals(0, everyThreeDays.getFirstOccurrenceNumberNotBefore(START, START.minusDays(10)));
+        assertEquals(0, everyThreeDays.getFirstOccurrenceNumberNotBefore(START, START));
+
+        // from exactly on an occurrence -> that occurrence
+        assertEquals(2, everyThreeDays.getFirstOccurrenceNumberNotBefore(START, START.plusDays(6)));
+
+        // from between occurrences -> the next one
+        assertEquals(3, everyThreeDays.getFirstOccurrenceNumberNotBefore(START, START.plusDays(6).plusMinutes(1)));
+    }
+
+    @Test
+    public void allowsOccurrenceAt() {
+        Recurrence endless = new Recurrence("daily");
+        Recurrence ending = new Recurrence("daily", new Date("2026-02-02"));
+
+        assertTrue(endless.allowsOccurrenceAt(START.plusYears(10)));
+        assertTrue(ending.allowsOccurrenceAt(LocalDateTime.of(2026, 2, 2, 23, 0))); // end date is inclusive
+        assertFalse(ending.allowsOccurrenceAt(LocalDateTime.of(2026, 2, 3, 10, 0)));
+    }
+
+    @Test
+    public void getOccurrences_expandsOnlyWithinWindow() {
+        Reminder daily = new ReminderBuilder().withDate("2026-01-31 10:00").withRecurrence("daily").build();
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        // only the occurrences from the next one to the end of the window are expanded
+        List<Reminder> occurrences = daily.getOccurrences(from, from.plusDays(2));
+        assertEquals(2, occurrences.size());
+        assertEquals(new Date("2026-03-02 10:00"), occurrences.get(0).getDate());
+        assertEquals(new Date("2026-03-03 10:00"), occurrences.get(1).getDate());
+        assertEquals(daily, occurrences.get(0).getSeries());
+
+        // the next occurrence is always expanded, even if it is beyond the window
+        Reminder monthly = new ReminderBuilder().withDate("2026-01-31 10:00").withRecurrence("monthly").build();
+        assertEquals(List.of(new Date("2026-03-31 10:00")), monthly.getOccurrences(from, from.plusDays(2))
+                .stream().map(Reminder::getDate).toList());
+
+        // a reminder that does not repeat is returned as is
+        Reminder once = new ReminderBuilder().build();
+        assertEquals(List.of(once), once.getOccurrences(from, from.plusDays(2)));
+    }
+
+    @Test
+    public void getOccurrences_farFutureOrWideRange_boundedWithoutOverflow() {
+        Reminder daily = new ReminderBuilder().withDate("2026-01-31 10:00").withRecurrence("daily").build();
+
+        // occurrence numbers beyond the range of an int
+        LocalDateTime farFuture = LocalDateTime.of(999_999_990, 1, 1, 0, 0);
+        List<Reminder> occurrences = daily.getOccurrences(farFuture, farFuture.plusDays(2));
+        assertEquals(List.of(farFuture.withHour(10), farFuture.plusDays(1).withHour(10)),
+                occurrences.stream().map(reminder -> reminder.getDate().value).toList());
+        assertTrue(occurrences.get(0).getOccurrenceNumber() > Integer.MAX_VALUE);
+
+        // no occurrence after the latest date there can be
+        Reminder lastDays = new ReminderBuilder().withDate("+999999999-12-30 10:00").withRecurrence("daily").build();
+        assertEquals(2, lastDays.getNextOccurrences(farFuture, 5).size());
+        assertEquals(LocalDateTime.MAX, new Recurrence("daily").getOccurrence(lastDays.getDate().value, 2));
+
+        // a wide range expands no more than the cap
+        assertEquals(Reminder.MAX_EXPANDED_OCCURRENCES,
+                daily.getOccurrences(daily.getDate().value, LocalDateTime.MAX).size());
+    }
+
+    @Test
+    public void markAsCompleted_occurrence_completesOnlyThatOccurrence() {
+        Reminder weekly = new ReminderBuilder().withDate("2026-01-01 10:00")
+                .withRecurrence("weekly", "2026-01-15").build();
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        Reminder advanced = weekly.getNextOccurrences(from, 1).get(0).markAsCompleted();
+        assertEquals(weekly.getDate(), advanced.getDate());
+        assertEquals(1, advanced.getCompletedOccurrences());
+        assertEquals(new Date("2026-01-08 10:00"), advanced.getNextOccurrences(from, 1).get(0).getDate());
+        assertFalse(advanced.isCompleted());
+
+        // completing the last occurrence completes the series, which is then shown as its last occurrence
+        Reminder last = advanced.markAsCompleted().markAsCompleted();
+        assertTrue(last.isCompleted());
+        List<Reminder> shown = last.getOccurrences(from, LocalDateTime.MAX);
+        assertEquals(List.of(new Date("2026-01-15 10:00")), shown.stream().map(Reminder::getDate).toList());
+        assertTrue(shown.get(0).isCompleted());
+    }
+
+    @Test
+    public void markAsCompleted_monthlyOnThe31st_keepsAnchorAndDoesNotDrift() {
+        Reminder monthly = new ReminderBuilder().withDate("2026-01-31 10:00").withRecurrence("monthly").build();
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        Reminder reminder = monthly;
+        for (String expectedDate : List.of("2026-01-31 10:00", "2026-02-28 10:00", "2026-03-31 10:00",
+                "2026-04-30 10:00")) {
+            Reminder next = reminder.getNextOccurrences(from, 1).get(0);
+            assertEquals(new Date(expectedDate), next.getDate());
+            reminder = next.markAsCompleted();
+        }
+
+        assertEquals(monthly.getDate(), reminder.getDate());
+        assertEquals(4, reminder.getCompletedOccurrences());
+        assertEquals(new Date("2026-05-31 10:00"), reminder.getNextOccurrences(from, 1).get(0).getDate());
+    }
+
+    @Test
+    public void getOverdueOccurrences_missedOccurrences_uncompletedPastOccurrencesReturned() {
+        Reminder daily = new ReminderBuilder().withDate("2026-03-01 08:00").withRecurrence("daily").build()
+                .markAsCompleted();
+        LocalDateTime now = LocalDateTime.of(2026, 3, 4, 9, 0);
+
+        List<Reminder> overdue = daily.getOverdueOccurrences(now);
+        assertEquals(List.of(new Date("2026-03-02 08:00"), new Date("2026-03-03 08:00"), new Date("2026-03-04 08:00")),
+                overdue.stream().map(Reminder::getDate).toList());
+        assertEquals(List.of(1L, 2L, 3L), overdue.stream().map(Reminder::getOccurrenceNumber).toList());
+        assertEquals(daily, overdue.get(0).getSeries());
+
+        // the occurrences to come start after the overdue ones
+        assertEquals(new Date("2026-03-05 08:00"), daily.getNextOccurrences(now, 1).get(0).getDate());
+        assertTrue(new ReminderBuilder().build().getOverdueOccurrences(now).isEmpty());
+    }
+
+    @Test
+    public void getOverdueOccurrences_manyMissedOccurrences_cappedAtMaximum() {
+        Reminder daily = new ReminderBuilder().withDate("2000-01-01 08:00").withRecurrence("daily").build();
+
+        List<Reminder> overdue = daily.getOverdueOccurrences(LocalDateTime.of(2026, 3, 4, 9, 0));
+        assertEquals(Reminder.MAX_OVERDUE_OCCURRENCES, overdue.size());
+        assertEquals(new Date("2000-01-01 08:00"), overdue.get(0).getDate());
+    }
+
+    @Test
+    public void markAsCompletedUntil_missedOccurrences_completesThoseDueByThen() {
+        Reminder daily = new ReminderBuilder().withDate("2026-03-01 08:00").withRecurrence("daily", "2026-03-10")
+                .build();
+        LocalDateTime now = LocalDateTime.of(2026, 3, 4, 9, 0);
+
+        Reminder skipped = daily.getOverdueOccurrences(now).get(1).markAsCompletedUntil(now);
+        assertEquals(daily.getDate(), skipped.getDate());
+        assertEquals(4, skipped.getCompletedOccurrences());
+        assertTrue(skipped.getOverdueOccurrences(now).isEmpty());
+        assertFalse(skipped.isCompleted());
+
+        // an earlier date does not undo completed occurrences
+        assertEquals(skipped, skipped.markAsCompletedUntil(LocalDateTime.of(2026, 3, 1, 0, 0)));
+
+        // a date past the end completes the series, which is then shown as its last occurrence
+        Reminder completed = skipped.markAsCompletedUntil(LocalDateTime.MAX);
+        assertTrue(completed.isCompleted());
+        assertEquals(List.of(new Date("2026-03-10 08:00")),
+                completed.getOccurrences(now, LocalDateTime.MAX).stream().map(Reminder::getDate).toList());
+
+        // a reminder that does not repeat is simply marked as done
+        assertTrue(new ReminderBuilder().build().markAsCompletedUntil(now).isCompleted());
+    }
+
+    @Test
+    public void equals() {
+        Recurrence recurrence = new Recurrence("weekly");
+
+        // same values -> returns true
+        assertTrue(recurrence.equals(new Recurrence(" WEEKLY")));
+
+        // same object -> returns true
+        assertTrue(recurrence.equals(recurrence));
+
+        // null -> returns false
+        assertFalse(recurrence.equals(null));
+
+        // different types -> returns false
+        assertFalse(recurrence.equals(5.0f));
+
+        // different rule -> returns false
+        assertFalse(recurrence.equals(new Recurrence("daily")));
+
+        // different end -> returns false
+        assertFalse(recurrence.equals(new Recurrence("weekly", new Date("2026-06-30"))));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ReminderBuilder;
+
+public class ReminderDateIndexTest {
+
+    private static final Reminder FIRST = new ReminderBuilder().withDate("2026-03-01 09:00").withMessage("a").build();
+    private static final Reminder SECOND = new ReminderBuilder().withDate("2026-03-02 09:00").withMessage("b").build();
+    private static final Reminder SAME_AS_SECOND =
+            new ReminderBuilder().withDate("2026-03-02 09:00").withMessage("c").build();
+    private static final Reminder END_OF_DAY = new ReminderBuilder().withDate("2026-03-02").withMessage("d").build();
+    private static final Reminder LAST = new ReminderBuilder().withDate("2026-03-10 18:00").withMessage("e").build();
+
+    private final ReminderDateIndex index =
+            new ReminderDateIndex(List.of(FIRST, SECOND, SAME_AS_SECOND, END_OF_DAY, LAST));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ReminderDateIndex(null));
+    }
+
+    @Test
+    public void getDueBetween() {
+        // bounds are inclusive, and every reminder sharing a due time is included
+        assertEquals(List.of(SECOND, SAME_AS_SECOND), index.getDueBetween(
+                LocalDateTime.of(2026, 3, 2, 9, 0), LocalDateTime.of(2026, 3, 2, 9, 0)));
+
+        // a date-only reminder is due at the end of its day
+        assertEquals(List.of(SECOND, SAME_AS_SECOND, END_OF_DAY), index.getDueBetween(
+                LocalDateTime.of(2026, 3, 2, 0, 0), new Date("2026-03-02").value));
+
+        // range covering everything
+        assertEquals(List.of(FIRST, SECOND, SAME_AS_SECOND, END_OF_DAY, LAST), index.getDueBetween(
+                LocalDateTime.MIN, LocalDateTime.MAX));
+
+        // range between due times
+        assertEquals(List.of(), index.getDueBetween(
+                LocalDateTime.of(2026, 3, 3, 0, 0), LocalDateTime.of(2026, 3, 9, 0, 0)));
+
+        // reversed range
+        assertEquals(List.of(), index.getDueBetween(
+                LocalDateTime.of(2026, 3, 10, 0, 0), LocalDateTime.of(2026, 3, 1, 0, 0)));
+    }
+
+    @Test
+    public void getDueBefore() {
+        assertEquals(List.of(), index.getDueBefore(LocalDateTime.of(2026, 3, 1, 9, 0)));
+        assertEquals(List.of(FIRST), index.getDueBefore(LocalDateTime.of(2026, 3, 2, 9, 0)));
+        assertEquals(List.of(FIRST, SECOND, SAME_AS_SECOND, END_OF_DAY, LAST), index.getDueBefore(LocalDateTime.MAX));
+    }
+
+    @Test
+    public void getNextDue() {
+        assertEquals(List.of(SECOND, SAME_AS_SECOND), index.getNextDue(LocalDateTime.of(2026, 3, 1, 9, 1), 2));
+
+        // fewer reminders left than requested
+        assertEquals(List.of(END_OF_DAY, LAST), index.getNextDue(LocalDateTime.of(2026, 3, 2, 12, 0), 5));
+        assertEquals(List.of(), index.getNextDue(LocalDateTime.of(2026, 3, 11, 0, 0), 5));
+    }
+
+    @Test
+    public void size() {
+        assertEquals(5, index.size());
+        assertEquals(0, new ReminderDateIndex(List.of()).size());
+    }
+}
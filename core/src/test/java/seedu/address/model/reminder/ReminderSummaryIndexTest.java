@@ -0,0 +1,114 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ReminderBuilder;
+
+public class ReminderSummaryIndexTest {
+
+    private static final Reminder PAST = new ReminderBuilder().withPerson(ALICE).withDate("2026-02-28 09:00")
+            .withMessage("past").build();
+    private static final Reminder FIRST = new ReminderBuilder().withPerson(ALICE).withDate("2026-03-02 09:00")
+            .withMessage("first").build();
+    private static final Reminder SECOND = new ReminderBuilder().withPerson(ALICE).withDate("2026-03-05 09:00")
+            .withMessage("second").build();
+
+    private LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+    private final ReminderSummaryIndex index = new ReminderSummaryIndex(() -> now);
+
+    @BeforeEach
+    public void setUp() {
+        index.add(PAST);
+        index.add(SECOND);
+        index.add(FIRST);
+    }
+
+    @Test
+    public void getSummary_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getSummary(null));
+    }
+
+    @Test
+    public void getSummary_upcomingReminders_countsAndFindsEarliest() {
+        assertEquals(new ReminderSummary(2, FIRST), index.getSummary(ALICE));
+        assertEquals(ReminderSummary.EMPTY, index.getSummary(BENSON));
+    }
+
+    @Test
+    public void getSummary_afterAddAndRemove_updated() {
+        Reminder earlier = new ReminderBuilder(FIRST).withDate("2026-03-01 18:00").build();
+        index.add(earlier);
+        assertEquals(new ReminderSummary(3, earlier), index.getSummary(ALICE));
+
+        index.remove(earlier);
+        index.remove(FIRST);
+        assertEquals(new ReminderSummary(1, SECOND), index.getSummary(ALICE));
+
+        // removing a reminder that is not in the index changes nothing
+        index.remove(FIRST);
+        assertEquals(new ReminderSummary(1, SECOND), index.getSummary(ALICE));
+
+        index.remove(SECOND);
+        assertEquals(ReminderSummary.EMPTY, index.getSummary(ALICE));
+    }
+
+    @Test
+    public void getSummary_completedReminder_ignored() {
+        index.add(new ReminderBuilder(FIRST).withMessage("done").withCompleted(true).build());
+        assertEquals(new ReminderSummary(2, FIRST), index.getSummary(ALICE));
+    }
+
+    @Test
+    public void getSummary_nextReminderBecomesDue_recomputed() {
+        assertEquals(new ReminderSummary(2, FIRST), index.getSummary(ALICE));
+
+        now = LocalDateTime.of(2026, 3, 3, 12, 0);
+        assertEquals(new ReminderSummary(1, SECOND), index.getSummary(ALICE));
+
+        now = LocalDateTime.of(2026, 3, 6, 12, 0);
+        assertEquals(ReminderSummary.EMPTY, index.getSummary(ALICE));
+    }
+
+    @Test
+    public void takeChangedPersons_remindersChangedOrDue_personsTakenOnce() {
+        assertEquals(Set.of(ALICE), index.takeChangedPersons());
+        assertEquals(Set.of(), index.takeChangedPersons());
+
+        index.add(new ReminderBuilder().withPerson(BENSON).withDate("2026-03-04 09:00").build());
+        index.remove(PAST);
+        assertEquals(Set.of(ALICE, BENSON), index.takeChangedPersons());
+
+        // a summary that was shown changes once its next reminder becomes due
+        index.getSummary(ALICE);
+        now = LocalDateTime.of(2026, 3, 2, 8, 0);
+        assertEquals(Set.of(), index.takeChangedPersons());
+        now = LocalDateTime.of(2026, 3, 2, 10, 0);
+        assertEquals(Set.of(ALICE), index.takeChangedPersons());
+        assertEquals(Set.of(), index.takeChangedPersons());
+        assertEquals(new ReminderSummary(1, SECOND), index.getSummary(ALICE));
+    }
+
+    @Test
+    public void getSummary_recurringReminder_countedOnceAsNextOccurrence() {
+        Reminder daily = new ReminderBuilder().withPerson(BENSON).withDate("2026-02-20 08:00")
+                .withMessage("daily").withRecurrence("daily").build();
+        index.add(daily);
+
+        ReminderSummary summary = index.getSummary(BENSON);
+        assertEquals(1, summary.getUpcomingCount());
+        assertEquals(new Date("2026-03-02 08:00"), summary.getNextReminder().get().getDate());
+
+        // moves on to the following occurrence once the next one is due
+        now = LocalDateTime.of(2026, 3, 2, 8, 30);
+        assertEquals(new Date("2026-03-03 08:00"), index.getSummary(BENSON).getNextReminder().get().getDate());
+    }
+}
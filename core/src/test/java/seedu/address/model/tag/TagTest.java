@@ -1,10 +1,14 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.StringGenerator;
+
 public class TagTest {
 
     @Test
@@ -22,6 +26,16 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName(" friend")); // leading whitespace
+        assertFalse(Tag.isValidTagName("best-friend")); // non-alphanumeric character
+        assertFalse(Tag.isValidTagName("café")); // non-ASCII letter
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("friend"));
+        assertTrue(Tag.isValidTagName("Machine Learning 2 "));
     }
 
     @Test
@@ -32,4 +46,10 @@ public class TagTest {
         assertFalse(test3.equals(test1) || test1.equals(test2) || (test3.equals(test2)));
     }
 
+    @Test
+    public void isValidTagName_generatedInput_matchesValidationRegex() {
+        for (String test : StringGenerator.generate(StringGenerator.VALIDATION_ALPHABET, 6, 50000)) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), () -> "Input: " + test);
+        }
+    }
 }
@@ -3,18 +3,22 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.FlightRecorderUtil.recordEvents;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -60,6 +64,27 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAndSaveAddressBook_recordsEvents() throws Throwable {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        int records = original.getPersonList().size() + original.getReminderList().size();
+
+        List<RecordedEvent> saveEvents = recordEvents(AddressBookSaveEvent.NAME, () ->
+                jsonAddressBookStorage.saveAddressBook(original, filePath));
+        assertEquals(1, saveEvents.size());
+        assertEquals(filePath.toString(), saveEvents.get(0).getString("path"));
+        assertEquals(Files.size(filePath), saveEvents.get(0).getLong("bytes"));
+        assertEquals(records, saveEvents.get(0).getInt("records"));
+
+        List<RecordedEvent> readEvents = recordEvents(AddressBookReadEvent.NAME, () ->
+                jsonAddressBookStorage.readAddressBook(filePath));
+        assertEquals(1, readEvents.size());
+        assertEquals(Files.size(filePath), readEvents.get(0).getLong("bytes"));
+        assertEquals(records, readEvents.get(0).getInt("records"));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -23,6 +25,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_REMINDERS_FILE = TEST_DATA_FOLDER.resolve("typicalRemindersAddressBook.json");
     private static final Path INVALID_REMINDER_FILE = TEST_DATA_FOLDER.resolve("invalidReminderAddressBook.json");
     private static final Path DUPLICATE_REMINDER_FILE = TEST_DATA_FOLDER.resolve("duplicateReminderAddressBook.json");
+    private static final Path MISMATCHED_CHECKSUM_FILE =
+            TEST_DATA_FOLDER.resolve("mismatchedChecksumAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -72,4 +76,45 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_savedSnapshot_trustedAndEqual() throws Exception {
+        AddressBook source = TypicalReminders.getTypicalAddressBookWithReminders();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(source));
+        JsonSerializableAddressBook dataFromJson = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class);
+
+        assertTrue(dataFromJson.isTrusted());
+        AddressBook addressBookFromJson = dataFromJson.toModelType();
+        assertEquals(source, addressBookFromJson);
+        assertEquals(source.getPersonList(), addressBookFromJson.getPersonList());
+        assertEquals(source.getReminderList(), addressBookFromJson.getReminderList());
+    }
+
+    @Test
+    public void isTrusted_editedSnapshot_returnsFalse() throws Exception {
+        AddressBook source = TypicalPersons.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(source));
+        String editedJson = json.replace(TypicalPersons.ALICE.getPhone().value, "12345678");
+        JsonSerializableAddressBook dataFromJson =
+                JsonUtil.fromJsonString(editedJson, JsonSerializableAddressBook.class);
+
+        assertFalse(dataFromJson.isTrusted());
+        // The edited snapshot is still valid, so it loads through full validation
+        assertEquals(TypicalPersons.getTypicalPersons().size(), dataFromJson.toModelType().getPersonList().size());
+    }
+
+    @Test
+    public void isTrusted_fileWithoutChecksum_returnsFalse() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertFalse(dataFromFile.isTrusted());
+    }
+
+    @Test
+    public void toModelType_mismatchedChecksumWithInvalidPerson_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MISMATCHED_CHECKSUM_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertFalse(dataFromFile.isTrusted());
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
 }
@@ -0,0 +1,255 @@
+package seedu.address.testutil;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * A utility class to generate address books of any size, e.g. for benchmarks and load tests.
+ * The same seed and settings always generate the same address book.
+ * Example usage: <br>
+ *     {@code AddressBook ab = new AddressBookGenerator(1).withPersonCount(10000).withRemindersPerPerson(2)
+ *     .generate();}
+ */
+public class AddressBookGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+    public static final int DEFAULT_PERSON_COUNT = 1000;
+    public static final int DEFAULT_MIN_TAGS = 0;
+    public static final int DEFAULT_MAX_TAGS = 2;
+    public static final double DEFAULT_RESEARCH_TAG_PROBABILITY = 0.5;
+    public static final double DEFAULT_TITLE_TAG_PROBABILITY = 0.25;
+    public static final int DEFAULT_MIN_NOTE_WORDS = 0;
+    public static final int DEFAULT_MAX_NOTE_WORDS = 12;
+    public static final int DEFAULT_REMINDERS_PER_PERSON = 1;
+
+    static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Siti", "Rajesh", "Mei", "Nur", "Jun Jie"};
+    static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim",
+        "Kumar", "Ng", "Chua", "Rahman"};
+    static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "supervisor", "lecturer",
+        "classmates", "mentor"};
+    static final String[] RESEARCH_TAGS = {"machine learning", "databases", "networks", "compilers", "security",
+        "graphics"};
+    static final String[] TITLE_TAGS = {"professor", "postdoc", "phd student", "research assistant"};
+    static final String[] NOTE_WORDS = {"met", "at", "the", "faculty", "retreat", "prefers", "email", "over",
+        "calls", "co-author", "on", "survey", "paper", "owes", "me", "a", "coffee", "grant", "deadline", "lab"};
+    static final String[] REMINDER_MESSAGES = {"Follow up", "Send draft", "Book meeting room", "Review paper",
+        "Return book"};
+
+    /** Reminders fall within this many days from {@link #FIRST_REMINDER_DATE}. */
+    static final int REMINDER_DAYS = 3 * 365;
+    static final LocalDateTime FIRST_REMINDER_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final DateTimeFormatter REMINDER_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private long seed;
+    private int personCount = DEFAULT_PERSON_COUNT;
+    private int minTags = DEFAULT_MIN_TAGS;
+    private int maxTags = DEFAULT_MAX_TAGS;
+    private double researchTagProbability = DEFAULT_RESEARCH_TAG_PROBABILITY;
+    private double titleTagProbability = DEFAULT_TITLE_TAG_PROBABILITY;
+    private int minNoteWords = DEFAULT_MIN_NOTE_WORDS;
+    private int maxNoteWords = DEFAULT_MAX_NOTE_WORDS;
+    private int remindersPerPerson = DEFAULT_REMINDERS_PER_PERSON;
+
+    /**
+     * Saves an address book generated with the default seed and settings to the file given as the only argument,
+     * e.g. for the runs that train and time the startup of the app.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: AddressBookGenerator FILE");
+            System.exit(2);
+        }
+        new AddressBookGenerator().writeTo(Paths.get(args[0]));
+    }
+
+    /**
+     * Creates an {@code AddressBookGenerator} with the default seed and settings.
+     */
+    public AddressBookGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Creates an {@code AddressBookGenerator} with the given {@code seed} and the default settings.
+     */
+    public AddressBookGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the seed the address books that we are generating are generated from.
+     */
+    public AddressBookGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the number of persons in the address books that we are generating.
+     */
+    public AddressBookGenerator withPersonCount(int personCount) {
+        checkArgument(personCount >= 0, "The number of persons cannot be negative");
+        this.personCount = personCount;
+        return this;
+    }
+
+    /**
+     * Sets the range of the number of {@code default} tags each person has, from {@code min} to {@code max}
+     * inclusive.
+     */
+    public AddressBookGenerator withTagsPerPerson(int min, int max) {
+        checkArgument(0 <= min && min <= max && max <= TAGS.length,
+                "The number of tags must be between 0 and " + TAGS.length);
+        this.minTags = min;
+        this.maxTags = max;
+        return this;
+    }
+
+    /**
+     * Sets the probabilities of each person having a {@code research} tag and a {@code title} tag.
+     */
+    public AddressBookGenerator withTypedTagProbabilities(double research, double title) {
+        checkArgument(0 <= research && research <= 1 && 0 <= title && title <= 1,
+                "A probability must be between 0 and 1");
+        this.researchTagProbability = research;
+        this.titleTagProbability = title;
+        return this;
+    }
+
+    /**
+     * Sets the range of the number of words in each person's note, from {@code min} to {@code max} inclusive.
+     * A note of no words is empty.
+     */
+    public AddressBookGenerator withNoteWords(int min, int max) {
+        checkArgument(0 <= min && min <= max, "The number of words must be a range of non-negative numbers");
+        this.minNoteWords = min;
+        this.maxNoteWords = max;
+        return this;
+    }
+
+    /**
+     * Sets the number of reminders for each person.
+     */
+    public AddressBookGenerator withRemindersPerPerson(int remindersPerPerson) {
+        checkArgument(remindersPerPerson >= 0, "The number of reminders cannot be negative");
+        this.remindersPerPerson = remindersPerPerson;
+        return this;
+    }
+
+    /**
+     * Returns the persons of the address book, which have distinct names.
+     */
+    public List<Person> generatePersons() {
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(generatePerson(random, i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the reminders of the address book for {@code persons}, in the order they were generated rather than
+     * by date.
+     */
+    public List<Reminder> generateReminders(List<Person> persons) {
+        // Separate from the persons' random numbers, so that the persons do not change with the reminders
+        Random random = new Random(~seed);
+        List<Reminder> reminders = new ArrayList<>(persons.size() * remindersPerPerson);
+        for (Person person : persons) {
+            for (int i = 0; i < remindersPerPerson; i++) {
+                LocalDateTime date = FIRST_REMINDER_DATE
+                        .plusDays(random.nextInt(REMINDER_DAYS))
+                        .plusMinutes(random.nextInt(24 * 60));
+                reminders.add(new ReminderBuilder()
+                        .withPerson(person)
+                        .withDate(date.format(REMINDER_DATE_FORMATTER))
+                        .withMessage(pick(random, REMINDER_MESSAGES) + " " + (i + 1))
+                        .build());
+            }
+        }
+        return reminders;
+    }
+
+    /**
+     * Returns the address book.
+     */
+    public AddressBook generate() {
+        List<Person> persons = generatePersons();
+        AddressBook addressBook = new AddressBook();
+        // Both are unique by construction, which spares the quadratic checks for duplicates
+        addressBook.setUniquePersons(persons);
+        addressBook.setUniqueReminders(generateReminders(persons));
+        return addressBook;
+    }
+
+    /**
+     * Saves the address book to {@code filePath} as the app would.
+     */
+    public void writeTo(Path filePath) throws IOException {
+        new JsonAddressBookStorage(filePath).saveAddressBook(generate());
+    }
+
+    private Person generatePerson(Random random, int index) {
+        PersonBuilder builder = new PersonBuilder()
+                .withName(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES) + " " + index)
+                .withPhone(String.valueOf(80000000 + index))
+                .withEmail("contact" + index + "@example.com")
+                .withAddress("Blk " + (100 + random.nextInt(900)) + ", Clementi Ave " + (1 + random.nextInt(6)))
+                .withNote(generateNote(random))
+                .withTags(pickDistinct(random, TAGS, minTags + random.nextInt(maxTags - minTags + 1)));
+        if (random.nextDouble() < researchTagProbability) {
+            builder.withAddedTag(pick(random, RESEARCH_TAGS), "research");
+        }
+        if (random.nextDouble() < titleTagProbability) {
+            builder.withAddedTag(pick(random, TITLE_TAGS), "title");
+        }
+        return builder.build();
+    }
+
+    private String generateNote(Random random) {
+        int wordCount = minNoteWords + random.nextInt(maxNoteWords - minNoteWords + 1);
+        StringBuilder note = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                note.append(' ');
+            }
+            note.append(pick(random, NOTE_WORDS));
+        }
+        return note.toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns {@code count} distinct values picked from {@code values}.
+     */
+    private static String[] pickDistinct(Random random, String[] values, int count) {
+        String[] shuffled = values.clone();
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(shuffled.length - i);
+            String swapped = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = swapped;
+        }
+        return Arrays.copyOf(shuffled, count);
+    }
+}
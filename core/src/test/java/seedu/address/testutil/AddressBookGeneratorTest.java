@@ -0,0 +1,78 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class AddressBookGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        AddressBook first = new AddressBookGenerator(1).withPersonCount(200).withRemindersPerPerson(2).generate();
+        AddressBook second = new AddressBookGenerator(1).withPersonCount(200).withRemindersPerPerson(2).generate();
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void generate_differentSeed_differentAddressBook() {
+        AddressBook first = new AddressBookGenerator(1).withPersonCount(200).generate();
+        AddressBook second = new AddressBookGenerator(2).withPersonCount(200).generate();
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void generate_counts_followSettings() {
+        AddressBook addressBook = new AddressBookGenerator().withPersonCount(300).withRemindersPerPerson(3)
+                .generate();
+        assertEquals(300, addressBook.getPersonList().size());
+        assertEquals(900, addressBook.getReminderList().size());
+    }
+
+    @Test
+    public void generatePersons_remindersChanged_samePersons() {
+        AddressBookGenerator generator = new AddressBookGenerator().withPersonCount(50);
+        List<Person> persons = generator.generatePersons();
+        assertEquals(persons, generator.withRemindersPerPerson(5).generatePersons());
+    }
+
+    @Test
+    public void generatePersons_tagsAndNotes_followSettings() {
+        List<Person> persons = new AddressBookGenerator().withPersonCount(200).withTagsPerPerson(1, 1)
+                .withTypedTagProbabilities(1, 0).withNoteWords(3, 3).generatePersons();
+        for (Person person : persons) {
+            assertEquals(1, person.getTags().stream().filter(tag -> tag.tagType.equals("default")).count());
+            assertEquals(1, person.getTags().stream().filter(tag -> tag.tagType.equals("research")).count());
+            assertTrue(person.getTags().stream().noneMatch(tag -> tag.tagType.equals("title")));
+            assertEquals(3, person.getNote().toString().split(" ").length);
+        }
+    }
+
+    @Test
+    public void withTagsPerPerson_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookGenerator().withTagsPerPerson(2, 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBookGenerator().withTagsPerPerson(0, AddressBookGenerator.TAGS.length + 1));
+    }
+
+    @Test
+    public void writeTo_readBack_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("generated.json");
+        AddressBookGenerator generator = new AddressBookGenerator().withPersonCount(100).withRemindersPerPerson(2);
+        generator.writeTo(filePath);
+        assertEquals(generator.generate(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
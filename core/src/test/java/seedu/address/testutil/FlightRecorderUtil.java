@@ -0,0 +1,47 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A utility class to check the Java Flight Recorder events the app records.
+ */
+public class FlightRecorderUtil {
+
+    /**
+     * Runs {@code executable} while recording the events named {@code eventName}, and returns those events.
+     */
+    public static List<RecordedEvent> recordEvents(String eventName, Executable executable) throws Throwable {
+        Path recordingFile = Files.createTempFile("events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(recordingFile);
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            deleteQuietly(recordingFile);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Only a temporary file is left behind
+        }
+    }
+}
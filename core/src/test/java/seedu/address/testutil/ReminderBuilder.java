@@ -3,6 +3,7 @@ package seedu.address.testutil;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Date;
 import seedu.address.model.reminder.Message;
+import seedu.address.model.reminder.Recurrence;
 import seedu.address.model.reminder.Reminder;
 
 /**
@@ -17,6 +18,7 @@ public class ReminderBuilder {
     private Date date;
     private Message message;
     private boolean isCompleted;
+    private Recurrence recurrence;
 
     /**
      * Creates a {@code ReminderBuilder} with the default details.
@@ -26,6 +28,7 @@ public class ReminderBuilder {
         date = new Date(DEFAULT_DATE);
         message = new Message(DEFAULT_MESSAGE);
         isCompleted = false;
+        recurrence = Recurrence.NONE;
     }
 
     /**
@@ -36,6 +39,7 @@ public class ReminderBuilder {
         date = reminderToCopy.getDate();
         message = reminderToCopy.getMessage();
         isCompleted = reminderToCopy.isCompleted();
+        recurrence = reminderToCopy.getRecurrence();
     }
 
     /**
@@ -70,7 +74,23 @@ public class ReminderBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code Reminder} that we are building.
+     */
+    public ReminderBuilder withRecurrence(String rule) {
+        this.recurrence = new Recurrence(rule);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Recurrence} of the {@code Reminder} that we are building, ending on {@code end}.
+     */
+    public ReminderBuilder withRecurrence(String rule, String end) {
+        this.recurrence = new Recurrence(rule, new Date(end));
+        return this;
+    }
+
     public Reminder build() {
-        return new Reminder(person, date, message, isCompleted);
+        return new Reminder(person, date, message, isCompleted, recurrence);
     }
 }
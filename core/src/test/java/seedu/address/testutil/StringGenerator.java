@@ -0,0 +1,34 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible random strings, for checking hand-written validators against the regexes they replace.
+ */
+public class StringGenerator {
+
+    /** Characters that are significant to the validation regexes, including whitespace and line terminators. */
+    public static final String VALIDATION_ALPHABET = "aZ09+-_.@ \t\n\r\u000B\f\u0085\u2028\u00E9\u0660#";
+
+    private StringGenerator() {} // prevents instantiation
+
+    /**
+     * Returns {@code count} strings of up to {@code maxLength} characters drawn from {@code alphabet}.
+     * The same arguments always give the same strings.
+     */
+    public static List<String> generate(String alphabet, int maxLength, int count) {
+        Random random = new Random(alphabet.hashCode() * 31L + maxLength);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = random.nextInt(maxLength + 1);
+            StringBuilder builder = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            strings.add(builder.toString());
+        }
+        return strings;
+    }
+}
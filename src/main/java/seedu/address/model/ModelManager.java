@@ -1,251 +0,0 @@
-package seedu.address.model;
-
-import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-
-import java.nio.file.Path;
-import java.util.List;
-import java.util.function.Predicate;
-import java.util.logging.Logger;
-
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import seedu.address.commons.core.GuiSettings;
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.person.Note;
-import seedu.address.model.person.Person;
-import seedu.address.model.reminder.Reminder;
-
-/**
- * Represents the in-memory model of the address book data.
- */
-public class ModelManager implements Model {
-    private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
-
-    private final AddressBook addressBook;
-    private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Reminder> filteredReminders;
-
-    /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
-     */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
-
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
-
-        this.addressBook = new AddressBook(addressBook);
-        this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredReminders = new FilteredList<>(this.addressBook.getReminderList());
-
-        cleanUpOrphanedReminders();
-        updateFilteredReminderList(PREDICATE_SHOW_UPCOMING_REMINDERS);
-    }
-
-    public ModelManager() {
-        this(new AddressBook(), new UserPrefs());
-    }
-
-    /**
-     * Removes reminders that point to persons that no longer exist in the address book.
-     * This handles cases where reminders were left behind when persons were deleted.
-     */
-    private void cleanUpOrphanedReminders() {
-        ObservableList<Person> persons = addressBook.getPersonList();
-        ObservableList<Reminder> reminders = addressBook.getReminderList();
-
-        List<Reminder> orphanedReminders = reminders.stream()
-                .filter(reminder -> !persons.contains(reminder.getPerson()))
-                .collect(java.util.stream.Collectors.toList());
-
-        for (Reminder orphanedReminder : orphanedReminders) {
-            addressBook.removeReminder(orphanedReminder);
-        }
-    }
-
-    //=========== UserPrefs ==================================================================================
-
-    @Override
-    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-        requireNonNull(userPrefs);
-        this.userPrefs.resetData(userPrefs);
-    }
-
-    @Override
-    public ReadOnlyUserPrefs getUserPrefs() {
-        return userPrefs;
-    }
-
-    @Override
-    public GuiSettings getGuiSettings() {
-        return userPrefs.getGuiSettings();
-    }
-
-    @Override
-    public void setGuiSettings(GuiSettings guiSettings) {
-        requireNonNull(guiSettings);
-        userPrefs.setGuiSettings(guiSettings);
-    }
-
-    @Override
-    public Path getAddressBookFilePath() {
-        return userPrefs.getAddressBookFilePath();
-    }
-
-    @Override
-    public void setAddressBookFilePath(Path addressBookFilePath) {
-        requireNonNull(addressBookFilePath);
-        userPrefs.setAddressBookFilePath(addressBookFilePath);
-    }
-
-    //=========== AddressBook ================================================================================
-
-    @Override
-    public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
-    }
-
-    @Override
-    public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
-    }
-
-    @Override
-    public boolean hasPerson(Person person) {
-        requireNonNull(person);
-        return addressBook.hasPerson(person);
-    }
-
-    @Override
-    public void deletePerson(Person target) {
-        addressBook.removePerson(target);
-    }
-
-    @Override
-    public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-    }
-
-    @Override
-    public void setPerson(Person target, Person editedPerson) {
-        requireAllNonNull(target, editedPerson);
-
-        List<Reminder> remindersToUpdate = getRemindersByPerson(target);
-        for (Reminder r : remindersToUpdate) {
-            Reminder updatedReminder = new Reminder(editedPerson, r.getDate(), r.getMessage(), r.isCompleted());
-            addressBook.setReminder(r, updatedReminder);
-        }
-        addressBook.setPerson(target, editedPerson);
-    }
-
-    //=========== Reminder ================================================================================
-
-    @Override
-    public boolean hasReminder(Reminder reminder) {
-        requireNonNull(reminder);
-        return addressBook.hasReminder(reminder);
-    }
-
-    @Override
-    public void deleteReminder(Reminder target) {
-        addressBook.removeReminder(target);
-    }
-
-    @Override
-    public void addReminder(Reminder reminder) {
-        addressBook.addReminder(reminder);
-        Person p = reminder.getPerson();
-
-        // Trigger person list update to reflect reminder change
-        addressBook.setPerson(p, p);
-        updateFilteredReminderList(PREDICATE_SHOW_UPCOMING_REMINDERS);
-    }
-
-    @Override
-    public void setReminder(Reminder target, Reminder editedReminder) {
-        requireAllNonNull(target, editedReminder);
-
-        addressBook.setReminder(target, editedReminder);
-    }
-
-    //=========== Filtered Person List Accessors =============================================================
-
-    /**
-     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
-     */
-    @Override
-    public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
-    }
-
-    @Override
-    public void updateFilteredPersonList(Predicate<Person> predicate) {
-        requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
-    }
-
-    //=========== Filtered Reminder List Accessors =============================================================
-
-    /**
-     * Returns an unmodifiable view of the list of {@code Reminder} backed by the internal list of
-     * {@code versionedAddressBook}
-     */
-    @Override
-    public ObservableList<Reminder> getFilteredReminderList() {
-        return filteredReminders;
-    }
-
-    @Override
-    public void updateFilteredReminderList(Predicate<Reminder> predicate) {
-        requireNonNull(predicate);
-        filteredReminders.setPredicate(null);
-        filteredReminders.setPredicate(predicate);
-    }
-
-    @Override
-    public java.util.List<Reminder> getRemindersByPerson(Person person) {
-        requireNonNull(person);
-        return addressBook.getReminderList().stream()
-                .filter(reminder -> reminder.getPerson().equals(person))
-                .collect(java.util.stream.Collectors.toList());
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof ModelManager)) {
-            return false;
-        }
-
-        ModelManager otherModelManager = (ModelManager) other;
-        return addressBook.equals(otherModelManager.addressBook)
-                && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
-                && filteredReminders.equals(otherModelManager.filteredReminders);
-    }
-
-    @Override
-    public void setPersonNote(Person person, Note note) {
-        requireAllNonNull(person, note);
-
-        Person updatedPerson = new Person(
-                person.getName(),
-                person.getPhone(),
-                person.getEmail(),
-                person.getAddress(),
-                note,
-                person.getTags()
-        );
-
-        setPerson(person, updatedPerson);
-    }
-
-}
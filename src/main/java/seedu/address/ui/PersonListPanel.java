@@ -1,55 +0,0 @@
-package seedu.address.ui;
-
-import java.util.logging.Logger;
-
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.scene.control.ListCell;
-import javafx.scene.control.ListView;
-import javafx.scene.layout.Region;
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.person.Person;
-import seedu.address.model.reminder.Reminder;
-
-/**
- * Panel containing the list of persons.
- */
-public class PersonListPanel extends UiPart<Region> {
-    private static final String FXML = "PersonListPanel.fxml";
-    private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
-
-    @FXML
-    private ListView<Person> personListView;
-
-    private ObservableList<Reminder> upcomingReminderList;
-
-    /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
-     */
-    public PersonListPanel(ObservableList<Person> personList,
-        ObservableList<Reminder> upcomingReminderList) {
-        super(FXML);
-        this.upcomingReminderList = upcomingReminderList;
-        personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
-    }
-
-    /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
-     */
-    class PersonListViewCell extends ListCell<Person> {
-        @Override
-        protected void updateItem(Person person, boolean empty) {
-            super.updateItem(person, empty);
-
-            if (empty || person == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                PersonCardData cardData = new PersonCardData(person, getIndex() + 1, upcomingReminderList);
-                setGraphic(new PersonCard(cardData).getRoot());
-            }
-        }
-    }
-
-}
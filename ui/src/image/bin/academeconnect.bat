@@ -0,0 +1,6 @@
+@echo off
+rem Runs AcademeConnect on the runtime of this image, with the classes archived by the cdsArchive task.
+rem The archive only applies while the image stays where it was created; elsewhere the app starts without it.
+for %%I in ("%~dp0..") do set "DIR=%%~fI"
+"%DIR%\runtime\bin\java" -XX:SharedArchiveFile="%DIR%\lib\AcademeConnect.jsa" -Xshare:auto ^
+    -cp "%DIR%\lib\AcademeConnect.jar" seedu.address.Main %*
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +21,26 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@value #BATCH_OPTION} as the first argument, it runs a script of commands with {@link BatchMain} instead,
+ * without starting JavaFX. Given {@value #REPLAY_OPTION}, it replays a recorded session with {@link ReplayMain}.
  */
 public class Main {
+    public static final String BATCH_OPTION = "--batch";
+    public static final String REPLAY_OPTION = "--replay";
+
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_OPTION)) {
+            BatchMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals(REPLAY_OPTION)) {
+            ReplayMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -0,0 +1,235 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import javafx.application.Application;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Version;
+import seedu.address.commons.core.metrics.StartupTimeline;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.management.AppManagement;
+import seedu.address.logic.workload.SessionRecorder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.ui.Ui;
+import seedu.address.ui.UiManager;
+
+/**
+ * Runs the application.
+ */
+public class MainApp extends Application {
+
+    public static final Version VERSION = new Version(1, 5, 0, true);
+
+    private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+
+    protected Ui ui;
+    protected Logic logic;
+    protected Storage storage;
+    protected Model model;
+    protected Config config;
+    protected AppManagement appManagement;
+    protected StartupTimeline startupTimeline;
+    protected SessionRecorder sessionRecorder;
+
+    @Override
+    public void init() throws Exception {
+        startupTimeline = new StartupTimeline();
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        super.init();
+
+        AppParameters appParameters = AppParameters.parse(getParameters());
+        config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+        startupTimeline.mark("config");
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        startupTimeline.mark("prefs");
+
+        // The address book is loaded into the model once the window is shown, see start(Stage)
+        model = new ModelManager(new AddressBook(), userPrefs);
+        startupTimeline.mark("model");
+
+        logic = new LogicManager(model, storage);
+        initSessionRecorder();
+        startupTimeline.mark("logic");
+
+        appManagement = new AppManagement(logic, storage);
+        appManagement.register();
+        startupTimeline.mark("management");
+
+        ui = new UiManager(logic);
+        startupTimeline.mark("ui");
+    }
+
+    /**
+     * Returns the address book read from {@code storage}. <br>
+     * The sample address book will be returned instead if {@code storage}'s address book is not found,
+     * or an empty address book will be returned instead if errors occur when reading {@code storage}'s address book.
+     */
+    private ReadOnlyAddressBook readAddressBook() {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+        return initialData;
+    }
+
+    /**
+     * Records the commands run to the session file, if the config gives one. This runs before the address book is
+     * loaded, so the session records the data file it starts from.
+     */
+    private void initSessionRecorder() {
+        Path sessionFilePath = config.getSessionFilePath();
+        if (sessionFilePath == null) {
+            return;
+        }
+        try {
+            sessionRecorder = new SessionRecorder(sessionFilePath, storage.getAddressBookFilePath());
+            logic.setSessionRecorder(sessionRecorder);
+            logger.info("Recording the commands run to " + sessionFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to start recording the session " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}, or the default file if it is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        return AppInitializer.initConfig(configFilePath);
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        return AppInitializer.initPrefs(storage);
+    }
+
+    @Override
+    public void start(Stage primaryStage) {
+        startupTimeline.mark("launch");
+        logger.info("Starting AddressBook " + MainApp.VERSION);
+        ui.start(primaryStage);
+        startupTimeline.mark("window");
+
+        // The lists in the window fill in as the address book loads
+        CompletableFuture<ReadOnlyAddressBook> addressBookLoad = logic.loadAddressBook(this::readAddressBook);
+        waitForFirstFrame(primaryStage).thenCombine(addressBookLoad, (unused, addressBook) -> addressBook)
+                .whenComplete((addressBook, error) -> {
+                    if (error != null) {
+                        logger.severe("Failed to load the address book " + StringUtil.getDetails(error));
+                    } else {
+                        startupTimeline.setAddressBookSize(addressBook.getPersonList().size(),
+                                addressBook.getReminderList().size());
+                    }
+                    startupTimeline.mark("loaded");
+                    reportStartup();
+                });
+    }
+
+    /**
+     * Returns a future that completes once the first frame of {@code stage} is laid out, which is then rendered
+     * right after.
+     */
+    private CompletableFuture<Void> waitForFirstFrame(Stage stage) {
+        CompletableFuture<Void> firstFrame = new CompletableFuture<>();
+        Scene scene = stage.getScene();
+        if (scene == null) {
+            firstFrame.complete(null);
+            return firstFrame;
+        }
+        // The first pulse after the window is shown lays out its first frame
+        Runnable firstFrameListener = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                startupTimeline.mark("first frame");
+                firstFrame.complete(null);
+            }
+        };
+        scene.addPostLayoutPulseListener(firstFrameListener);
+        return firstFrame;
+    }
+
+    /**
+     * Logs the startup timeline, and writes it to the startup report file if the config gives one.
+     */
+    private void reportStartup() {
+        logger.info(startupTimeline.getReport());
+        Path reportFilePath = config.getStartupReportFilePath();
+        if (reportFilePath == null) {
+            return;
+        }
+        try {
+            startupTimeline.writeReport(reportFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save startup report " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public void stop() {
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        appManagement.unregister();
+        // Commands still running or queued save the address book before the app exits
+        logic.getModelWorker().shutdown();
+        if (sessionRecorder != null) {
+            try {
+                sessionRecorder.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close the session file " + StringUtil.getDetails(e));
+            }
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            model.getMetricsRegistry().writeReport(config.getMetricsFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save command metrics " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.list.ListListener;
+import seedu.address.commons.core.list.ListenableArrayList;
+import seedu.address.commons.core.list.ListenableList;
+
+/**
+ * An unmodifiable observable list for a {@code ListView} that is brought up to date with new contents in one go.
+ *
+ * However many changes led to the new contents, listeners are sent a single change with as few removed and added
+ * items as possible, so that the {@code ListView} only updates the cells of items that were actually removed or
+ * added. Items are matched by identity, as the items of the model are immutable and an edited item is a new object.
+ * An item that is kept can also be sent as updated, when data that its cell shows along with it has changed.
+ *
+ * The list is also a {@link ListenableList}, for the parts of the application outside the UI that follow it, such as
+ * command completion. Its listeners are sent a change for each run of removed or added items.
+ */
+public class CoalescingObservableList<T> extends ObservableListBase<T> implements ListenableList<T> {
+
+    private final ListenableArrayList<T> items;
+
+    /**
+     * Creates a list with the given initial items.
+     */
+    public CoalescingObservableList(List<? extends T> initialItems) {
+        items = new ListenableArrayList<>(initialItems);
+    }
+
+    @Override
+    public void addListener(ListListener<? super T> listener) {
+        items.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(ListListener<? super T> listener) {
+        items.removeListener(listener);
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Changes the contents of this list to {@code newItems}, firing a single change if they differ.
+     */
+    public void update(List<? extends T> newItems) {
+        update(newItems, Set.of());
+    }
+
+    /**
+     * Changes the contents of this list to {@code newItems}, and sends each kept item in {@code updatedItems} as
+     * updated, firing a single change for both. The update makes a {@code ListView} refresh the cell of an item even
+     * if the item itself is the same object.
+     */
+    public void update(List<? extends T> newItems, Set<?> updatedItems) {
+        // Items before and after the changed range usually make up most of the list, and are skipped at once
+        int start = 0;
+        int oldEnd = items.size();
+        int newEnd = newItems.size();
+        while (start < oldEnd && start < newEnd && items.get(start) == newItems.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && items.get(oldEnd - 1) == newItems.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (start == oldEnd && start == newEnd && updatedItems.isEmpty()) {
+            return;
+        }
+
+        boolean[] isKeptOld = new boolean[oldEnd - start];
+        boolean[] isKeptNew = new boolean[newEnd - start];
+        findKeptItems(newItems, start, oldEnd, newEnd, isKeptOld, isKeptNew);
+
+        beginChange();
+        nextUpdates(0, start, updatedItems);
+        int position = start;
+        int oldIndex = start;
+        int newIndex = start;
+        while (oldIndex < oldEnd || newIndex < newEnd) {
+            int removedCount = 0;
+            while (oldIndex < oldEnd && !isKeptOld[oldIndex - start]) {
+                oldIndex++;
+                removedCount++;
+            }
+            if (removedCount > 0) {
+                List<T> removedRange = items.subList(position, position + removedCount);
+                List<T> removed = new ArrayList<>(removedRange);
+                removedRange.clear();
+                nextRemove(position, removed);
+            }
+
+            int addedFrom = newIndex;
+            while (newIndex < newEnd && !isKeptNew[newIndex - start]) {
+                newIndex++;
+            }
+            if (newIndex > addedFrom) {
+                items.addAll(position, newItems.subList(addedFrom, newIndex));
+                nextAdd(position, position + newIndex - addedFrom);
+                position += newIndex - addedFrom;
+            }
+
+            if (oldIndex < oldEnd && newIndex < newEnd) {
+                // The same item is kept in both, so it stays where it is
+                nextUpdates(position, position + 1, updatedItems);
+                oldIndex++;
+                newIndex++;
+                position++;
+            }
+        }
+        nextUpdates(position, items.size(), updatedItems);
+        endChange();
+    }
+
+    /**
+     * Sends the items from {@code from} to {@code to} that are in {@code updatedItems} as updated.
+     */
+    private void nextUpdates(int from, int to, Set<?> updatedItems) {
+        if (updatedItems.isEmpty()) {
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            if (updatedItems.contains(items.get(i))) {
+                nextUpdate(i);
+            }
+        }
+    }
+
+    /**
+     * Marks the items between {@code start} and the given ends that are kept in place: the longest sequence of items
+     * that is in the same order in both lists. Every other old item is removed, and every other new item added.
+     */
+    private void findKeptItems(List<? extends T> newItems, int start, int oldEnd, int newEnd,
+            boolean[] isKeptOld, boolean[] isKeptNew) {
+        Map<T, Integer> oldIndexes = new IdentityHashMap<>();
+        for (int i = start; i < oldEnd; i++) {
+            oldIndexes.put(items.get(i), i - start);
+        }
+
+        // The longest increasing sequence of the old indexes of the new items, found by patience sorting:
+        // tails[k] is the new index that ends the best sequence of length k + 1 found so far
+        int middleLength = newEnd - start;
+        int[] oldIndexOf = new int[middleLength];
+        int[] tails = new int[middleLength];
+        int[] previous = new int[middleLength];
+        int length = 0;
+        for (int j = 0; j < middleLength; j++) {
+            Integer oldIndex = oldIndexes.get(newItems.get(start + j));
+            oldIndexOf[j] = oldIndex == null ? -1 : oldIndex;
+            if (oldIndexOf[j] == -1) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (oldIndexOf[tails[mid]] < oldIndexOf[j]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[j] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = j;
+            length = Math.max(length, low + 1);
+        }
+
+        for (int j = length > 0 ? tails[length - 1] : -1; j != -1; j = previous[j]) {
+            isKeptNew[j] = true;
+            isKeptOld[oldIndexOf[j]] = true;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package seedu.address.ui;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javafx.animation.PauseTransition;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Text;
+import javafx.util.Duration;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.completion.CommandCompleter;
+import seedu.address.logic.completion.Completion;
+import seedu.address.logic.search.LiveSearch;
+import seedu.address.model.person.Person;
+
+/**
+ * The UI component that is responsible for receiving user command inputs.
+ */
+public class CommandBox extends UiPart<Region> {
+
+    public static final String ERROR_STYLE_CLASS = "error";
+    private static final String FXML = "CommandBox.fxml";
+
+    // Caret moves alone only change the suggestion once they stop, e.g. after holding down an arrow key
+    private static final Duration CARET_DEBOUNCE_DELAY = Duration.millis(100);
+    // Commands that take longer than this show the busy indicator until they finish
+    private static final Duration BUSY_INDICATOR_DELAY = Duration.millis(200);
+
+    private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final LiveSearch liveSearch;
+    private final PauseTransition caretDebounce = new PauseTransition(CARET_DEBOUNCE_DELAY);
+    private final PauseTransition busyIndicatorDelay = new PauseTransition(BUSY_INDICATOR_DELAY);
+    private final Text measureText = new Text();
+    private Completion currentCompletion;
+
+    // The text and caret position the suggestion was last computed for
+    private String handledText;
+    private int handledCaretPosition = -1;
+
+    // True between a change to the text and the caret move that follows it
+    private boolean isCaretMoveFromEdit = false;
+
+    // The number of entered commands that have not finished yet
+    private int pendingCommandCount = 0;
+
+    @FXML
+    private TextField commandTextField;
+
+    @FXML
+    private Text suggestionText;
+
+    @FXML
+    private ProgressIndicator busyIndicator;
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that completes names and tags from
+     * {@code persons}, and filters the person list with {@code liveSearch} as commands are typed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, ListenableList<Person> persons, LiveSearch liveSearch) {
+        super(FXML);
+        this.commandExecutor = commandExecutor;
+        this.liveSearch = liveSearch;
+        this.commandCompleter = new CommandCompleter(persons);
+        busyIndicatorDelay.setOnFinished(unused -> busyIndicator.setVisible(true));
+
+        // Initialize suggestion text styling
+        suggestionText.setFill(javafx.scene.paint.Color.web("#4A90E2"));
+        suggestionText.setOpacity(1);
+
+        commandTextField.addEventFilter(javafx.scene.input.KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == javafx.scene.input.KeyCode.TAB) {
+                if (currentCompletion != null) {
+                    acceptSuggestion();
+                }
+                event.consume(); // Always consume Tab to prevent focus traversal
+            }
+        });
+
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            caretDebounce.stop();
+            handleTextChanged();
+            isCaretMoveFromEdit = true;
+            liveSearch.update(commandTextField.getText());
+        });
+
+        // Update suggestion position when caret moves: at once while typing, and once it stops moving otherwise
+        caretDebounce.setOnFinished(unused -> handleTextChanged());
+        commandTextField.caretPositionProperty().addListener((obs, oldPos, newPos) -> {
+            if (isCaretMoveFromEdit) {
+                isCaretMoveFromEdit = false;
+                handleTextChanged();
+            } else {
+                caretDebounce.playFromStart();
+            }
+        });
+    }
+
+    /**
+     * Accepts the current suggestion and updates the text field.
+     */
+    private void acceptSuggestion() {
+        if (currentCompletion == null) {
+            return;
+        }
+
+        String currentText = commandTextField.getText();
+        int caretPosition = commandTextField.getCaretPosition();
+        if (caretPosition != handledCaretPosition || !currentText.equals(handledText)) {
+            // The suggestion is for input that has since changed
+            hideSuggestion();
+            return;
+        }
+
+        String newText = currentCompletion.applyTo(currentText, caretPosition);
+        int newCaretPosition = currentCompletion.getStart() + currentCompletion.getText().length();
+
+        commandTextField.setText(newText);
+        commandTextField.positionCaret(newCaretPosition);
+
+        hideSuggestion();
+    }
+
+    /**
+     * Handles text changes and shows a suggestion for the word being typed if there is one.
+     * Nothing is done if neither the text nor the caret position changed since the last call.
+     */
+    private void handleTextChanged() {
+        String text = commandTextField.getText();
+        int caretPosition = commandTextField.getCaretPosition();
+        if (caretPosition == handledCaretPosition && text.equals(handledText)) {
+            return;
+        }
+        handledText = text;
+        handledCaretPosition = caretPosition;
+
+        // The suggestion is drawn after the end of the text, so it is only shown while typing there
+        Optional<Completion> completion = caretPosition == text.length()
+                ? commandCompleter.complete(text, caretPosition)
+                : Optional.empty();
+        if (completion.isPresent()) {
+            showSuggestion(completion.get(), caretPosition, text);
+        } else {
+            hideSuggestion();
+        }
+    }
+
+    /**
+     * Shows the untyped part of {@code completion} as blue overlay text.
+     * Nodes are only updated where they change, so that typing does not cause needless layout passes.
+     */
+    private void showSuggestion(Completion completion, int caretPosition, String currentText) {
+        currentCompletion = completion;
+
+        // Only show the REMAINING part that hasn't been typed yet
+        String remainingPart = completion.getRemainder(caretPosition);
+        if (!remainingPart.equals(suggestionText.getText())) {
+            suggestionText.setText(remainingPart);
+        }
+
+        measureText.setFont(commandTextField.getFont());
+        measureText.setText(currentText);
+        double currentTextWidth = measureText.getLayoutBounds().getWidth();
+
+        double textFieldPadding = 12.0;
+        suggestionText.setLayoutX(textFieldPadding + currentTextWidth);
+        suggestionText.setLayoutY(commandTextField.getHeight() / 2 + 6);
+        if (suggestionText.getFont() != commandTextField.getFont()) {
+            suggestionText.setFont(commandTextField.getFont());
+        }
+
+        if (!suggestionText.isVisible()) {
+            suggestionText.setVisible(true);
+        }
+    }
+
+    private void hideSuggestion() {
+        currentCompletion = null;
+        if (suggestionText.isVisible()) {
+            suggestionText.setVisible(false);
+        }
+    }
+
+    /**
+     * Handles the Enter button pressed event.
+     * The command runs in the background, so more commands can be typed while it runs.
+     */
+    @FXML
+    private void handleCommandEntered() {
+        hideSuggestion();
+
+        String commandText = commandTextField.getText();
+        if (commandText.equals("")) {
+            return;
+        }
+
+        if (pendingCommandCount++ == 0) {
+            busyIndicatorDelay.playFromStart();
+        }
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (--pendingCommandCount == 0) {
+                busyIndicatorDelay.stop();
+                busyIndicator.setVisible(false);
+            }
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (commandTextField.getText().equals(commandText)) {
+                // Only cleared if the next command has not been started meanwhile
+                commandTextField.setText("");
+            }
+        });
+    }
+
+    /**
+     * Sets the command box style to use the default style.
+     */
+    private void setStyleToDefault() {
+        commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
+    }
+
+    /**
+     * Sets the command box style to indicate a failed command.
+     */
+    private void setStyleToIndicateCommandFailure() {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+
+        if (styleClass.contains(ERROR_STYLE_CLASS)) {
+            return;
+        }
+
+        styleClass.add(ERROR_STYLE_CLASS);
+    }
+
+    /**
+     * Represents a function that can execute commands.
+     */
+    @FunctionalInterface
+    public interface CommandExecutor {
+        /**
+         * Executes the command and returns a future of the result, which completes on the JavaFX application thread.
+         * The future completes exceptionally if the command fails.
+         *
+         * @see seedu.address.logic.Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+}
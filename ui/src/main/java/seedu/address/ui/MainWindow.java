@@ -2,8 +2,10 @@ package seedu.address.ui;
 
 import java.awt.Point;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -24,11 +26,13 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.ModelWorker;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.Model;
+import seedu.address.logic.search.LiveSearch;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Person;
@@ -52,6 +56,8 @@ public class MainWindow extends UiPart<Stage> {
     private ReminderListPanel reminderListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private LiveSearch liveSearch;
+    private ObservableList<Person> filteredPersonList;
 
     private NoteEditView noteEditView;
     private boolean isNoteEditMode = false;
@@ -140,9 +146,15 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        ObservableList<Person> filteredPersonList = logic.getFilteredPersonList();
-        ObservableList<Reminder> filteredReminderList = logic.getFilteredReminderList();
-        personListPanel = new PersonListPanel(filteredPersonList, filteredReminderList);
+        // Commands change the model on the model worker, so the UI shows mirrors of its lists
+        ModelWorker modelWorker = logic.getModelWorker();
+        ModelMirror modelMirror = new ModelMirror(modelWorker, Platform::runLater);
+        // A person's card shows their reminder summary, so it is refreshed when the summary changes
+        filteredPersonList = modelMirror.mirror(logic.getFilteredPersonList(),
+                logic::takePersonsWithChangedReminderSummaries);
+        ObservableList<Reminder> filteredReminderList = modelMirror.mirror(logic.getFilteredReminderList());
+        CoalescingObservableList<Person> personList = modelMirror.mirror(logic.getAddressBook().getPersonList());
+        personListPanel = new PersonListPanel(filteredPersonList, logic::getReminderSummary);
         ObservableList<Node> personListPanelChildren = personListPanelPlaceholder.getChildren();
         Region personListPanelRoot = personListPanel.getRoot();
         personListPanelChildren.add(personListPanelRoot);
@@ -163,8 +175,8 @@ public class MainWindow extends UiPart<Stage> {
         Region statusBarFooterRoot = statusBarFooter.getRoot();
         statusbarChildren.add(statusBarFooterRoot);
 
-        Model model = logic.getModel();
-        CommandBox commandBox = new CommandBox(this::executeCommand, model);
+        liveSearch = new LiveSearch(logic.getModel(), modelWorker);
+        CommandBox commandBox = new CommandBox(this::executeCommand, personList, liveSearch);
         ObservableList<Node> commandBoxChildren = commandBoxPlaceholder.getChildren();
         Region commandBoxRoot = commandBox.getRoot();
         commandBoxChildren.add(commandBoxRoot);
@@ -231,46 +243,59 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the model worker, and returns a future of the result that completes on the
+     * application thread once the result is shown.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            String feedbackToUser = commandResult.getFeedbackToUser();
-            logger.info("Result: " + feedbackToUser);
-            resultDisplay.setFeedbackToUser(feedbackToUser);
-
-            boolean shouldShowHelp = commandResult.isShowHelp();
-            if (shouldShowHelp) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        // The command sets the person list itself, which typing the next command must not undo
+        liveSearch.reset();
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error == null) {
+                handleCommandResult(commandText, commandResult);
+            } else {
+                handleCommandError(commandText, error);
             }
+        }, Platform::runLater);
+    }
 
-            boolean shouldExit = commandResult.isExit();
-            if (shouldExit) {
-                handleExit();
-            }
+    private void handleCommandResult(String commandText, CommandResult commandResult) {
+        String feedbackToUser = commandResult.getFeedbackToUser();
+        logger.info("Result: " + feedbackToUser);
+        resultDisplay.setFeedbackToUser(feedbackToUser);
 
-            boolean shouldShowNoteEdit = commandResult.isShowNoteEdit();
-            if (shouldShowNoteEdit) {
-                Index targetPersonIndex = commandResult.getTargetPersonIndex();
-                showNoteEditView(targetPersonIndex);
-            } else if (isNoteEditMode && commandText.trim().equals("list")) {
-                showPersonListView();
-            }
+        boolean shouldShowHelp = commandResult.isShowHelp();
+        if (shouldShowHelp) {
+            handleHelp();
+        }
+
+        boolean shouldExit = commandResult.isExit();
+        if (shouldExit) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        boolean shouldShowNoteEdit = commandResult.isShowNoteEdit();
+        if (shouldShowNoteEdit) {
+            Index targetPersonIndex = commandResult.getTargetPersonIndex();
+            showNoteEditView(targetPersonIndex);
+        } else if (isNoteEditMode && commandText.trim().equals("list")) {
+            showPersonListView();
+        }
+    }
+
+    private void handleCommandError(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            String errorMessage = e.getMessage();
-            resultDisplay.setFeedbackToUser(errorMessage);
-            throw e;
+        } else {
+            logger.severe("Unexpected error while executing command: " + commandText + "\n"
+                    + StringUtil.getDetails(error));
         }
+        String errorMessage = error.getMessage();
+        resultDisplay.setFeedbackToUser(errorMessage);
     }
 
     private void showNoteEditView(Index personIndex) {
-        ObservableList<Person> filteredPersonList = logic.getFilteredPersonList();
         int personZeroBasedIndex = personIndex.getZeroBased();
         Person targetPerson = filteredPersonList.get(personZeroBasedIndex);
         contactsHeader.setVisible(false);
@@ -314,23 +339,27 @@ public class MainWindow extends UiPart<Stage> {
         if (currentPerson == null) {
             return;
         }
-        try {
-            saveNoteForPerson(currentPerson);
-        } catch (Exception e) {
-            handleNoteSaveError(e);
-        }
+        saveNoteForPerson(currentPerson);
     }
 
     /**
-     * Saves the note for the specified person.
+     * Saves the note for the specified person on the model worker.
      */
-    private void saveNoteForPerson(Person person) throws CommandException {
+    private void saveNoteForPerson(Person person) {
         String content = noteEditView.getNoteContent();
         Note note = new Note(content);
         Person personToUpdate = findPersonInFilteredList(person);
-        logic.setPersonNote(personToUpdate, note);
-        Name personName = personToUpdate.getName();
-        resultDisplay.setFeedbackToUser("Note saved for " + personName);
+        logic.getModelWorker().submit(() -> {
+            logic.setPersonNote(personToUpdate, note);
+            return null;
+        }).whenCompleteAsync((unused, error) -> {
+            if (error != null) {
+                handleNoteSaveError(error);
+                return;
+            }
+            Name personName = personToUpdate.getName();
+            resultDisplay.setFeedbackToUser("Note saved for " + personName);
+        }, Platform::runLater);
     }
 
     /**
@@ -338,7 +367,6 @@ public class MainWindow extends UiPart<Stage> {
      * Returns the given person if not found in the list.
      */
     private Person findPersonInFilteredList(Person person) {
-        ObservableList<Person> filteredPersonList = logic.getFilteredPersonList();
         for (Person p : filteredPersonList) {
             boolean isSamePerson = p.isSamePerson(person);
             if (isSamePerson) {
@@ -351,7 +379,7 @@ public class MainWindow extends UiPart<Stage> {
     /**
      * Handles errors that occur during note saving.
      */
-    private void handleNoteSaveError(Exception e) {
+    private void handleNoteSaveError(Throwable e) {
         String errorMessage = e.getMessage();
         resultDisplay.setFeedbackToUser("Error saving note: " + errorMessage);
     }
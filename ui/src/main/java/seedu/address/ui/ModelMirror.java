@@ -0,0 +1,135 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.logic.ModelWorker;
+
+/**
+ * Mirrors lists of the model, which are changed on the model worker, into lists for the JavaFX application thread.
+ * This is the only place where the lists of the model, which do not depend on JavaFX, become {@code ObservableList}s.
+ *
+ * After each task on the worker, the lists that it changed are copied, and the copies are applied on the application
+ * thread in one batch. A batch that the application thread has not applied yet takes in the later copies instead of
+ * queueing another, so the application thread never falls behind the worker by more than one batch.
+ *
+ * Each mirror is a {@link CoalescingObservableList}, so however many changes the tasks of a batch made to a list, its
+ * {@code ListView} receives one change with only the items that were removed or added. Items whose cells show data
+ * that changed elsewhere in the model can be sent as updated in the same change.
+ */
+public class ModelMirror {
+
+    private final Executor uiExecutor;
+    private final List<MirroredList<?>> mirroredLists = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean isBatchScheduled = new AtomicBoolean(false);
+
+    /**
+     * Creates a {@code ModelMirror} that follows the tasks of {@code modelWorker} and applies changes with
+     * {@code uiExecutor}.
+     */
+    public ModelMirror(ModelWorker modelWorker, Executor uiExecutor) {
+        requireNonNull(modelWorker);
+        requireNonNull(uiExecutor);
+        this.uiExecutor = uiExecutor;
+        modelWorker.addTaskListener(this::publishChanges);
+    }
+
+    /**
+     * Returns an unmodifiable list for the application thread that follows {@code source}.
+     * Must be called while no task runs on the worker, e.g. on startup.
+     */
+    public <T> CoalescingObservableList<T> mirror(ListenableList<T> source) {
+        return mirror(source, Set::of);
+    }
+
+    /**
+     * Returns an unmodifiable list for the application thread that follows {@code source}, in which the items
+     * returned by {@code updatedItems} after each task are sent as updated. {@code updatedItems} is called on the
+     * worker, and must return each changed item only once.
+     * Must be called while no task runs on the worker, e.g. on startup.
+     */
+    public <T> CoalescingObservableList<T> mirror(ListenableList<T> source,
+            Supplier<? extends Set<? extends T>> updatedItems) {
+        MirroredList<T> mirroredList = new MirroredList<>(source, updatedItems);
+        mirroredLists.add(mirroredList);
+        return mirroredList.target;
+    }
+
+    /**
+     * Copies the lists changed by the last task and schedules a batch to apply them if none is scheduled.
+     * Runs on the worker.
+     */
+    private void publishChanges() {
+        boolean hasChanges = false;
+        for (MirroredList<?> mirroredList : mirroredLists) {
+            hasChanges |= mirroredList.copyIfChanged();
+        }
+        if (hasChanges && isBatchScheduled.compareAndSet(false, true)) {
+            uiExecutor.execute(this::applyChanges);
+        }
+    }
+
+    /**
+     * Applies the latest copies of the changed lists. Runs on the application thread.
+     */
+    private void applyChanges() {
+        // Copies made from here on are applied by the next batch
+        isBatchScheduled.set(false);
+        mirroredLists.forEach(MirroredList::applyCopy);
+    }
+
+    /**
+     * A list of the model and its mirror.
+     */
+    private static class MirroredList<T> {
+        private final ListenableList<T> source;
+        private final CoalescingObservableList<T> target;
+        private final Supplier<? extends Set<? extends T>> updatedItems;
+        private final AtomicReference<List<T>> pendingCopy = new AtomicReference<>();
+        private final AtomicReference<Set<T>> pendingUpdatedItems = new AtomicReference<>(Set.of());
+        // Only accessed on the worker
+        private boolean isChanged = false;
+
+        MirroredList(ListenableList<T> source, Supplier<? extends Set<? extends T>> updatedItems) {
+            this.source = source;
+            this.updatedItems = updatedItems;
+            target = new CoalescingObservableList<>(source);
+            source.addListener(change -> isChanged = true);
+        }
+
+        boolean copyIfChanged() {
+            Set<? extends T> newUpdatedItems = updatedItems.get();
+            boolean hasUpdatedItems = !newUpdatedItems.isEmpty();
+            if (hasUpdatedItems) {
+                pendingUpdatedItems.getAndUpdate(pending -> {
+                    Set<T> merged = new HashSet<>(pending);
+                    merged.addAll(newUpdatedItems);
+                    return merged;
+                });
+            }
+            if (!isChanged) {
+                return hasUpdatedItems;
+            }
+            isChanged = false;
+            pendingCopy.set(List.copyOf(source));
+            return true;
+        }
+
+        void applyCopy() {
+            List<T> copy = pendingCopy.getAndSet(null);
+            Set<T> updated = pendingUpdatedItems.getAndSet(Set.of());
+            if (copy != null || !updated.isEmpty()) {
+                target.update(copy == null ? List.copyOf(target) : copy, updated);
+            }
+        }
+    }
+}
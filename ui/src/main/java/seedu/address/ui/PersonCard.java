@@ -0,0 +1,151 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A UI component that displays information of a {@code Person}.
+ */
+public class PersonCard extends UiPart<Region> {
+
+    private static final String FXML = "PersonListCard.fxml";
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    // Styles of tag labels by tag colour, shared by all cards so that rebinding a card creates no new strings
+    private static final Map<String, String> TAG_STYLES = new HashMap<>();
+
+    /**
+     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
+     * As a consequence, UI elements' variable names cannot be set to such keywords
+     * or an exception will be thrown by JavaFX during runtime.
+     *
+     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     */
+
+    private Person person;
+
+    @FXML
+    private HBox cardPane;
+    @FXML
+    private Label name;
+    @FXML
+    private Label id;
+    @FXML
+    private Label phone;
+    @FXML
+    private Label address;
+    @FXML
+    private Label email;
+    @FXML
+    private FlowPane tags;
+    @FXML
+    private Label reminderCount;
+    @FXML
+    private Label nextReminder;
+
+    // Every tag label this card has created. The first ones are shown in tags, and the rest are kept for reuse.
+    private final List<Label> tagLabels = new ArrayList<>();
+
+    /**
+     * Creates an empty {@code PersonCard} to be filled by {@link #setCardData(PersonCardData)}.
+     */
+    public PersonCard() {
+        super(FXML);
+
+        // Prevent the index label from being truncated when name is too long
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        id.setMaxWidth(Region.USE_PREF_SIZE);
+
+        // Allow the name label to grow and take remaining space
+        HBox.setHgrow(name, Priority.ALWAYS);
+        name.setMaxWidth(Double.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code PersonCard} with the given {@code PersonCardData}.
+     */
+    public PersonCard(PersonCardData cardData) {
+        this();
+        setCardData(cardData);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code cardData} on this card, reusing its existing nodes.
+     * JavaFX properties ignore a value equal to the one they hold, so rebinding a card to the same data does not cause
+     * a new layout.
+     */
+    public void setCardData(PersonCardData cardData) {
+        this.person = cardData.getPerson();
+
+        id.setText(cardData.getDisplayIndex() + ". ");
+        name.setText(person.getName().fullName);
+        setOptionalText(phone, "      📞  ", person.getPhone().value);
+        setOptionalText(address, "      🏠  ", person.getAddress().value);
+        setOptionalText(email, "      \uD83D\uDCE7  ", person.getEmail().value);
+        setTags(person.getTags());
+
+        // Display reminder information
+        int count = cardData.getUpcomingReminderCount();
+        setOptionalText(reminderCount, "      🔔  ",
+                count == 0 ? "" : count + (count == 1 ? " upcoming reminder" : " upcoming reminders"));
+        setOptionalText(nextReminder, "      ⏰  Next: ", cardData.getNextReminderText());
+    }
+
+    /**
+     * Shows {@code personTags} in alphabetical order, reusing the tag labels from earlier persons.
+     */
+    private void setTags(Set<Tag> personTags) {
+        Tag[] sortedTags = personTags.toArray(new Tag[0]);
+        Arrays.sort(sortedTags, TAG_NAME_ORDER);
+
+        while (tagLabels.size() < sortedTags.length) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < sortedTags.length; i++) {
+            Label tagLabel = tagLabels.get(i);
+            tagLabel.setText(sortedTags[i].tagName);
+            String style = TAG_STYLES.computeIfAbsent(sortedTags[i].getTagColour(),
+                    colour -> "-fx-background-color: " + colour + ";");
+            tagLabel.setStyle(style);
+        }
+
+        ObservableList<Node> shownTagLabels = tags.getChildren();
+        if (shownTagLabels.size() != sortedTags.length) {
+            shownTagLabels.setAll(tagLabels.subList(0, sortedTags.length));
+        }
+    }
+
+    /**
+     * Shows {@code prefix} followed by {@code value} in {@code label}, or hides {@code label} if {@code value} is
+     * null or empty.
+     */
+    private static void setOptionalText(Label label, String prefix, String value) {
+        boolean hasValue = value != null && !value.isEmpty();
+        if (hasValue) {
+            label.setText(prefix + value);
+        }
+        label.setVisible(hasValue);
+        label.setManaged(hasValue);
+    }
+}
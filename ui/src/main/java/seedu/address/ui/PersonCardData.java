@@ -0,0 +1,51 @@
+package seedu.address.ui;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.ReminderSummary;
+
+/**
+ * Encapsulates display data for a PersonCard, including the summary of the person's upcoming reminders.
+ */
+public class PersonCardData {
+    private final Person person;
+    private final int displayIndex;
+    private final ReminderSummary reminderSummary;
+
+    /**
+     * Creates a PersonCardData with the given reminder summary.
+     *
+     * @param person The person to display.
+     * @param displayIndex The index to display (1-based).
+     * @param reminderSummary The summary of the person's upcoming reminders.
+     */
+    public PersonCardData(Person person, int displayIndex, ReminderSummary reminderSummary) {
+        this.person = person;
+        this.displayIndex = displayIndex;
+        this.reminderSummary = reminderSummary;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public int getDisplayIndex() {
+        return displayIndex;
+    }
+
+    public int getUpcomingReminderCount() {
+        return reminderSummary.getUpcomingCount();
+    }
+
+    /**
+     * Returns the message and date of the next upcoming reminder, or an empty string if there is none.
+     */
+    public String getNextReminderText() {
+        return reminderSummary.getNextReminder()
+                .map(r -> r.getMessage() + " (" + r.getDate() + ")")
+                .orElse("");
+    }
+
+    public boolean hasUpcomingReminders() {
+        return getUpcomingReminderCount() > 0;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.ui;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.ReminderSummary;
+
+/**
+ * Panel containing the list of persons.
+ */
+public class PersonListPanel extends UiPart<Region> {
+    private static final String FXML = "PersonListPanel.fxml";
+    private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+
+    @FXML
+    private ListView<Person> personListView;
+
+    private final Function<Person, ReminderSummary> reminderSummaries;
+    // The cells created by the list view, which drops the ones it no longer uses
+    private final Set<PersonListViewCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, which shows the summary of each
+     * person's upcoming reminders from {@code reminderSummaries}. The cards of persons that {@code personList} sends
+     * as updated are shown again with their latest summaries.
+     */
+    public PersonListPanel(ObservableList<Person> personList,
+        Function<Person, ReminderSummary> reminderSummaries) {
+        super(FXML);
+        this.reminderSummaries = reminderSummaries;
+        personListView.setItems(personList);
+        personListView.setCellFactory(listView -> {
+            PersonListViewCell cell = new PersonListViewCell();
+            cells.add(cell);
+            return cell;
+        });
+        personList.addListener((ListChangeListener<Person>) this::refreshUpdatedCards);
+    }
+
+    /**
+     * Shows the cards of the persons sent as updated by {@code change} again, if they are in view.
+     * Only the cells showing those persons are refreshed, instead of every cell of the list view.
+     */
+    private void refreshUpdatedCards(ListChangeListener.Change<? extends Person> change) {
+        Set<Person> updatedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                updatedPersons.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+            }
+        }
+        if (updatedPersons.isEmpty()) {
+            return;
+        }
+        logger.fine(() -> "Refreshing the cards of " + updatedPersons.size() + " persons");
+        for (PersonListViewCell cell : cells) {
+            if (updatedPersons.contains(cell.getItem())) {
+                cell.showCard(cell.getItem());
+            }
+        }
+    }
+
+    /**
+     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a reusable {@code PersonCard}.
+     */
+    class PersonListViewCell extends ListCell<Person> {
+        // Created on first use and then rebound to each person this cell shows, instead of loading a new card each time
+        private PersonCard card;
+
+        @Override
+        protected void updateItem(Person person, boolean empty) {
+            super.updateItem(person, empty);
+
+            if (empty || person == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                showCard(person);
+            }
+        }
+
+        void showCard(Person person) {
+            if (card == null) {
+                card = new PersonCard();
+            }
+            card.setCardData(new PersonCardData(person, getIndex() + 1, reminderSummaries.apply(person)));
+            setGraphic(card.getRoot());
+        }
+    }
+
+}
@@ -13,7 +13,8 @@ public class ReminderCard extends UiPart<Region> {
 
     private static final String FXML = "ReminderListCard.fxml";
 
-    public final Reminder reminder;
+    private Reminder reminder;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -26,15 +27,43 @@ public class ReminderCard extends UiPart<Region> {
     @FXML
     private Label message;
 
+    /**
+     * Creates an empty {@code ReminderCard} to be filled by {@link #setReminder(Reminder, int)}.
+     */
+    public ReminderCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code ReminderCard} with the given {@code Reminder} and index to display.
      */
     public ReminderCard(Reminder reminder, int displayedIndex) {
-        super(FXML);
+        this();
+        setReminder(reminder, displayedIndex);
+    }
+
+    public Reminder getReminder() {
+        return reminder;
+    }
+
+    /**
+     * Shows {@code reminder} with {@code displayedIndex} on this card, reusing its existing labels.
+     * Nothing is updated if the card already shows the same reminder at the same index.
+     */
+    public void setReminder(Reminder reminder, int displayedIndex) {
+        if (reminder == this.reminder && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.reminder = reminder;
+        this.displayedIndex = displayedIndex;
+
         id.setText(displayedIndex + ". ");
         personName.setText("    " + reminder.getPerson().getName().fullName);
-        date.setText(reminder.getDate().toString());
+        if (reminder.isRecurring()) {
+            date.setText(reminder.getDate() + "  🔁 " + reminder.getRecurrence());
+        } else {
+            date.setText(reminder.getDate().toString());
+        }
         message.setText("    " + reminder.getMessage().toString());
     }
 }
@@ -30,9 +30,12 @@ public class ReminderListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Reminder} using a {@code ReminderCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Reminder} using a reusable {@code ReminderCard}.
      */
     class ReminderListViewCell extends ListCell<Reminder> {
+        // Created on first use and then rebound to each reminder this cell shows, instead of loading a new card each time
+        private ReminderCard card;
+
         @Override
         protected void updateItem(Reminder reminder, boolean empty) {
             super.updateItem(reminder, empty);
@@ -41,7 +44,11 @@ public class ReminderListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ReminderCard(reminder, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ReminderCard();
+                }
+                card.setReminder(reminder, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -50,7 +52,11 @@ public class UiManager implements Ui {
         }
     }
 
-    private Image getImage(String imagePath) {
+    /**
+     * Gets an {@code Image} from the specified path.
+     */
+    static Image getImage(String imagePath) {
+        requireNonNull(imagePath);
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
 
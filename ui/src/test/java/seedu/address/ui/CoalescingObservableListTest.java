@@ -0,0 +1,126 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class CoalescingObservableListTest {
+
+    private final List<String> replica = new ArrayList<>();
+    private int changeCount = 0;
+    private int removedCount = 0;
+    private int addedCount = 0;
+    private final List<Integer> updatedIndexes = new ArrayList<>();
+
+    @Test
+    public void update_sameItems_noChange() {
+        CoalescingObservableList<String> list = createList("a", "b", "c");
+        list.update(List.of("a", "b", "c"));
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void update_itemsRemovedAndAdded_oneChangeWithOnlyThoseItems() {
+        CoalescingObservableList<String> list = createList("a", "b", "c", "d", "e", "f");
+        list.update(List.of("a", "x", "c", "e", "f", "y"));
+        assertUpdated(list, List.of("a", "x", "c", "e", "f", "y"), 2, 2);
+    }
+
+    @Test
+    public void update_itemMoved_removedAndAddedOnce() {
+        CoalescingObservableList<String> list = createList("a", "b", "c", "d", "e");
+        list.update(List.of("b", "c", "d", "e", "a"));
+        assertUpdated(list, List.of("b", "c", "d", "e", "a"), 1, 1);
+    }
+
+    @Test
+    public void update_reversed_keepsOneItem() {
+        CoalescingObservableList<String> list = createList("a", "b", "c", "d");
+        list.update(List.of("d", "c", "b", "a"));
+        assertUpdated(list, List.of("d", "c", "b", "a"), 3, 3);
+    }
+
+    @Test
+    public void update_toAndFromEmpty_allItemsChanged() {
+        CoalescingObservableList<String> list = createList("a", "b");
+        list.update(List.of());
+        assertUpdated(list, List.of(), 2, 0);
+        list.update(List.of("c", "d", "e"));
+        assertUpdated(list, List.of("c", "d", "e"), 0, 3);
+    }
+
+    @Test
+    public void update_equalButDifferentItems_itemsReplaced() {
+        // an edited item is a new object, and must replace the old one even if it is equal
+        String edited = new String("b");
+        CoalescingObservableList<String> list = createList("a", "b", "c");
+        list.update(List.of("a", edited, "c"));
+        assertUpdated(list, List.of("a", "b", "c"), 1, 1);
+        assertSame(edited, list.get(1));
+    }
+
+    @Test
+    public void update_sameItemsWithUpdatedItems_updateChangeForKeptItemsOnly() {
+        CoalescingObservableList<String> list = createList("a", "b", "c");
+        list.update(List.of("a", "b", "c"), Set.of("b", "c"));
+        assertUpdated(list, List.of("a", "b", "c"), 0, 0);
+        assertEquals(List.of(1, 2), updatedIndexes);
+
+        // an added item is shown afresh, so only the kept items at their new places are updated
+        updatedIndexes.clear();
+        list.update(List.of("x", "a", "c", "d"), Set.of("a", "c", "d"));
+        assertUpdated(list, List.of("x", "a", "c", "d"), 1, 2);
+        assertEquals(List.of(1, 2), updatedIndexes);
+    }
+
+    @Test
+    public void set_modification_throwsUnsupportedOperationException() {
+        CoalescingObservableList<String> list = createList("a");
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+    }
+
+    private CoalescingObservableList<String> createList(String... items) {
+        CoalescingObservableList<String> list = new CoalescingObservableList<>(List.of(items));
+        replica.addAll(list);
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount++;
+            // replays the change on a copy of the list, as a ListView would
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updatedIndexes.add(change.getFrom());
+                    continue;
+                }
+                replica.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replica.addAll(change.getFrom(), change.getAddedSubList());
+                removedCount += change.getRemovedSize();
+                addedCount += change.getAddedSize();
+            }
+        });
+        return list;
+    }
+
+    /**
+     * Asserts that {@code list} and the replica have {@code expected} items, and that one change since the last check
+     * removed and added the given numbers of items.
+     */
+    private void assertUpdated(CoalescingObservableList<String> list, List<String> expected, int expectedRemoved,
+            int expectedAdded) {
+        assertEquals(expected, list);
+        assertEquals(expected, replica);
+        assertEquals(1, changeCount);
+        assertEquals(expectedRemoved, removedCount);
+        assertEquals(expectedAdded, addedCount);
+        changeCount = 0;
+        removedCount = 0;
+        addedCount = 0;
+    }
+}
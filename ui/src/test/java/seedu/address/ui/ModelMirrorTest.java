@@ -0,0 +1,141 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableArrayList;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ModelWorker;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Date;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.ReminderBuilder;
+
+public class ModelMirrorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ModelWorker modelWorker = new ModelWorker();
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+    private final ModelMirror modelMirror = new ModelMirror(modelWorker, uiTasks::add);
+
+    @AfterEach
+    public void tearDown() {
+        modelWorker.shutdown();
+    }
+
+    @Test
+    public void mirror_sourceChangedByTasks_changesAppliedInOneBatch() throws Exception {
+        ListenableArrayList<String> first = new ListenableArrayList<>(List.of("a"));
+        ListenableArrayList<String> second = new ListenableArrayList<>(List.of("x"));
+        ObservableList<String> firstMirror = modelMirror.mirror(first);
+        ObservableList<String> secondMirror = modelMirror.mirror(second);
+        assertEquals(List.of("a"), firstMirror);
+
+        modelWorker.submit(() -> first.add("b")).get();
+        modelWorker.submit(() -> second.add("y")).get();
+        modelWorker.submit(() -> first.add("c")).get();
+
+        // not applied until the UI thread runs the batch
+        assertEquals(List.of("a"), firstMirror);
+        assertEquals(1, uiTasks.size());
+        uiTasks.remove().run();
+        assertEquals(List.of("a", "b", "c"), firstMirror);
+        assertEquals(List.of("x", "y"), secondMirror);
+    }
+
+    @Test
+    public void mirror_updatedItems_sentAsUpdatedInOneBatch() throws Exception {
+        ListenableArrayList<String> source = new ListenableArrayList<>(List.of("a", "b", "c"));
+        Queue<Set<String>> updatedItems = new ArrayDeque<>(List.of(Set.of("b"), Set.of(), Set.of("c")));
+        CoalescingObservableList<String> mirror = modelMirror.mirror(source,
+                () -> updatedItems.isEmpty() ? Set.of() : updatedItems.remove());
+        List<Integer> updatedIndexes = recordUpdatedIndexes(mirror);
+
+        // the items are sent as updated even if the task changed no list
+        modelWorker.submit(() -> null).get();
+        modelWorker.submit(() -> null).get();
+        modelWorker.submit(() -> source.add("d")).get();
+        assertEquals(1, uiTasks.size());
+        uiTasks.remove().run();
+        assertEquals(List.of("a", "b", "c", "d"), mirror);
+        assertEquals(List.of(1, 2), updatedIndexes);
+    }
+
+    @Test
+    public void mirror_reminderMarked_personUpdatedWithNewCardData() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Reminder reminder = new ReminderBuilder().withPerson(ALICE)
+                .withDate(new Date(LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES)).toString())
+                .withMessage("Call Alice").build();
+        model.addReminder(reminder);
+        model.updateFilteredReminderList(Model.PREDICATE_SHOW_UPCOMING_REMINDERS);
+        LogicManager logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json"))));
+        ModelMirror logicMirror = new ModelMirror(logic.getModelWorker(), uiTasks::add);
+        CoalescingObservableList<Person> personList = logicMirror.mirror(logic.getFilteredPersonList(),
+                logic::takePersonsWithChangedReminderSummaries);
+        List<Integer> updatedIndexes = recordUpdatedIndexes(personList);
+        try {
+            Person alice = personList.get(0);
+            assertEquals(ALICE, alice);
+            PersonCardData cardData = new PersonCardData(alice, 1, logic.getReminderSummary(alice));
+            assertEquals(1, cardData.getUpcomingReminderCount());
+            assertEquals("Call Alice (" + reminder.getDate() + ")", cardData.getNextReminderText());
+
+            logic.executeAsync("reminder mark 1").get();
+            uiTasks.forEach(Runnable::run);
+
+            assertEquals(List.of(0), updatedIndexes);
+            cardData = new PersonCardData(personList.get(0), 1, logic.getReminderSummary(personList.get(0)));
+            assertFalse(cardData.hasUpcomingReminders());
+            assertEquals("", cardData.getNextReminderText());
+        } finally {
+            logic.getModelWorker().shutdown();
+        }
+    }
+
+    private static <T> List<Integer> recordUpdatedIndexes(ObservableList<T> list) {
+        List<Integer> updatedIndexes = new ArrayList<>();
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updatedIndexes.add(change.getFrom());
+                }
+            }
+        });
+        return updatedIndexes;
+    }
+
+    @Test
+    public void mirror_taskWithoutChanges_noBatch() throws Exception {
+        modelMirror.mirror(new ListenableArrayList<>(List.of("a")));
+        modelWorker.submit(() -> null).get();
+        assertEquals(0, uiTasks.size());
+    }
+}